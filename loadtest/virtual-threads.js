@@ -0,0 +1,65 @@
+// 플랫폼 스레드 / 가상 스레드 실행 모드 처리량 비교 부하 테스트 (k6)
+//
+// 실행 방법
+//   1. 비교할 모드로 서버 실행
+//      - 플랫폼 스레드: SPRING_PROFILES_ACTIVE=docker
+//      - 가상 스레드:   SPRING_PROFILES_ACTIVE=docker,vthreads
+//   2. 테스트 사용자 생성 후 k6 실행
+//      k6 run -e BASE_URL=http://localhost:8080 -e USERNAME=loadtest -e PASSWORD=password1! loadtest/virtual-threads.js
+//   3. 두 모드의 http_reqs(초당 요청 수), http_req_duration p(95) 를 비교
+//
+// 동시 사용자 1,000 명이 대시보드 / 분석 API 를 반복 조회 (요청마다 여러 번의 JDBC 조회가 발생하는 경로)
+// ETag 캐시 응답(304)을 피하기 위해 If-None-Match 헤더는 보내지 않음
+
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const USERNAME = __ENV.USERNAME || 'loadtest';
+const PASSWORD = __ENV.PASSWORD || 'password1!';
+
+export const options = {
+    scenarios: {
+        concurrent_clients: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: '30s', target: 1000 },
+                { duration: '2m', target: 1000 },
+                { duration: '15s', target: 0 },
+            ],
+            gracefulRampDown: '10s',
+        },
+    },
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+    },
+};
+
+const PATHS = [
+    '/dashboard/today',
+    '/dashboard/stats',
+    '/dashboard/overdue',
+    '/analytics/summary',
+    '/analytics/trend?period=30d',
+    '/analytics/best-days',
+];
+
+export function setup() {
+    const res = http.post(`${BASE_URL}/api/auth/login`,
+        JSON.stringify({ username: USERNAME, password: PASSWORD }),
+        { headers: { 'Content-Type': 'application/json' } });
+
+    check(res, { 'login 200': (r) => r.status === 200 });
+
+    return { token: res.json('accessToken') };
+}
+
+export default function (data) {
+    const params = { headers: { Authorization: `Bearer ${data.token}` } };
+    const path = PATHS[Math.floor(Math.random() * PATHS.length)];
+
+    const res = http.get(`${BASE_URL}${path}`, params);
+
+    check(res, { 'status 200': (r) => r.status === 200 });
+}
@@ -0,0 +1,75 @@
+package com.example.jwt.provider;
+
+import com.example.jwt.config.JwtProperties;
+import com.example.jwt.util.JwtConstants;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import javax.crypto.SecretKey;
+import java.util.List;
+
+/**
+ * JwtAuthenticationFilter 의 요청당 토큰 검증 비용 비교
+ * legacy: 요청마다 파서를 새로 만들고 validateToken / validateTokenType / getAuthentication 에서 3회 파싱
+ * parseOnce: 초기화 시 생성한 파서로 1회 파싱 후 Claims 재사용
+ */
+@State(Scope.Benchmark)
+public class JwtParsingBenchmark {
+
+    private JwtTokenProvider jwtTokenProvider;
+    private SecretKey secretKey;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret("benchmarkJwtSecretKey123456789012345678901234567890");
+
+        jwtTokenProvider = new JwtTokenProvider(properties);
+        jwtTokenProvider.init();
+
+        secretKey = Keys.hmacShaKeyFor(properties.getSecret().getBytes());
+        token = jwtTokenProvider.generateAccessToken(1L, "username", List.of(new SimpleGrantedAuthority("ROLE_USER")));
+    }
+
+    @Benchmark
+    public void legacy(Blackhole blackhole) {
+        Claims validated = legacyParse(token);
+        boolean isAccess = JwtConstants.ACCESS_TOKEN_TYPE.equals(legacyParse(token).get(JwtConstants.CLAIM_TOKEN_TYPE, String.class));
+        Claims forAuthentication = legacyParse(token);
+
+        blackhole.consume(validated);
+        blackhole.consume(isAccess);
+        blackhole.consume(jwtTokenProvider.getAuthentication(forAuthentication));
+    }
+
+    @Benchmark
+    public Authentication parseOnce() {
+        Claims claims = jwtTokenProvider.getValidatedClaims(token);
+
+        if (claims == null || !jwtTokenProvider.validateTokenType(claims, JwtConstants.ACCESS_TOKEN_TYPE)) {
+            return null;
+        }
+
+        return jwtTokenProvider.getAuthentication(claims);
+    }
+
+    /**
+     * 변경 전 parseClaims 와 동일하게 호출마다 파서를 생성
+     */
+    private Claims legacyParse(String token) {
+        return Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+}
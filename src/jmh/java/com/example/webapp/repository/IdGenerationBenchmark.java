@@ -0,0 +1,145 @@
+package com.example.webapp.repository;
+
+import com.example.webapp.entity.ToDo;
+import com.example.webapp.entity.User;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.dialect.MySQLDialect;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.orm.hibernate5.SpringBeanContainer;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 동시 INSERT 처리량 비교 (Hibernate 엔티티 저장 경로, H2 MySQL 모드)
+ * ToDo 의 to_do_seq 생성기(allocationSize 50)를 MySQLDialect 로 구동하여
+ * 운영과 같이 V1 의 next_val 단일 행 테이블로 시퀀스를 흉내내는 SequenceStyleGenerator 를 사용
+ * none: INSERT 마다 시퀀스 행 잠금 (블록 할당 이전 방식)
+ * pooled-lo: 설정된 방식, 블록(50건) 단위로만 시퀀스 행 잠금
+ * 결과는 초당 INSERT 수(ops/s)로 출력
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class IdGenerationBenchmark {
+
+    private static final long USER_ID = 1L;
+
+    /**
+     * hibernate.id.optimizer.pooled.preferred 값
+     */
+    @Param({"none", "pooled-lo"})
+    public String optimizer;
+
+    private HikariDataSource dataSource;
+    private AnnotationConfigApplicationContext beanContext;
+    private SessionFactory sessionFactory;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:idgen-" + optimizer + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=30000");
+        config.setUsername("sa");
+        config.setPassword("");
+//      시퀀스 행 갱신은 별도 커넥션(격리 트랜잭션)에서 실행되므로, 커넥션 대기가 아닌 ID 할당 비용을 측정하도록 스레드 수의 2배로 설정
+        config.setMaximumPoolSize(256);
+        dataSource = new HikariDataSource(config);
+
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE users (id BIGINT NOT NULL, username VARCHAR(20) NOT NULL, PRIMARY KEY (id))");
+            statement.execute("CREATE TABLE todos (" +
+                    "id INT NOT NULL, title VARCHAR(50) NOT NULL, priority TINYINT NOT NULL, category VARCHAR(255), " +
+                    "memo VARCHAR(200), status VARCHAR(20) NOT NULL, planning_date DATETIME(6), done_at DATETIME(6), " +
+                    "created_at DATETIME(6) NOT NULL, updated_at DATETIME(6), rollup_planned_date DATE, rollup_done_date DATE, " +
+                    "version BIGINT DEFAULT 0 NOT NULL, user_id BIGINT NOT NULL, PRIMARY KEY (id), " +
+                    "CONSTRAINT fk_todo_user FOREIGN KEY (user_id) REFERENCES users (id))");
+            statement.execute("CREATE TABLE to_do_seq (next_val BIGINT)");
+            statement.execute("INSERT INTO to_do_seq VALUES (1)");
+            statement.execute("INSERT INTO users VALUES (" + USER_ID + ", 'bench')");
+        }
+
+//      User 의 엔티티 리스너(생성자 주입)를 생성하기 위한 빈 컨테이너
+        beanContext = new AnnotationConfigApplicationContext();
+        beanContext.refresh();
+
+        StandardServiceRegistry registry = new StandardServiceRegistryBuilder()
+                .applySetting("hibernate.connection.datasource", dataSource)
+                .applySetting("hibernate.dialect", MySQLDialect.class.getName())
+                .applySetting("hibernate.boot.allow_jdbc_metadata_access", false)
+                .applySetting("jakarta.persistence.database-product-name", "MySQL")
+                .applySetting("jakarta.persistence.database-product-version", "8.0")
+                .applySetting("jakarta.persistence.database-major-version", 8)
+                .applySetting("jakarta.persistence.database-minor-version", 0)
+                .applySetting("hibernate.id.optimizer.pooled.preferred", optimizer)
+                .applySetting("hibernate.resource.beans.container", new SpringBeanContainer(beanContext.getBeanFactory()))
+                .build();
+
+        sessionFactory = new MetadataSources(registry)
+                .addAnnotatedClass(ToDo.class)
+                .addAnnotatedClass(User.class)
+                .buildMetadata()
+                .buildSessionFactory();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sessionFactory.close();
+        beanContext.close();
+        dataSource.close();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Integer persist8Threads() {
+        return persist();
+    }
+
+    @Benchmark
+    @Threads(32)
+    public Integer persist32Threads() {
+        return persist();
+    }
+
+    @Benchmark
+    @Threads(128)
+    public Integer persist128Threads() {
+        return persist();
+    }
+
+    /**
+     * 할 일 생성 API 와 같이 트랜잭션 하나에서 할 일 한 건을 저장
+     */
+    private Integer persist() {
+        try (Session session = sessionFactory.openSession()) {
+            session.beginTransaction();
+
+            ToDo todo = ToDo.builder()
+                    .title("todo")
+                    .user(session.getReference(User.class, USER_ID))
+                    .build();
+            session.persist(todo);
+
+            session.getTransaction().commit();
+            return todo.getId();
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.webapp.repository;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GET /todos 페이지 깊이별 조회 비용 비교 (H2, MySQL 모드)
+ * offset: 기존 Pageable 방식 (LIMIT / OFFSET + COUNT)
+ * keyset: (planning_date, id) 커서 이후 범위 탐색
+ * 페이지가 깊어질수록 offset 은 선형으로 느려지고 keyset 은 일정해야 함
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TodoPaginationBenchmark {
+
+    private static final long USER_ID = 1L;
+    private static final int TODO_COUNT = 100_000;
+    private static final int PAGE_SIZE = 20;
+
+    /**
+     * 조회할 페이지 번호 (0부터)
+     */
+    @Param({"0", "50", "500", "4000"})
+    public int page;
+
+    private Connection connection;
+    private PreparedStatement offsetQuery;
+    private PreparedStatement countQuery;
+    private PreparedStatement keysetQuery;
+
+    private Timestamp cursorKey;
+    private int cursorId;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:pagination;MODE=MySQL;DATABASE_TO_LOWER=TRUE", "sa", "");
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE todos (id INT PRIMARY KEY, title VARCHAR(50) NOT NULL, " +
+                    "planning_date TIMESTAMP, created_at TIMESTAMP NOT NULL, user_id BIGINT NOT NULL)");
+            statement.execute("CREATE INDEX idx_todos_user_planning ON todos (user_id, planning_date)");
+        }
+
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 9, 0);
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO todos (id, title, planning_date, created_at, user_id) VALUES (?, ?, ?, ?, ?)")) {
+            for (int id = 1; id <= TODO_COUNT; id++) {
+                insert.setInt(1, id);
+                insert.setString(2, "todo" + id);
+                // 같은 예정일이 여러 건 존재하도록 구성하여 id 보조 정렬까지 검증
+                insert.setTimestamp(3, Timestamp.valueOf(base.plusMinutes(id / 3)));
+                insert.setTimestamp(4, Timestamp.valueOf(base));
+                insert.setLong(5, id % 10 == 0 ? 2L : USER_ID);
+                insert.addBatch();
+                if (id % 1000 == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+
+        offsetQuery = connection.prepareStatement(
+                "SELECT id, title, planning_date FROM todos WHERE user_id = ? " +
+                        "ORDER BY planning_date, id LIMIT ? OFFSET ?");
+        countQuery = connection.prepareStatement("SELECT COUNT(*) FROM todos WHERE user_id = ?");
+        keysetQuery = connection.prepareStatement(
+                "SELECT id, title, planning_date FROM todos WHERE user_id = ? " +
+                        "AND (planning_date > ? OR (planning_date = ? AND id > ?)) " +
+                        "ORDER BY planning_date, id LIMIT ?");
+
+//      keyset 시작 위치: 요청 페이지 직전 행 (클라이언트가 들고 있는 커서)
+        if (page > 0) {
+            offsetQuery.setLong(1, USER_ID);
+            offsetQuery.setInt(2, 1);
+            offsetQuery.setInt(3, page * PAGE_SIZE - 1);
+            try (ResultSet rs = offsetQuery.executeQuery()) {
+                rs.next();
+                cursorId = rs.getInt("id");
+                cursorKey = rs.getTimestamp("planning_date");
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public void offset(Blackhole blackhole) throws SQLException {
+        offsetQuery.setLong(1, USER_ID);
+        offsetQuery.setInt(2, PAGE_SIZE);
+        offsetQuery.setInt(3, page * PAGE_SIZE);
+        consume(offsetQuery, blackhole);
+
+//      Page 반환 타입이 추가로 실행하는 COUNT 쿼리
+        countQuery.setLong(1, USER_ID);
+        consume(countQuery, blackhole);
+    }
+
+    @Benchmark
+    public void keyset(Blackhole blackhole) throws SQLException {
+        if (page == 0) {
+            offsetQuery.setLong(1, USER_ID);
+            offsetQuery.setInt(2, PAGE_SIZE + 1);
+            offsetQuery.setInt(3, 0);
+            consume(offsetQuery, blackhole);
+            return;
+        }
+
+        keysetQuery.setLong(1, USER_ID);
+        keysetQuery.setTimestamp(2, cursorKey);
+        keysetQuery.setTimestamp(3, cursorKey);
+        keysetQuery.setInt(4, cursorId);
+        keysetQuery.setInt(5, PAGE_SIZE + 1);
+        consume(keysetQuery, blackhole);
+    }
+
+    private static void consume(PreparedStatement statement, Blackhole blackhole) throws SQLException {
+        try (ResultSet rs = statement.executeQuery()) {
+            while (rs.next()) {
+                blackhole.consume(rs.getObject(1));
+            }
+        }
+    }
+}
@@ -10,6 +10,8 @@ import com.example.jwt.provider.JwtTokenProvider;
 import com.example.webapp.entity.RefreshToken;
 import com.example.webapp.entity.Role;
 import com.example.webapp.entity.User;
+import com.example.webapp.entity.UserTodoStats;
+import com.example.webapp.repository.UserTodoStatsRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -22,6 +24,9 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.Collections;
 
 /**
@@ -39,6 +44,7 @@ public class AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtProperties jwtProperties;
+    private final UserTodoStatsRepository userTodoStatsRepository;
 
     /**
      * 사용자 회원가입
@@ -63,17 +69,32 @@ public class AuthService {
         if(userRepository.existsByEmail(request.getEmail())){
             throw new InvalidJwtTokenException("이미 사용중인 이메일입니다: "+request.getEmail());
         }
-//        4. 새 사용자 생성
+//        4. 시간대 확인
+        String timeZone = request.getTimeZone() == null || request.getTimeZone().isBlank()
+                ? User.DEFAULT_TIME_ZONE : request.getTimeZone();
+        try{
+            ZoneId.of(timeZone);
+        }catch (DateTimeException e){
+            throw new InvalidJwtTokenException("지원하지 않는 시간대입니다: " + timeZone);
+        }
+//        5. 새 사용자 생성
         User newUser = User.builder()
                 .username(request.getUsername())
                 .email(request.getEmail())
                 .password(passwordEncoder.encode(request.getPassword() ))
                 .role(Role.USER) //기본값 일반 사용자
                 .enabled(true)
+                .timeZone(timeZone)
                 .build();
 
         User savedUser = userRepository.save(newUser);
 
+//        6. 할 일 통계 행 생성 (이후 할 일 변경은 이 행에 증감만 반영)
+        userTodoStatsRepository.save(UserTodoStats.builder()
+                .userId(savedUser.getId())
+                .updatedAt(LocalDateTime.now())
+                .build());
+
         log.info("회원가입 완료: {} ({})", savedUser.getUsername(), savedUser.getEmail());
         return savedUser;
     }
@@ -98,16 +119,18 @@ public class AuthService {
                     )
             );
 
-//            2. JWT 토큰 생성
+//            2. 사용자 조회
+            User user = userRepository.findByUsername(request.getUsername())
+                    .orElseThrow(()-> new InvalidJwtTokenException("사용자를 찾을 수 없습니다."));
+
+//            3. JWT 토큰 생성 (이후 요청에서 사용자 조회를 생략할 수 있도록 사용자 ID 포함)
             JwtResponse jwtResponse = jwtTokenProvider.generateTokenResponse(
+                    user.getId(),
                     authentication.getName(),
                     authentication.getAuthorities()
             );
 
-//            3. Refresh Token을 DB에 저장
-            User user = userRepository.findByUsername(request.getUsername())
-                    .orElseThrow(()-> new InvalidJwtTokenException("사용자를 찾을 수 없습니다."));
-
+//            4. Refresh Token을 DB에 저장
             refreshTokenService.createRefreshToken(user.getId());
 
             log.info("로그인 성공: {}", request.getUsername());
@@ -137,6 +160,7 @@ public class AuthService {
 
             // 3. 새 JWT 토큰 응답 생성 (Access Token + 새 Refresh Token)
             String newAccessToken = jwtTokenProvider.generateAccessToken(
+                    user.getId(),
                     user.getUsername(),
                     Collections.singletonList(
                             new SimpleGrantedAuthority(
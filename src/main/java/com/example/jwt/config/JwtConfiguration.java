@@ -4,6 +4,7 @@ import com.example.jwt.filter.JwtAuthenticationFilter;
 import com.example.jwt.handler.JwtAccessDeniedHandler;
 import com.example.jwt.handler.JwtAuthenticationEntryPoint;
 import com.example.jwt.provider.JwtTokenProvider;
+import com.example.jwt.provider.VerifiedTokenCache;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
@@ -20,6 +21,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 public class JwtConfiguration {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     /**
      * 비밀번호 암호와 인코더 빈 등록
@@ -40,7 +42,7 @@ public class JwtConfiguration {
      */
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationFilter(){
-        return new JwtAuthenticationFilter(jwtTokenProvider);
+        return new JwtAuthenticationFilter(jwtTokenProvider, verifiedTokenCache);
     }
 
     /**
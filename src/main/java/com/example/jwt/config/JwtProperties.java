@@ -57,4 +57,29 @@ public class JwtProperties {
      */
     private String audience = "webapp-users";
 
+    /*
+    *   검증 완료 토큰 캐시 설정
+     */
+    private TokenCache tokenCache = new TokenCache();
+
+    /**
+     * 검증 완료 Access Token 캐시 설정
+     * 동일 토큰의 반복 요청 시 서명 검증과 Authentication 생성을 생략
+     */
+    @Data
+    public static class TokenCache {
+
+        /*
+        *   캐시 사용 여부
+        *   기본값: true
+         */
+        private boolean enabled = true;
+
+        /*
+        *   캐시에 보관할 최대 토큰 수
+        *   기본값: 10,000
+         */
+        private long maximumSize = 10_000L;
+    }
+
 }
@@ -0,0 +1,52 @@
+package com.example.jwt.dto;
+
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+
+/*
+*   JWT 기반 인증 사용자 정보
+*   Access Token 의 클레임만으로 생성되며 요청 단위로 SecurityContext 에 보관
+*   사용자 ID를 포함하므로 인증된 요청에서 users 테이블 조회 없이 사용자 식별 가능
+ */
+@Getter
+public class JwtUserPrincipal implements UserDetails {
+
+    /**
+     * 사용자 고유 ID
+     * userId 클레임이 없는 이전 토큰의 경우 null
+     */
+    private final Long userId;
+
+    /**
+     * 사용자명
+     */
+    private final String username;
+
+    /**
+     * 권한 목록
+     */
+    private final Collection<? extends GrantedAuthority> authorities;
+
+    public JwtUserPrincipal(Long userId, String username, Collection<? extends GrantedAuthority> authorities) {
+        this.userId = userId;
+        this.username = username;
+        this.authorities = List.copyOf(authorities);
+    }
+
+    /**
+     * 토큰 인증에는 비밀번호를 사용하지 않음
+     */
+    @Override
+    public String getPassword() {
+        return "";
+    }
+
+    @Override
+    public String toString() {
+        return "JwtUserPrincipal(userId=" + userId + ", username=" + username + ", authorities=" + authorities + ")";
+    }
+}
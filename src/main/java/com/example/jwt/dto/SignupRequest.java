@@ -47,6 +47,13 @@ public class SignupRequest {
     private String password;
 
 
+    /**
+     * 시간대 (IANA ID, 예: Asia/Seoul)
+     * 생략 시 기본 시간대 사용
+     */
+    @Size(max = 40, message = "시간대는 40자 이하여야 합니다.")
+    private String timeZone;
+
     /**
      * 초대코드
      * 비공개 서비스이므로 개발자에게 문의
@@ -1,7 +1,9 @@
 package com.example.jwt.filter;
 
 import com.example.jwt.provider.JwtTokenProvider;
+import com.example.jwt.provider.VerifiedTokenCache;
 import com.example.jwt.util.JwtConstants;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -26,6 +28,7 @@ import java.util.Arrays;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     /**
      * 실제 필터링 로직 수행
@@ -43,16 +46,27 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             // 1. 요청에서 JWT 토큰 추출
             String token = resolveToken(request);
 
-            // 2. 토큰이 존재하면 유효성 검증
-            if(StringUtils.hasText(token) && jwtTokenProvider.validateToken(token)){
+            // 2. 이미 검증된 토큰이면 캐시된 인증 정보 사용
+            Authentication cached = StringUtils.hasText(token) ? verifiedTokenCache.get(token) : null;
 
-                // 3.Access Token 인지 확인 (Refresh Token 제외)
-                if (jwtTokenProvider.validateTokenType(token, JwtConstants.ACCESS_TOKEN_TYPE)){
+            // 3. 캐시에 없으면 한 번만 파싱하여 서명 검증 및 Claims 추출
+            Claims claims = cached == null && StringUtils.hasText(token) ? jwtTokenProvider.getValidatedClaims(token) : null;
 
-                    // 4. 토큰으로부터 Authentication 객체 생성
-                    Authentication authentication = jwtTokenProvider.getAuthentication(token);
+            if(cached != null){
+                SecurityContextHolder.getContext().setAuthentication(cached);
 
-                    // 5. SecurityContext 에 인증정보 설정
+                log.debug("검증 토큰 캐시에서 '{}' 인증 정보를 설정했습니다. URI: {}",
+                        cached.getName(), request.getRequestURI());
+            }else if(claims != null){
+
+                // 4.Access Token 인지 확인 (Refresh Token 제외)
+                if (jwtTokenProvider.validateTokenType(claims, JwtConstants.ACCESS_TOKEN_TYPE)){
+
+                    // 5. 검증된 Claims 로부터 Authentication 객체 생성 후 만료 시각까지 캐시
+                    Authentication authentication = jwtTokenProvider.getAuthentication(claims);
+                    verifiedTokenCache.put(token, authentication, claims.getExpiration());
+
+                    // 6. SecurityContext 에 인증정보 설정
                     SecurityContextHolder.getContext().setAuthentication(authentication);
 
                     log.debug("Security Context 에 '{}' 인증 정보를 저장했습니다. URI: {}",
@@ -69,7 +83,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             SecurityContextHolder.clearContext();
         }
 
-        // 6. 다음 필터로 진행
+        // 7. 다음 필터로 진행
         filterChain.doFilter(request, response);
     }
 
@@ -2,6 +2,7 @@ package com.example.jwt.provider;
 
 import com.example.jwt.config.JwtProperties;
 import com.example.jwt.dto.JwtResponse;
+import com.example.jwt.dto.JwtUserPrincipal;
 import com.example.jwt.exception.ExpiredJwtTokenException;
 import com.example.jwt.exception.InvalidJwtTokenException;
 import com.example.jwt.exception.UnsupportedJwtTokenException;
@@ -15,8 +16,6 @@ import org.springframework.security.core.Authentication;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.User;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
@@ -36,12 +35,21 @@ public class JwtTokenProvider {
     private SecretKey secretKey;
 
     /**
-    *   시크릿 키 초기화
+    *   서명 검증용 파서
+    *   불변이며 thread-safe 하므로 초기화 시 한 번만 생성하여 재사용
+     */
+    private JwtParser jwtParser;
+
+    /**
+    *   시크릿 키 및 파서 초기화
     *   Base64로 인코딩된 키를 SecretKey 객체로 변환
      */
     @PostConstruct
     protected void init(){
         this.secretKey = Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes());
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .build();
         log.info("JWT SecretKey 초기화 완료");
     }
 
@@ -72,7 +80,19 @@ public class JwtTokenProvider {
     * @return JWT Access Token
      */
     public String generateAccessToken(String username, Collection<? extends GrantedAuthority> authorities){
-        return generateToken(username, authorities, jwtProperties.getAccessTokenExpiration(), JwtConstants.ACCESS_TOKEN_TYPE);
+        return generateAccessToken(null, username, authorities);
+    }
+
+    /**
+    *   사용자 ID를 포함한 Access Token 생성
+    *
+    * @param userId 사용자 ID
+    * @param username 사용자명
+    * @param authorities 권한 목록
+    * @return JWT Access Token
+     */
+    public String generateAccessToken(Long userId, String username, Collection<? extends GrantedAuthority> authorities){
+        return generateToken(userId, username, authorities, jwtProperties.getAccessTokenExpiration(), JwtConstants.ACCESS_TOKEN_TYPE);
     }
 
     /**
@@ -83,7 +103,7 @@ public class JwtTokenProvider {
      * @return JWT Refresh Token
      */
     public String generateRefreshToken(String username, Collection<? extends GrantedAuthority> authorities){
-        return generateToken(username, authorities, jwtProperties.getRefreshTokenExpiration(), JwtConstants.REFRESH_TOKEN_TYPE);
+        return generateToken(null, username, authorities, jwtProperties.getRefreshTokenExpiration(), JwtConstants.REFRESH_TOKEN_TYPE);
     }
 
     /**
@@ -94,7 +114,19 @@ public class JwtTokenProvider {
     * @return JwtResponse 객체
      */
     public JwtResponse generateTokenResponse(String username, Collection<? extends GrantedAuthority> authorities){
-        String accessToken = generateAccessToken(username, authorities);
+        return generateTokenResponse(null, username, authorities);
+    }
+
+    /**
+    *   사용자 ID를 포함한 JWT 토큰 응답 객체 생성
+    *
+    * @param userId 사용자 ID
+    * @param username 사용자명
+    * @param authorities 권한 목록
+    * @return JwtResponse 객체
+     */
+    public JwtResponse generateTokenResponse(Long userId, String username, Collection<? extends GrantedAuthority> authorities){
+        String accessToken = generateAccessToken(userId, username, authorities);
         String refreshToken = generateRefreshToken(username, authorities);
 
         return JwtResponse.of(
@@ -115,8 +147,16 @@ public class JwtTokenProvider {
      * @return Authentication 객체
      */
     public Authentication getAuthentication(String token){
-        Claims claims = parseClaims(token);
+        return getAuthentication(parseClaims(token));
+    }
 
+    /**
+     * 검증된 Claims 에서 Authentication 객체 생성
+     *
+     * @param claims 서명 검증이 완료된 Claims
+     * @return Authentication 객체
+     */
+    public Authentication getAuthentication(Claims claims){
         if(claims.get(JwtConstants.CLAIM_AUTHORITIES) == null){
             throw new InvalidJwtTokenException("권한 정보가 없는 토큰입니다");
         }
@@ -127,8 +167,12 @@ public class JwtTokenProvider {
                         .map(SimpleGrantedAuthority::new)
                         .collect(Collectors.toList());
 
-        //UserDetails 객체 생성
-        UserDetails principal = new User(claims.getSubject(), "", authorities);
+        //사용자 ID 추출 (userId 클레임이 없는 이전 토큰은 null)
+        Object userIdClaim = claims.get(JwtConstants.CLAIM_USER_ID);
+        Long userId = userIdClaim instanceof Number number ? number.longValue() : null;
+
+        //DB 조회 없이 클레임으로 인증 사용자 정보 생성
+        JwtUserPrincipal principal = new JwtUserPrincipal(userId, claims.getSubject(), authorities);
 
         return new UsernamePasswordAuthenticationToken(principal, "", authorities);
     }
@@ -150,24 +194,34 @@ public class JwtTokenProvider {
      * @return 유효 여부
      */
     public boolean validateToken(String token){
+        return getValidatedClaims(token) != null;
+    }
+
+    /**
+     * 토큰을 한 번만 파싱하여 서명 검증 후 Claims 반환
+     * 검증 결과와 Claims 를 함께 얻을 수 있으므로 필터에서는 이 메소드를 사용
+     *
+     * @param token JWT 토큰
+     * @return 검증된 Claims (유효하지 않은 경우 null)
+     */
+    public Claims getValidatedClaims(String token){
         try{
-            parseClaims(token);
-            return true;
+            return parseClaims(token);
         }catch (ExpiredJwtException e){
             log.warn("만료된 JWT 토큰: {}", e.getMessage());
-            return false;
+            return null;
         }catch(UnsupportedJwtException e){
             log.warn("지원하지 않는 JWT 토큰: {}", e.getMessage());
-            return false;
+            return null;
         }catch(MalformedJwtException e){
             log.warn("잘못된 JWT 토큰: {}", e.getMessage());
-            return false;
-        }catch(SecurityException e){
+            return null;
+        }catch(io.jsonwebtoken.security.SecurityException e){
             log.warn("JWT 서명이 유효하지 않습니다: {}", e.getMessage());
-            return false;
+            return null;
         }catch(IllegalArgumentException e){
             log.warn("JWT 토큰이 비어있습니다: {}", e.getMessage());
-            return false;
+            return null;
         }
     }
 
@@ -179,8 +233,18 @@ public class JwtTokenProvider {
      * @return 검증 결과
      */
     public boolean validateTokenType(String token, String expectedType){
-        Claims claims = parseClaims(token);
-        String tokenType =claims.get(JwtConstants.CLAIM_TOKEN_TYPE, String.class);
+        return validateTokenType(parseClaims(token), expectedType);
+    }
+
+    /**
+     * 검증된 Claims 의 토큰 타입 검증 (Access/Refresh 구분)
+     *
+     * @param claims 서명 검증이 완료된 Claims
+     * @param expectedType 예상 토큰 타입
+     * @return 검증 결과
+     */
+    public boolean validateTokenType(Claims claims, String expectedType){
+        String tokenType = claims.get(JwtConstants.CLAIM_TOKEN_TYPE, String.class);
         return expectedType.equals(tokenType);
     }
 
@@ -208,40 +272,48 @@ public class JwtTokenProvider {
                 .map(GrantedAuthority::getAuthority)
                 .collect(Collectors.joining(","));
 
-        return generateToken(authentication.getName(), authorities, expiration, tokenType);
+        return generateToken(null, authentication.getName(), authorities, expiration, tokenType);
     }
 
     /**
      *  사용자명과 권한으로 토큰 생성
      *
+     * @param userId 사용자 ID (null 이면 클레임 생략)
      * @param username 사용자명
      * @param authorities 권한 목록
      * @param expiration 만료 시간
      * @param tokenType 토큰 타입
      * @return JWT 토큰
      */
-    private String generateToken(String username, Collection<? extends GrantedAuthority> authorities, long expiration, String tokenType){
+    private String generateToken(Long userId, String username, Collection<? extends GrantedAuthority> authorities, long expiration, String tokenType){
         String authoritiesStr = authorities.stream()
                 .map(GrantedAuthority::getAuthority)
                 .collect(Collectors.joining(","));
 
-        return generateToken(username, authoritiesStr, expiration, tokenType);
+        return generateToken(userId, username, authoritiesStr, expiration, tokenType);
     }
 
     /**
      * 실제 토큰 생성 메서드
      *
+     * @param userId 사용자 ID (null 이면 클레임 생략)
      * @param username 사용자명
      * @param authorities 권한 무자열
      * @param expiration 만료시간
      * @param tokenType 토큰 타입
      * @return JWT 토큰
      */
-    private String generateToken(String username, String authorities, Long expiration, String tokenType){
+    private String generateToken(Long userId, String username, String authorities, Long expiration, String tokenType){
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + expiration);
 
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder();
+
+        if(userId != null){
+            builder.claim(JwtConstants.CLAIM_USER_ID, userId);
+        }
+
+        return builder
                 .setSubject(username)
                 .claim(JwtConstants.CLAIM_AUTHORITIES, authorities)
                 .claim(JwtConstants.CLAIM_TOKEN_TYPE, tokenType)
@@ -261,9 +333,7 @@ public class JwtTokenProvider {
      * @return Claims 객체
      */
     private Claims parseClaims(String token){
-        return Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
+        return jwtParser
                 .parseClaimsJws(token)
                 .getBody();
     }
@@ -0,0 +1,134 @@
+package com.example.jwt.provider;
+
+import com.example.jwt.config.JwtProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서명 검증이 완료된 Access Token 캐시
+ * 토큰 원문 대신 SHA-256 digest 를 키로 사용하고, 각 항목은 토큰의 exp 시각에 만료
+ * 캐시 적중 시 서명 검증과 Authentication / GrantedAuthority 생성을 생략
+ */
+@Slf4j
+@Component
+public class VerifiedTokenCache {
+
+    /**
+     * 메트릭 등록 시 사용하는 캐시명
+     */
+    public static final String CACHE_NAME = "verifiedToken";
+
+    private final boolean enabled;
+    private final Cache<String, CachedAuthentication> cache;
+
+    public VerifiedTokenCache(JwtProperties jwtProperties, ObjectProvider<MeterRegistry> meterRegistry) {
+        JwtProperties.TokenCache properties = jwtProperties.getTokenCache();
+
+        this.enabled = properties.isEnabled();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+
+        if (enabled) {
+            meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME));
+        }
+        log.info("검증 토큰 캐시 사용 여부: {}, 최대 크기: {}", enabled, properties.getMaximumSize());
+    }
+
+    /**
+     * 캐시된 Authentication 조회
+     *
+     * @param token JWT 토큰
+     * @return 검증 완료된 Authentication (없거나 만료된 경우 null)
+     */
+    public Authentication get(String token) {
+        if (!enabled) {
+            return null;
+        }
+
+        CachedAuthentication cached = cache.getIfPresent(digest(token));
+
+        if (cached == null || cached.expiresAt() <= System.currentTimeMillis()) {
+            return null;
+        }
+
+        return cached.authentication();
+    }
+
+    /**
+     * 검증 완료된 Authentication 저장
+     *
+     * @param token JWT 토큰
+     * @param authentication 토큰으로 생성한 Authentication
+     * @param expiration 토큰 만료 시각 (exp 클레임)
+     */
+    public void put(String token, Authentication authentication, Date expiration) {
+        if (!enabled || expiration == null || expiration.getTime() <= System.currentTimeMillis()) {
+            return;
+        }
+
+        cache.put(digest(token), new CachedAuthentication(authentication, expiration.getTime()));
+    }
+
+    /**
+     * 토큰의 SHA-256 digest (Base64)
+     *
+     * @param token JWT 토큰
+     * @return digest 문자열
+     */
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다", e);
+        }
+    }
+
+    /**
+     * 캐시 항목
+     *
+     * @param authentication 검증 완료된 Authentication
+     * @param expiresAt 토큰 만료 시각 (ms)
+     */
+    private record CachedAuthentication(Authentication authentication, long expiresAt) {
+    }
+
+    /**
+     * 항목별 만료 정책: 토큰의 exp 시각까지 유지
+     */
+    private static class TokenExpiry implements Expiry<String, CachedAuthentication> {
+
+        @Override
+        public long expireAfterCreate(String key, CachedAuthentication value, long currentTime) {
+            long remainingMillis = Math.max(0L, value.expiresAt() - System.currentTimeMillis());
+            return TimeUnit.MILLISECONDS.toNanos(remainingMillis);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedAuthentication value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedAuthentication value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
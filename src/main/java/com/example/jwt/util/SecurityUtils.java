@@ -1,6 +1,7 @@
 package com.example.jwt.util;
 
-import com.example.jwt.Repository.UserRepository;
+import com.example.jwt.dto.JwtUserPrincipal;
+import com.example.webapp.common.cache.UserIdentityCache;
 import com.example.webapp.entity.User;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -19,7 +20,7 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class SecurityUtils {
 
-    private final UserRepository userRepository;
+    private final UserIdentityCache userIdentityCache;
 
     /**
      * 현재 인증된 사용자의 Authentication 객체 반환
@@ -93,6 +94,7 @@ public class SecurityUtils {
 
     /**
      * 현재 인증된 사용자의 User 엔티티 반환
+     * 사용자 식별 정보 캐시에서 조회하며 비밀번호가 제외된 분리 상태의 사본을 반환
      *
      * @return User 엔티티 (Optional)
      */
@@ -104,7 +106,7 @@ public class SecurityUtils {
             return Optional.empty();
         }
 
-        return userRepository.findByUsername(username);
+        return userIdentityCache.findByUsername(username);
     }
 
     /**
@@ -118,12 +120,34 @@ public class SecurityUtils {
                 .orElseThrow(() -> new IllegalStateException("인증된 사용자를 찾을 수 없습니다."));
     }
 
+    /**
+     * 현재 인증된 사용자의 JWT Principal 반환
+     *
+     * @return JwtUserPrincipal (Optional, JWT 인증이 아닌 경우 empty)
+     */
+    public static Optional<JwtUserPrincipal> getCurrentPrincipal() {
+        Authentication authentication = getCurrentAuthentication();
+
+        if (authentication != null && authentication.getPrincipal() instanceof JwtUserPrincipal principal) {
+            return Optional.of(principal);
+        }
+
+        return Optional.empty();
+    }
+
     /**
      * 현재 사용자의 ID 반환
+     * Access Token 의 userId 클레임을 우선 사용하고, 없는 경우(이전 토큰)에만 사용자 조회
      *
      * @return 사용자 ID (Optional)
      */
     public Optional<Long> getCurrentUserId() {
+        Optional<Long> userId = getCurrentPrincipal().map(JwtUserPrincipal::getUserId);
+
+        if (userId.isPresent()) {
+            return userId;
+        }
+
         return getCurrentUser().map(User::getId);
     }
 
@@ -5,22 +5,37 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 
 /**
  * 인사이트 최고 생산성 DTO
+ * 예정일 기준 일자별 완료율
  */
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
 public class BestProducibilityDateDTO {
 
+    /**
+     * 작업일
+     */
     private LocalDate date;
 
+    /**
+     * 완료율 (%)
+     */
     private Long progress;
 
-    public BestProducibilityDateDTO(LocalDateTime dateTime, Long progress) {
-        this.date = dateTime.toLocalDate();
-        this.progress = progress;
+    /**
+     * 해당 일자가 예정일인 할 일 수
+     */
+    private long total;
+
+    /**
+     * 해당 일자가 예정일인 할 일 중 완료된 수
+     */
+    private long completed;
+
+    public static BestProducibilityDateDTO from(DailyTodoCountDTO day) {
+        return new BestProducibilityDateDTO(day.getDate(), day.getCompleted() * 100 / day.getTotal(), day.getTotal(), day.getCompleted());
     }
 }
@@ -0,0 +1,39 @@
+package com.example.webapp.DTO;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 캘린더 증분 동기화 응답 DTO
+ * 워터마크 이후 생성/수정된 할 일과 삭제된 할 일 ID 를 제공
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CalendarChangesDTO {
+
+    @Schema(description = "생성 또는 수정된 할 일 (id 기준으로 덮어쓰기)")
+    private List<CalendarTodoDTO> changed;
+
+    @Schema(description = "삭제된 할 일 ID")
+    private List<Integer> deleted;
+
+    @Schema(description = "다음 동기화 요청에 전달할 워터마크")
+    private String watermark;
+
+    @Schema(description = "전체 재동기화 필요 여부 (true 이면 changed / deleted 는 비어있음)")
+    private boolean fullResync;
+
+    /**
+     * 전체 재동기화 안내 응답
+     * @param watermark 전체 조회 이후 사용할 워터마크
+     * @return 변경분 없는 응답
+     */
+    public static CalendarChangesDTO fullResync(String watermark){
+        return new CalendarChangesDTO(List.of(), List.of(), watermark, true);
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.webapp.DTO;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 캘린더 일자별 할 일 DTO
+ * 일자당 표시 건수를 제한하고 나머지는 건수(more)로만 제공
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CalendarDayDTO {
+
+    @Schema(description = "일자", example = "2025-10-13")
+    private LocalDate date;
+
+    @Schema(description = "해당 일자의 전체 할 일 수")
+    private long total;
+
+    @Schema(description = "표시할 할 일 (중요도, 시간 순)")
+    private List<CalendarTodoDTO> todos;
+
+    @Schema(description = "표시하지 않은 나머지 할 일 수 (\"외 N건\")")
+    private long more;
+}
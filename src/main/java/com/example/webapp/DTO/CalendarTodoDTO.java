@@ -0,0 +1,42 @@
+package com.example.webapp.DTO;
+
+import com.example.webapp.entity.ToDo;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateTimeDeserializer;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 캘린더 표시용 할 일 DTO
+ * 캘린더 칸에 필요한 컬럼만 생성자 프로젝션으로 조회 (메모 등 제외)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CalendarTodoDTO {
+
+    @Schema(description = "고유 id")
+    private int id;
+
+    @Schema(description = "제목", example = "마트 다녀오기")
+    private String title;
+
+    @Schema(description = "상태")
+    private ToDo.TaskStatus taskStatus;
+
+    @Schema(description = "중요도")
+    private ToDo.TaskPriority taskPriority;
+
+    @Schema(description = "마감일")
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'")
+    @JsonDeserialize(using = LocalDateTimeDeserializer.class)
+    @JsonSerialize(using = LocalDateTimeSerializer.class)
+    private LocalDateTime planningDate;
+}
@@ -0,0 +1,48 @@
+package com.example.webapp.DTO;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 커서 기반 페이지 응답 DTO
+ * 기본적으로 전체 건수(COUNT)는 제공하지 않으며 다음 페이지 존재 여부와 커서만 제공
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageDTO<T> {
+
+    /**
+     * 페이지 내용
+     */
+    private List<T> content;
+
+    /**
+     * 다음 페이지 조회용 커서 (마지막 페이지면 null)
+     */
+    private String nextCursor;
+
+    /**
+     * 다음 페이지 존재 여부
+     */
+    private boolean hasNext;
+
+    /**
+     * 요청한 페이지 크기
+     */
+    private int size;
+
+    /**
+     * 전체 건수 (제공하는 조회에서만 포함)
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long total;
+
+    public CursorPageDTO(List<T> content, String nextCursor, boolean hasNext, int size) {
+        this(content, nextCursor, hasNext, size, null);
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.webapp.DTO;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 일자별 할 일 집계 DTO
+ * 완료 추이 계산 시 GROUP BY 일자 조회 결과를 담음
+ */
+@Data
+@NoArgsConstructor
+public class DailyTodoCountDTO {
+
+    /**
+     * 집계 일자 (기준일 이전 누적값인 경우 null)
+     */
+    private LocalDate date;
+
+    /**
+     * 할 일 수
+     */
+    private long total;
+
+    /**
+     * 완료된 할 일 수
+     */
+    private long completed;
+
+    public DailyTodoCountDTO(LocalDate date, Long total, Long completed) {
+        this.date = date;
+        this.total = total == null ? 0L : total;
+        this.completed = completed == null ? 0L : completed;
+    }
+
+    public DailyTodoCountDTO(Long total, Long completed) {
+        this(null, total, completed);
+    }
+}
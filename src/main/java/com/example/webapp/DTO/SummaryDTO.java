@@ -6,6 +6,8 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
 
+import java.util.Map;
+
 @RequiredArgsConstructor
 @Data
 public class SummaryDTO {
@@ -40,5 +42,8 @@ public class SummaryDTO {
     @Schema(description = "활동한 일자")
     private long activeDays;
 
+    @Schema(description = "카테고리별 할 일 갯수 (할 일 수 내림차순, 카테고리 없음은 빈 문자열)")
+    private Map<String, Long> categoryCounts;
+
 
 }
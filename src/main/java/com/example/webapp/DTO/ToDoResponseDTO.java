@@ -63,6 +63,9 @@ public class ToDoResponseDTO {
     @Schema(description = "사용자")
     private String username;
 
+    @Schema(description = "버전 (ETag / If-Match 값)")
+    private Long version;
+
 
     public static ToDoResponseDTO from(ToDo todo) {
         return ToDoResponseDTO.builder()
@@ -76,6 +79,7 @@ public class ToDoResponseDTO {
                 .category(todo.getCategory())
                 .createdAt(todo.getCreatedAt())
                 .username(todo.getUser().getUsername())
+                .version(todo.getVersion())
                 .build();
     }
 
@@ -0,0 +1,83 @@
+package com.example.webapp.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자별 할 일 집계 DTO
+ * 상태별, 우선순위별, 지연, 활동일 카운터를 한 번의 조회로 제공
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TodoAggregateDTO {
+
+    /**
+     * 전체 할 일 수
+     */
+    private long total;
+
+    /**
+     * 완료된 할 일 수
+     */
+    private long completed;
+
+    /**
+     * 진행중인 할 일 수
+     */
+    private long inProgress;
+
+    /**
+     * 보류중인 할 일 수
+     */
+    private long onHold;
+
+    /**
+     * 우선순위 매우 높음
+     */
+    private long veryHigh;
+
+    /**
+     * 우선순위 높음
+     */
+    private long high;
+
+    /**
+     * 우선순위 중간
+     */
+    private long middle;
+
+    /**
+     * 우선순위 낮음
+     */
+    private long low;
+
+    /**
+     * 우선순위 매우 낮음
+     */
+    private long veryLow;
+
+    /**
+     * 마감 기한이 지났지만 완료되지 않은 할 일 수
+     */
+    private long overdue;
+
+    /**
+     * 기준 일자 이후 할 일을 생성한 일자 수
+     */
+    private long activeDays;
+
+    /**
+     * 완료율 (%)
+     * @return 전체 대비 완료 비율, 할 일이 없으면 0
+     */
+    public long getCompletionRate(){
+        if(total == 0){
+            return 0;
+        }
+        return Math.round((double) completed * 100 / total);
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.webapp.DTO;
+
+import com.example.webapp.entity.ToDo;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 생성일 기준 (일자, 상태, 우선순위, 카테고리) 별 할 일 수
+ * 일자별 집계 적재 시 한 번의 GROUP BY 로 우선순위 / 카테고리 분포를 함께 계산
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TodoDailyBucketDTO {
+
+    private LocalDate date;
+
+    private ToDo.TaskStatus status;
+
+    private ToDo.TaskPriority priority;
+
+    private String category;
+
+    private long count;
+}
@@ -0,0 +1,100 @@
+package com.example.webapp.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 할 일 가져오기 결과 DTO
+ * 전체 건수와 청크별 진행 결과, 행 단위 오류를 제공
+ */
+@Data
+@NoArgsConstructor
+public class TodoImportResultDTO {
+
+    /**
+     * 읽은 전체 행 수 (헤더 제외)
+     */
+    private long totalRows;
+
+    /**
+     * 저장된 할 일 수
+     */
+    private long imported;
+
+    /**
+     * 실패한 행 수 (검증 실패 + 저장 실패)
+     */
+    private long failed;
+
+    /**
+     * 청크별 처리 결과
+     */
+    private List<ChunkResult> chunks = new ArrayList<>();
+
+    /**
+     * 행 단위 오류 (최대 건수까지만 기록)
+     */
+    private List<RowError> errors = new ArrayList<>();
+
+    /**
+     * 기록 한도를 넘어 생략된 오류 수
+     */
+    private long omittedErrors;
+
+    /**
+     * 청크 처리 결과
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ChunkResult {
+
+        /**
+         * 청크 순번 (1부터)
+         */
+        private int chunk;
+
+        /**
+         * 청크 첫 행 번호
+         */
+        private long fromRow;
+
+        /**
+         * 청크 마지막 행 번호
+         */
+        private long toRow;
+
+        /**
+         * 저장된 할 일 수
+         */
+        private int imported;
+
+        /**
+         * 저장 성공 여부 (실패 시 청크 전체 롤백)
+         */
+        private boolean committed;
+    }
+
+    /**
+     * 행 단위 오류
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+
+        /**
+         * 행 번호 (헤더 제외, 1부터)
+         */
+        private long row;
+
+        /**
+         * 오류 내용
+         */
+        private String message;
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.webapp.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * 변경된 할 일이 일자별 집계에 영향을 주는 일자
+ * 현재 생성일 / 예정일 / 완료일과 마지막 집계 시점의 예정일 / 완료일
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TodoRollupDatesDTO {
+
+    private LocalDate createdDate;
+
+    private LocalDate plannedDate;
+
+    private LocalDate doneDate;
+
+    private LocalDate rolledUpPlannedDate;
+
+    private LocalDate rolledUpDoneDate;
+
+    /**
+     * 다시 집계해야 하는 일자
+     * @return null 을 제외한 일자
+     */
+    public Stream<LocalDate> rollupDates() {
+        return Stream.of(createdDate, plannedDate, doneDate, rolledUpPlannedDate, rolledUpDoneDate)
+                .filter(Objects::nonNull);
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.webapp.DTO;
+
+import com.example.webapp.entity.ToDo;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * (상태, 우선순위, 카테고리) 별 할 일 수
+ * 변경 대상 할 일의 변경 전 통계 기여분을 계산할 때 사용
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TodoStatsBucketDTO {
+
+    private ToDo.TaskStatus status;
+
+    private ToDo.TaskPriority priority;
+
+    private String category;
+
+    private long count;
+}
@@ -0,0 +1,108 @@
+package com.example.webapp.DTO;
+
+import com.example.webapp.entity.ToDo;
+import lombok.Getter;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자 할 일 통계 증감분
+ * 변경 전 값은 빼고 변경 후 값은 더하여, 한 번의 UPDATE 로 통계 행에 반영
+ */
+@Getter
+public class TodoStatsDelta {
+
+    private long total;
+    private long completed;
+    private long inProgress;
+    private long onHold;
+    private long veryHigh;
+    private long high;
+    private long middle;
+    private long low;
+    private long veryLow;
+
+    /**
+     * 카테고리별 증감분 (카테고리 없음은 빈 문자열)
+     */
+    private final Map<String, Long> categories = new HashMap<>();
+
+    /**
+     * 할 일 추가분 반영
+     * @param todo 추가된 할 일
+     * @return this
+     */
+    public TodoStatsDelta add(ToDo todo){
+        return add(todo.getStatus(), todo.getTaskPriority(), todo.getCategory(), 1);
+    }
+
+    /**
+     * 할 일 제거분 반영
+     * @param todo 제거된 할 일 (변경 전 값)
+     * @return this
+     */
+    public TodoStatsDelta remove(ToDo todo){
+        return add(todo.getStatus(), todo.getTaskPriority(), todo.getCategory(), -1);
+    }
+
+    /**
+     * 그룹 집계 결과 제거분 반영
+     * @param buckets 변경 전 (상태, 우선순위, 카테고리) 별 할 일 수
+     * @return this
+     */
+    public TodoStatsDelta removeAll(List<TodoStatsBucketDTO> buckets){
+        buckets.forEach(bucket -> add(bucket.getStatus(), bucket.getPriority(), bucket.getCategory(), -bucket.getCount()));
+        return this;
+    }
+
+    /**
+     * (상태, 우선순위, 카테고리) 단위 증감
+     * @param status 상태
+     * @param priority 우선순위
+     * @param category 카테고리
+     * @param count 증감 수 (음수는 감소)
+     * @return this
+     */
+    public TodoStatsDelta add(ToDo.TaskStatus status, ToDo.TaskPriority priority, String category, long count){
+        total += count;
+
+        switch (status){
+            case COMPLETE -> completed += count;
+            case IN_PROGRESS -> inProgress += count;
+            case ON_HOLD -> onHold += count;
+        }
+
+        switch (priority){
+            case VERY_HIGH -> veryHigh += count;
+            case HIGH -> high += count;
+            case MIDDLE -> middle += count;
+            case LOW -> low += count;
+            case VERY_LOW -> veryLow += count;
+        }
+
+        categories.merge(categoryKey(category), count, Long::sum);
+
+        return this;
+    }
+
+    /**
+     * 반영할 변경이 없는지 확인 (예: 같은 값으로 수정)
+     * @return 모든 증감분이 0 이면 true
+     */
+    public boolean isEmpty(){
+        return total == 0 && completed == 0 && inProgress == 0 && onHold == 0
+                && veryHigh == 0 && high == 0 && middle == 0 && low == 0 && veryLow == 0
+                && categories.values().stream().allMatch(count -> count == 0);
+    }
+
+    /**
+     * 통계 테이블 카테고리 키 (카테고리 없음은 빈 문자열)
+     * @param category 카테고리
+     * @return 카테고리 키
+     */
+    public static String categoryKey(String category){
+        return category == null ? "" : category;
+    }
+}
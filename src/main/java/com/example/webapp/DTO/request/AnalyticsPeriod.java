@@ -0,0 +1,49 @@
+package com.example.webapp.DTO.request;
+
+import lombok.Getter;
+
+/**
+ * 통계 조회 기간
+ * "7d", "30d", "90d", "365d" 형식과 기존 week / month / year 표기를 모두 허용
+ */
+@Getter
+public enum AnalyticsPeriod {
+    DAYS_7("7d", "week", 7),
+    DAYS_30("30d", "month", 30),
+    DAYS_90("90d", "quarter", 90),
+    DAYS_365("365d", "year", 365);
+
+    private final String code;
+
+    private final String alias;
+
+    private final int days;
+
+    AnalyticsPeriod(String code, String alias, int days){
+        this.code = code;
+        this.alias = alias;
+        this.days = days;
+    }
+
+    /**
+     * 문자열로부터 조회 기간 찾기
+     *
+     * @param value 기간 문자열 (null 또는 빈 값이면 7일)
+     * @return 조회 기간
+     * @throws IllegalArgumentException 지원하지 않는 기간인 경우
+     */
+    public static AnalyticsPeriod from(String value){
+        if(value == null || value.isBlank()){
+            return DAYS_7;
+        }
+
+        String normalized = value.trim().toLowerCase();
+
+        for(AnalyticsPeriod period : values()){
+            if(period.code.equals(normalized) || period.alias.equals(normalized)){
+                return period;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 통계 기간입니다: " + value);
+    }
+}
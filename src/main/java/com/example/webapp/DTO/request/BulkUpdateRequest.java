@@ -15,7 +15,7 @@ public class BulkUpdateRequest {
     /**
      * 수정 대상 id 리스트
      */
-    private List<Long> id;
+    private List<Integer> id;
 
     /**
      * 수정할 상태
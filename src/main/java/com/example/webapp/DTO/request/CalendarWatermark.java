@@ -0,0 +1,60 @@
+package com.example.webapp.DTO.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 캘린더 증분 동기화 워터마크
+ * 마지막 동기화 기준 일시를 담으며 클라이언트에는 불투명한 문자열로 전달
+ */
+@Getter
+@AllArgsConstructor
+public class CalendarWatermark {
+
+    private static final String VERSION = "v1";
+    private static final String DELIMITER = "|";
+
+    /**
+     * 이 일시 이후의 변경분부터 조회
+     */
+    private final LocalDateTime since;
+
+    /**
+     * 워터마크를 URL-safe Base64 문자열로 변환
+     * @return 워터마크 문자열
+     */
+    public String encode(){
+        String raw = VERSION + DELIMITER + since.toString();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 워터마크 문자열 해석
+     * @param token 워터마크 문자열
+     * @return 워터마크 (token 이 비어있으면 null, 최초 동기화)
+     * @throws IllegalArgumentException 형식이 잘못된 경우
+     */
+    public static CalendarWatermark decode(String token){
+        if(token == null || token.isBlank()){
+            return null;
+        }
+
+        try{
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+
+            if(parts.length != 2 || !VERSION.equals(parts[0])){
+                throw new IllegalArgumentException("지원하지 않는 워터마크입니다.");
+            }
+
+            return new CalendarWatermark(LocalDateTime.parse(parts[1]));
+        }catch (IllegalArgumentException | DateTimeParseException e){
+            throw new IllegalArgumentException("잘못된 워터마크입니다: " + token, e);
+        }
+    }
+}
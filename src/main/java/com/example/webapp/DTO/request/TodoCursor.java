@@ -0,0 +1,70 @@
+package com.example.webapp.DTO.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 커서 기반 페이지네이션 위치
+ * 마지막으로 조회한 할 일의 (정렬 키, id) 를 담으며 클라이언트에는 불투명한 문자열로 전달
+ */
+@Getter
+@AllArgsConstructor
+public class TodoCursor {
+
+    private static final String DELIMITER = "|";
+
+    /**
+     * 정렬 기준
+     */
+    private final TodoCursorSort sort;
+
+    /**
+     * 마지막 할 일의 정렬 키 값 (예정일이 없는 할 일이면 null)
+     */
+    private final LocalDateTime key;
+
+    /**
+     * 마지막 할 일의 id
+     */
+    private final Integer id;
+
+    /**
+     * 커서를 URL-safe Base64 문자열로 변환
+     * @return 커서 문자열
+     */
+    public String encode(){
+        String raw = sort.name() + DELIMITER + (key == null ? "" : key.toString()) + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열 해석
+     * @param cursor 커서 문자열
+     * @param sort 요청한 정렬 기준
+     * @return 커서 (cursor 가 비어있으면 null, 첫 페이지)
+     * @throws IllegalArgumentException 형식이 잘못되었거나 정렬 기준이 다른 경우
+     */
+    public static TodoCursor decode(String cursor, TodoCursorSort sort){
+        if(cursor == null || cursor.isBlank()){
+            return null;
+        }
+
+        try{
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+
+            if(parts.length != 3 || TodoCursorSort.valueOf(parts[0]) != sort){
+                throw new IllegalArgumentException("정렬 기준과 일치하지 않는 커서입니다.");
+            }
+
+            LocalDateTime key = parts[1].isEmpty() ? null : LocalDateTime.parse(parts[1]);
+            return new TodoCursor(sort, key, Integer.valueOf(parts[2]));
+        }catch (IllegalArgumentException | java.time.format.DateTimeParseException e){
+            throw new IllegalArgumentException("잘못된 커서입니다: " + cursor, e);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.webapp.DTO.request;
+
+import lombok.Getter;
+
+/**
+ * 커서 기반 할 일 목록 정렬 기준
+ * 정렬 키와 id 를 함께 사용하여 동일 값에서도 순서가 고정됨
+ */
+@Getter
+public enum TodoCursorSort {
+    /**
+     * 예정일 오름차순 (예정일이 없는 할 일은 마지막)
+     */
+    PLANNING_DATE("planningDate"),
+
+    /**
+     * 생성일 내림차순 (최신순)
+     */
+    CREATED_AT("createdAt");
+
+    private final String code;
+
+    TodoCursorSort(String code){
+        this.code = code;
+    }
+
+    /**
+     * 문자열로부터 정렬 기준 찾기
+     *
+     * @param value 정렬 기준 문자열 (null 또는 빈 값이면 예정일)
+     * @return 정렬 기준
+     * @throws IllegalArgumentException 지원하지 않는 정렬 기준인 경우
+     */
+    public static TodoCursorSort from(String value){
+        if(value == null || value.isBlank()){
+            return PLANNING_DATE;
+        }
+
+        for(TodoCursorSort sort : values()){
+            if(sort.code.equalsIgnoreCase(value.trim()) || sort.name().equalsIgnoreCase(value.trim())){
+                return sort;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 정렬 기준입니다: " + value);
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.webapp.DTO.request;
+
+import lombok.Getter;
+
+/**
+ * 할 일 내보내기 / 가져오기 형식
+ */
+@Getter
+public enum TodoTransferFormat {
+    /**
+     * 줄 단위 JSON (한 줄에 할 일 1건)
+     */
+    NDJSON("ndjson", "application/x-ndjson"),
+
+    /**
+     * CSV (첫 줄은 헤더)
+     */
+    CSV("csv", "text/csv");
+
+    private final String extension;
+
+    private final String contentType;
+
+    TodoTransferFormat(String extension, String contentType){
+        this.extension = extension;
+        this.contentType = contentType;
+    }
+
+    /**
+     * 문자열로부터 파일 형식 찾기
+     *
+     * @param value 형식 문자열 (null 또는 빈 값이면 NDJSON)
+     * @return 파일 형식
+     * @throws IllegalArgumentException 지원하지 않는 형식인 경우
+     */
+    public static TodoTransferFormat from(String value){
+        if(value == null || value.isBlank()){
+            return NDJSON;
+        }
+
+        for(TodoTransferFormat format : values()){
+            if(format.extension.equalsIgnoreCase(value.trim())){
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 파일 형식입니다: " + value);
+    }
+}
@@ -1,14 +1,19 @@
 package com.example.webapp.common.Aspect;
 
-import com.example.jwt.Repository.UserRepository;
+import com.example.jwt.dto.JwtUserPrincipal;
+import com.example.jwt.util.SecurityUtils;
 import com.example.webapp.common.annotations.InjectUserEntity;
+import com.example.webapp.common.cache.UserIdentityCache;
+import com.example.webapp.common.context.DayBoundaries;
 import com.example.webapp.common.context.UserContext;
+import com.example.webapp.entity.Role;
 import com.example.webapp.entity.User;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Component;
@@ -19,30 +24,66 @@ import org.springframework.stereotype.Component;
 @Slf4j
 public class UserEntityInjectionAspect {
 
-    private final UserRepository userRepository;
+    private final UserIdentityCache userIdentityCache;
 
+    /**
+     * 인증 사용자 식별 정보를 UserContext 에 주입
+     * @InjectUserEntity 메소드가 다른 @InjectUserEntity 메소드를 호출하는 경우
+     * 안쪽 호출 종료 시 바깥 호출의 UserContext 가 지워지지 않도록 이전 값을 복원
+     */
     @Around("@annotation(com.example.webapp.common.annotations.InjectUserEntity)")
     public Object injectUserEntity(ProceedingJoinPoint joinPoint) throws Throwable{
 
-        System.out.println("============ ASPECT 실행됨! ============");
+        User previousUser = UserContext.getCurrentUser();
+        DayBoundaries previousBoundaries = UserContext.getDayBoundaries();
 
         try {
 
-            String username = SecurityContextHolder.getContext().getAuthentication().getName();
-
-            User user = userRepository.findByUsername(username)
-                    .orElseThrow(() -> new UsernameNotFoundException(
-                            "사용자를 찾을 수 없습니다"
-                    ));
+            User user = SecurityUtils.getCurrentPrincipal()
+                    .filter(principal -> principal.getUserId() != null)
+                    .map(UserEntityInjectionAspect::fromPrincipal)
+                    .orElseGet(this::findByAuthenticationName);
 
             UserContext.setCurrentUser(user);
 
             return joinPoint.proceed();
 
         }finally {
-            UserContext.clear();
+            UserContext.restore(previousUser, previousBoundaries);
         }
 
     }
 
+    /**
+     * Access Token 클레임으로 사용자 식별 정보 생성 (DB 조회 없음)
+     * 식별자, 사용자명, 권한만 포함된 분리 상태의 User 이므로 조회 조건 및 연관관계 참조 용도로만 사용
+     * @param principal JWT 인증 사용자 정보
+     * @return User 식별 정보
+     */
+    private static User fromPrincipal(JwtUserPrincipal principal){
+        String authority = principal.getAuthorities().stream()
+                .findFirst()
+                .map(GrantedAuthority::getAuthority)
+                .orElse(null);
+
+        return User.builder()
+                .id(principal.getUserId())
+                .username(principal.getUsername())
+                .role(Role.fromString(authority))
+                .build();
+    }
+
+    /**
+     * userId 클레임이 없는 경우 인증 사용자명으로 사용자 조회 (캐시 사용)
+     * @return User 식별 정보
+     */
+    private User findByAuthenticationName(){
+        String username = SecurityContextHolder.getContext().getAuthentication().getName();
+
+        return userIdentityCache.findByUsername(username)
+                .orElseThrow(() -> new UsernameNotFoundException(
+                        "사용자를 찾을 수 없습니다"
+                ));
+    }
+
 }
@@ -0,0 +1,45 @@
+package com.example.webapp.common.cache;
+
+import com.example.webapp.entity.User;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * User 엔티티 변경 시 사용자 식별 정보 캐시를 무효화 하는 JPA 엔티티 리스너
+ * 비밀번호 변경, 권한 변경, 활성화 여부 변경 모두 UPDATE 로 반영되므로 일괄 처리
+ */
+@Component
+public class UserCacheInvalidationListener {
+
+    private final ObjectProvider<UserIdentityCache> userIdentityCache;
+
+    public UserCacheInvalidationListener(ObjectProvider<UserIdentityCache> userIdentityCache) {
+        this.userIdentityCache = userIdentityCache;
+    }
+
+    @PostUpdate
+    @PostRemove
+    public void onUserChanged(User user) {
+        UserIdentityCache cache = userIdentityCache.getIfAvailable();
+        if (cache == null) {
+            return;
+        }
+
+        String username = user.getUsername();
+        cache.invalidate(username);
+
+//      flush 와 커밋 사이에 이전 값이 다시 적재되는 경우를 막기 위해 커밋 이후 한 번 더 무효화
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidate(username);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.webapp.common.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용자별 할 일 데이터 버전 저장소
+ * 할 일이 변경될 때마다 버전을 올려 조건부 조회(ETag / 304)의 기준으로 사용
+ * 인스턴스 메모리에만 보관하므로 다중 인스턴스 배포 시에는 sticky 세션 또는 공유 저장소가 필요
+ */
+@Component
+public class UserDataVersionRegistry {
+
+    private static final long MAXIMUM_SIZE = 100_000L;
+    private static final Duration EXPIRE_AFTER_ACCESS = Duration.ofHours(1);
+
+    /**
+     * 재시작 전에 발급된 ETag 가 일치하지 않도록 구동 시마다 새로 생성
+     */
+    private final String instanceId = UUID.randomUUID().toString().substring(0, 8);
+
+    /**
+     * 전체 사용자 공통 증가값
+     * 만료 후 다시 적재되는 사용자도 이전과 다른 버전을 받도록 사용자별이 아닌 전역 값 사용
+     */
+    private final AtomicLong sequence = new AtomicLong();
+
+    private final Cache<Long, Long> versions = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_SIZE)
+            .expireAfterAccess(EXPIRE_AFTER_ACCESS)
+            .build();
+
+    /**
+     * 사용자의 현재 데이터 버전 태그
+     * @param userId 사용자 고유 ID
+     * @return 인스턴스 ID 와 버전을 포함한 태그
+     */
+    public String currentTag(Long userId){
+        long version = versions.get(userId, key -> sequence.incrementAndGet());
+        return instanceId + "-" + version;
+    }
+
+    /**
+     * 사용자 데이터 버전 증가
+     * 트랜잭션 중이면 커밋 이후에 증가시켜 커밋 전 데이터가 새 버전으로 캐시되지 않도록 함
+     * @param userId 사용자 고유 ID
+     */
+    public void bump(Long userId){
+        if(TransactionSynchronizationManager.isSynchronizationActive()){
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    versions.put(userId, sequence.incrementAndGet());
+                }
+            });
+            return;
+        }
+
+        versions.put(userId, sequence.incrementAndGet());
+    }
+}
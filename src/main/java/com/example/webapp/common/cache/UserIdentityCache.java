@@ -0,0 +1,128 @@
+package com.example.webapp.common.cache;
+
+import com.example.jwt.Repository.UserRepository;
+import com.example.webapp.config.UserCacheProperties;
+import com.example.webapp.entity.User;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 사용자명 기준 사용자 식별 정보 캐시
+ * 요청마다 발생하던 users 테이블 조회를 줄이기 위해 Aspect, SecurityUtils 에서 공유
+ * 비밀번호를 제외한 분리(detached)된 User 사본을 보관하므로 변경 용도로 사용하지 않음
+ */
+@Slf4j
+@Component
+public class UserIdentityCache {
+
+    /**
+     * 메트릭 등록 시 사용하는 캐시명
+     */
+    public static final String CACHE_NAME = "userIdentity";
+
+    private final UserRepository userRepository;
+    /**
+     * 비동기 캐시로 보관하여 DB 조회를 캐시 내부 잠금 밖에서 실행
+     * Cache.get(key, loader) 는 ConcurrentHashMap.compute 의 synchronized 블록 안에서 loader 를 실행하므로
+     * 가상 스레드에서 DB 조회 동안 캐리어 스레드가 고정(pinning)됨
+     */
+    private final AsyncCache<String, User> cache;
+
+    public UserIdentityCache(UserRepository userRepository,
+                             UserCacheProperties properties,
+                             ObjectProvider<MeterRegistry> meterRegistry) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getExpireAfterWrite())
+                .recordStats()
+                .buildAsync();
+
+//      hit/miss 메트릭 등록 (MeterRegistry 가 없는 테스트 환경에서는 생략)
+        meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME));
+    }
+
+    /**
+     * 사용자명으로 사용자 조회 (캐시 미스 시 DB 조회 후 적재)
+     * 존재하지 않는 사용자는 캐시하지 않음
+     * @param username 사용자명
+     * @return 비밀번호가 제외된 User 사본 (Optional)
+     */
+    public Optional<User> findByUsername(String username) {
+        if (username == null) {
+            return Optional.empty();
+        }
+
+//      캐시 미스인 경우 빈 future 만 등록하고, 등록한 스레드가 잠금 밖에서 조회하여 완료
+//      같은 사용자를 동시에 조회하는 스레드는 등록된 future 를 기다림
+        CompletableFuture<User> loading = new CompletableFuture<>();
+        CompletableFuture<User> future = cache.get(username, (key, executor) -> loading);
+
+        if (future == loading) {
+            try {
+                loading.complete(load(username));
+            } catch (RuntimeException e) {
+                loading.completeExceptionally(e);
+                throw e;
+            }
+        }
+
+//      null 로 완료된 future 는 캐시에서 제거되므로 존재하지 않는 사용자는 캐시하지 않음
+        return Optional.ofNullable(future.join());
+    }
+
+    /**
+     * 특정 사용자의 캐시 무효화
+     * @param username 사용자명
+     */
+    public void invalidate(String username) {
+        if (username != null) {
+            cache.synchronous().invalidate(username);
+            log.debug("사용자 캐시 무효화: {}", username);
+        }
+    }
+
+    /**
+     * 전체 캐시 무효화
+     */
+    public void invalidateAll() {
+        cache.synchronous().invalidateAll();
+    }
+
+    /**
+     * DB 에서 사용자를 조회하여 캐시용 사본 생성
+     * @param username 사용자명
+     * @return User 사본 (없으면 null)
+     */
+    private User load(String username) {
+        return userRepository.findByUsername(username)
+                .map(UserIdentityCache::copyOf)
+                .orElse(null);
+    }
+
+    /**
+     * 영속성 컨텍스트와 분리된 User 사본 생성 (비밀번호 제외)
+     * @param user 원본 User 엔티티
+     * @return User 사본
+     */
+    private static User copyOf(User user) {
+        return User.builder()
+                .id(user.getId())
+                .username(user.getUsername())
+                .email(user.getEmail())
+                .role(user.getRole())
+                .enabled(user.isEnabled())
+                .timeZone(user.getTimeZone())
+                .createdAt(user.getCreatedAt())
+                .updatedAt(user.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.webapp.common.context;
+
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+
+/**
+ * 사용자 시간대 기준 날짜 경계
+ * 예정일은 사용자 현지 시각으로 저장되므로 "오늘" 역시 사용자 시간대의 날짜로 계산
+ */
+@Getter
+public class DayBoundaries {
+
+    /**
+     * 사용자 시간대
+     */
+    private final ZoneId zone;
+
+    /**
+     * 사용자 시간대의 현재 시각
+     */
+    private final LocalDateTime now;
+
+    /**
+     * 사용자 시간대의 오늘
+     */
+    private final LocalDate today;
+
+    /**
+     * 오늘 시작 (00:00)
+     */
+    private final LocalDateTime startOfDay;
+
+    /**
+     * 오늘 종료 (23:59:59.999999999)
+     */
+    private final LocalDateTime endOfDay;
+
+    private DayBoundaries(ZoneId zone, LocalDateTime now) {
+        this.zone = zone;
+        this.now = now;
+        this.today = now.toLocalDate();
+        this.startOfDay = today.atStartOfDay();
+        this.endOfDay = today.atTime(LocalTime.MAX);
+    }
+
+    /**
+     * 현재 시각 기준 날짜 경계 계산
+     * @param zone 사용자 시간대
+     * @return 날짜 경계
+     */
+    public static DayBoundaries of(ZoneId zone){
+        return new DayBoundaries(zone, LocalDateTime.now(zone));
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.webapp.common.context;
+
+import com.example.webapp.common.cache.UserIdentityCache;
+import com.example.webapp.entity.User;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.DateTimeException;
+import java.time.ZoneId;
+
+/**
+ * 현재 사용자 시간대 기준 날짜 경계 제공
+ * 시간대는 User 에 포함되어 있으면 그대로 사용하고, 토큰 클레임으로 생성된 User 는 사용자 캐시에서 확인
+ * 계산 결과는 UserContext 에 보관하여 요청(@InjectUserEntity 범위) 당 한 번만 계산
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserClock {
+
+    private final UserIdentityCache userIdentityCache;
+
+    /**
+     * 현재 사용자의 날짜 경계
+     * @return 날짜 경계 (사용자 정보가 없으면 기본 시간대 기준)
+     */
+    public DayBoundaries today(){
+        DayBoundaries cached = UserContext.getDayBoundaries();
+        if(cached != null){
+            return cached;
+        }
+
+        User user = UserContext.getCurrentUser();
+        DayBoundaries boundaries = DayBoundaries.of(zoneOf(user));
+
+//      UserContext 범위 밖(스케줄러 등)에서는 보관하지 않음
+        if(user != null){
+            UserContext.setDayBoundaries(boundaries);
+        }
+        return boundaries;
+    }
+
+    /**
+     * 사용자명으로 시간대 확인 (인터셉터 등 UserContext 가 없는 곳에서 사용)
+     * @param username 사용자명
+     * @return 사용자 시간대
+     */
+    public ZoneId zoneOf(String username){
+        String timeZone = userIdentityCache.findByUsername(username)
+                .map(User::getTimeZone)
+                .orElse(null);
+        return toZoneId(timeZone);
+    }
+
+    private ZoneId zoneOf(User user){
+        if(user == null){
+            return toZoneId(null);
+        }
+        if(user.getTimeZone() != null){
+            return toZoneId(user.getTimeZone());
+        }
+        return zoneOf(user.getUsername());
+    }
+
+    private static ZoneId toZoneId(String timeZone){
+        if(timeZone == null){
+            return ZoneId.of(User.DEFAULT_TIME_ZONE);
+        }
+        try{
+            return ZoneId.of(timeZone);
+        }catch (DateTimeException e){
+            log.warn("잘못된 사용자 시간대: {}, 기본 시간대 사용", timeZone);
+            return ZoneId.of(User.DEFAULT_TIME_ZONE);
+        }
+    }
+}
@@ -8,6 +8,11 @@ public class UserContext {
 
     private static final ThreadLocal<User> currentUser = new ThreadLocal<>();
 
+    /**
+     * 요청 처리 중 한 번만 계산한 사용자 날짜 경계 (UserClock 에서 적재)
+     */
+    private static final ThreadLocal<DayBoundaries> dayBoundaries = new ThreadLocal<>();
+
     public static void setCurrentUser(User user){
         currentUser.set(user);
     }
@@ -16,8 +21,35 @@ public class UserContext {
         return currentUser.get();
     }
 
+    public static DayBoundaries getDayBoundaries(){
+        return dayBoundaries.get();
+    }
+
+    public static void setDayBoundaries(DayBoundaries boundaries){
+        dayBoundaries.set(boundaries);
+    }
+
+    /**
+     * 중첩 호출 종료 시 이전 값으로 복원 (이전 값이 없으면 제거)
+     * @param user 이전 사용자
+     * @param boundaries 이전 사용자 날짜 경계
+     */
+    public static void restore(User user, DayBoundaries boundaries){
+        if(user == null){
+            clear();
+            return;
+        }
+        currentUser.set(user);
+        if(boundaries == null){
+            dayBoundaries.remove();
+        }else{
+            dayBoundaries.set(boundaries);
+        }
+    }
+
     public static void clear(){
         currentUser.remove();
+        dayBoundaries.remove();
     }
 
 }
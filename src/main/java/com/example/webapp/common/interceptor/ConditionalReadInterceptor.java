@@ -0,0 +1,92 @@
+package com.example.webapp.common.interceptor;
+
+import com.example.jwt.util.SecurityUtils;
+import com.example.webapp.common.cache.UserDataVersionRegistry;
+import com.example.webapp.common.context.UserClock;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * 사용자 데이터 버전 기반 조건부 조회 인터셉터
+ * 컨트롤러 실행 전에 ETag 를 계산하여 If-None-Match 와 일치하면 DB 조회 없이 304 를 반환
+ * 결과가 현재 시각에 따라 달라지는 조회를 위해 시간 구간(일 / 분)을 ETag 에 포함
+ */
+@RequiredArgsConstructor
+public class ConditionalReadInterceptor implements HandlerInterceptor {
+
+    private final UserDataVersionRegistry userDataVersionRegistry;
+    private final SecurityUtils securityUtils;
+    private final UserClock userClock;
+
+    /**
+     * ETag 유효 시간 구간 (DAYS: 날짜가 바뀌면 갱신, MINUTES: 매 분 갱신)
+     */
+    @Getter
+    private final ChronoUnit timeBucket;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+
+        if(!HttpMethod.GET.matches(request.getMethod())){
+            return true;
+        }
+
+        Optional<Long> userId = securityUtils.getCurrentUserId();
+        if(userId.isEmpty()){
+            return true;
+        }
+
+//      데이터 조회 전에 버전을 읽으므로, 그 사이 변경이 커밋되어도 다음 요청에서 불일치로 다시 조회됨
+        String etag = "\"" + userId.get() + "-" + userDataVersionRegistry.currentTag(userId.get()) + "-" + currentBucket() + "\"";
+
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+
+        if(matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)){
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * 현재 시간 구간 값
+     * 날짜 구간은 사용자 시간대 기준으로 계산하여 사용자의 자정에 갱신
+     * @return 날짜 (yyyy-MM-dd) 또는 epoch 분
+     */
+    private String currentBucket(){
+        if(timeBucket == ChronoUnit.DAYS){
+            return LocalDate.now(userClock.zoneOf(SecurityUtils.getCurrentUsername())).toString();
+        }
+        return String.valueOf(Instant.now().truncatedTo(timeBucket).getEpochSecond());
+    }
+
+    /**
+     * If-None-Match 헤더에 ETag 가 포함되어 있는지 확인
+     * @param ifNoneMatch If-None-Match 헤더 값 (쉼표로 구분된 목록, W/ 허용)
+     * @param etag 현재 ETag
+     * @return 일치 여부
+     */
+    private static boolean matches(String ifNoneMatch, String etag){
+        if(ifNoneMatch == null || ifNoneMatch.isBlank()){
+            return false;
+        }
+
+        return Arrays.stream(ifNoneMatch.split(","))
+                .map(String::trim)
+                .map(tag -> tag.startsWith("W/") ? tag.substring(2) : tag)
+                .anyMatch(tag -> tag.equals("*") || tag.equals(etag));
+    }
+}
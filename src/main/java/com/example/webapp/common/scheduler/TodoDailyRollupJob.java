@@ -0,0 +1,133 @@
+package com.example.webapp.common.scheduler;
+
+import com.example.webapp.common.cache.UserDataVersionRegistry;
+import com.example.webapp.config.AnalyticsRollupProperties;
+import com.example.webapp.config.CalendarSyncProperties;
+import com.example.webapp.entity.TodoRollupWatermark;
+import com.example.webapp.repository.TodoRepository;
+import com.example.webapp.repository.TodoTombstoneRepository;
+import com.example.webapp.repository.UserTodoStatsRepository;
+import com.example.webapp.service.TodoRollupService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 분석용 일자별 집계 작업
+ * 새로 마감된 일자를 적재하고, 마지막 실행 이후 할 일이 변경 / 삭제된 사용자는 영향받은 일자만 다시 집계 (늦게 반영된 변경 처리)
+ * 실행 비용은 계정 기간이 아닌 변경된 할 일 수에 비례
+ * 모든 사용자 처리에 성공한 경우에만 워터마크를 갱신하므로, 실패 시 다음 실행이 같은 구간을 다시 처리
+ * 분석 조회의 ETag 는 자정에 바뀌어 집계 전 결과가 캐시될 수 있으므로, 다시 집계한 사용자의 데이터 버전을 올림
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TodoDailyRollupJob {
+
+    /**
+     * 한 번에 조회하는 사용자 수
+     */
+    private static final int USER_BATCH_SIZE = 500;
+
+    private final TodoRollupService todoRollupService;
+    private final TodoRepository todoRepository;
+    private final TodoTombstoneRepository todoTombstoneRepository;
+    private final UserTodoStatsRepository userTodoStatsRepository;
+    private final AnalyticsRollupProperties analyticsRollupProperties;
+    private final CalendarSyncProperties calendarSyncProperties;
+    private final UserDataVersionRegistry userDataVersionRegistry;
+
+    /**
+     * 매일 새벽 일자별 집계
+     */
+    @Scheduled(cron = "${app.analytics.rollup.cron:0 0 2 * * *}")
+    public void compact(){
+        LocalDateTime startedAt = LocalDateTime.now();
+        LocalDate closedBefore = startedAt.toLocalDate().minusDays(analyticsRollupProperties.getClosedDayLag());
+
+        Optional<TodoRollupWatermark> watermark = todoRollupService.getWatermark();
+
+//      삭제 기록 보관 기간보다 오래 실행되지 않았다면 삭제된 할 일을 알 수 없으므로 전체 재집계
+        boolean full = watermark.isEmpty()
+                || watermark.get().getChangedSince().isBefore(startedAt.minus(calendarSyncProperties.getTombstoneRetention()));
+
+        LocalDate previousClosedBefore = full ? TodoRollupService.ROLLUP_EPOCH : watermark.get().getClosedBefore();
+        Set<Long> changedUsers = full ? Set.of() : findChangedUsers(watermark.get().getChangedSince());
+
+        long rebuilt = 0;
+        long changed = 0;
+        long changedDays = 0;
+        long appended = 0;
+        long failed = 0;
+        Long after = 0L;
+
+        while(true){
+            List<Long> userIds = userTodoStatsRepository.findUserIdsAfter(after, PageRequest.of(0, USER_BATCH_SIZE));
+            if(userIds.isEmpty()){
+                break;
+            }
+
+            for(Long userId : userIds){
+                try{
+                    if(full){
+                        todoRollupService.rebuildUser(userId, closedBefore);
+                        userDataVersionRegistry.bump(userId);
+                        rebuilt++;
+                        continue;
+                    }
+                    boolean compacted = false;
+//                  변경된 일자를 먼저 다시 집계한 뒤 새로 마감된 일자를 적재 (반영 일자 갱신 후 읽은 값으로 적재)
+                    if(changedUsers.contains(userId)){
+                        changedDays += todoRollupService.compactChangedDays(userId, watermark.get().getChangedSince(), previousClosedBefore);
+                        changed++;
+                        compacted = true;
+                    }
+                    if(previousClosedBefore.isBefore(closedBefore)){
+                        todoRollupService.compactUser(userId, previousClosedBefore, closedBefore);
+                        appended++;
+                        compacted = true;
+                    }
+                    if(compacted){
+                        userDataVersionRegistry.bump(userId);
+                    }
+                }catch (DataAccessException e){
+                    failed++;
+                    log.warn("일자별 집계 실패 사용자 ID: {}, {}", userId, e.getMessage());
+                }
+            }
+
+            after = userIds.getLast();
+        }
+
+        if(failed > 0){
+            log.warn("일자별 집계 실패 {}건, 워터마크를 갱신하지 않고 다음 실행에서 다시 처리", failed);
+            return;
+        }
+
+        todoRollupService.advanceWatermark(startedAt.minus(analyticsRollupProperties.getWatermarkLag()), closedBefore);
+
+        log.info("일자별 집계 완료 마감일: {}, 전체 재집계: {}, 변경 사용자: {} (재집계 일자 {}), 신규 일자 적재: {}",
+                closedBefore, rebuilt, changed, changedDays, appended);
+    }
+
+    /**
+     * 기준 시각 이후 할 일이 생성 / 수정 / 삭제된 사용자
+     * @param since 기준 시각
+     * @return 사용자 ID 집합
+     */
+    private Set<Long> findChangedUsers(LocalDateTime since){
+        Set<Long> result = new HashSet<>(todoRepository.findUserIdsUpdatedSince(since));
+        result.addAll(todoTombstoneRepository.findUserIdsDeletedSince(since));
+        return result;
+    }
+}
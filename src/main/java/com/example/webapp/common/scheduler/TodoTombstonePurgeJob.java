@@ -0,0 +1,36 @@
+package com.example.webapp.common.scheduler;
+
+import com.example.webapp.config.CalendarSyncProperties;
+import com.example.webapp.repository.TodoTombstoneRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관 기간이 지난 할 일 삭제 기록 정리 작업
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TodoTombstonePurgeJob {
+
+    private final TodoTombstoneRepository todoTombstoneRepository;
+    private final CalendarSyncProperties calendarSyncProperties;
+
+    /**
+     * 매일 새벽 보관 기간 이전의 삭제 기록 삭제
+     */
+    @Scheduled(cron = "${app.calendar.sync.purge-cron:0 30 3 * * *}")
+    @Transactional
+    public void purge(){
+        LocalDateTime cutoff = LocalDateTime.now().minus(calendarSyncProperties.getTombstoneRetention());
+
+        int deleted = todoTombstoneRepository.deleteOlderThan(cutoff);
+
+        log.info("할 일 삭제 기록 정리 기준: {}, 건수: {}", cutoff, deleted);
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.webapp.common.scheduler;
+
+import com.example.webapp.repository.UserTodoStatsRepository;
+import com.example.webapp.service.UserTodoStatsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 사용자 할 일 통계 재집계 작업
+ * 증감 반영 누락(직접 DB 수정, 장애 등)으로 어긋난 통계를 todos 기준으로 보정
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UserTodoStatsReconcileJob {
+
+    /**
+     * 한 번에 조회하는 사용자 수
+     */
+    private static final int USER_BATCH_SIZE = 500;
+
+    private final UserTodoStatsRepository userTodoStatsRepository;
+    private final UserTodoStatsService userTodoStatsService;
+
+    /**
+     * 매일 새벽 전체 사용자 통계 재집계
+     * 사용자별로 별도 트랜잭션에서 처리하여 잠금 범위를 한 사용자로 제한
+     */
+    @Scheduled(cron = "${app.stats.reconcile-cron:0 0 4 * * *}")
+    public void reconcile(){
+        long rebuilt = 0;
+        long failed = 0;
+        Long after = 0L;
+
+        while(true){
+            List<Long> userIds = userTodoStatsRepository.findUserIdsAfter(after, PageRequest.of(0, USER_BATCH_SIZE));
+            if(userIds.isEmpty()){
+                break;
+            }
+
+            for(Long userId : userIds){
+                try{
+                    userTodoStatsService.rebuild(userId);
+                    rebuilt++;
+                }catch (DataAccessException e){
+                    failed++;
+                    log.warn("사용자 통계 재집계 실패 사용자 ID: {}, {}", userId, e.getMessage());
+                }
+            }
+
+            after = userIds.getLast();
+        }
+
+        log.info("사용자 할 일 통계 재집계 완료 건수: {}, 실패: {}", rebuilt, failed);
+    }
+}
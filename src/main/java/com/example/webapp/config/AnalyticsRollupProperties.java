@@ -0,0 +1,32 @@
+package com.example.webapp.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 분석용 일자별 집계 설정값을 바인딩 하는 클래스
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.analytics.rollup")
+public class AnalyticsRollupProperties {
+
+    /*
+     *  마감으로 보는 일자 지연
+     *  예정일 / 생성일은 사용자 시간대 기준 일시이므로, 서버 기준 오늘에서 이만큼 이전 일자부터 집계
+     *  (서버보다 늦은 시간대 사용자의 "오늘"이 집계되지 않도록 함)
+     *  기본값: 1일
+     */
+    private int closedDayLag = 1;
+
+    /*
+     *  워터마크 안전 지연 시간
+     *  집계 시작 직전에 시작되어 늦게 커밋된 변경을 다음 실행에서 다시 집계하도록 워터마크를 이만큼 앞당김
+     *  기본값: 5분
+     */
+    private Duration watermarkLag = Duration.ofMinutes(5);
+
+}
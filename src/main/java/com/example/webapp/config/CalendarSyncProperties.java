@@ -0,0 +1,39 @@
+package com.example.webapp.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 캘린더 증분 동기화 설정값을 바인딩 하는 클래스
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.calendar.sync")
+public class CalendarSyncProperties {
+
+    /*
+     *  삭제 기록 보관 기간
+     *  이보다 오래된 워터마크로 요청하면 전체 재동기화를 안내
+     *  기본값: 30일
+     */
+    private Duration tombstoneRetention = Duration.ofDays(30);
+
+    /*
+     *  한 번에 전달할 최대 변경 건수 (생성/수정, 삭제 각각)
+     *  초과하면 전체 재동기화를 안내
+     *  기본값: 1,000
+     */
+    private int maxChanges = 1_000;
+
+    /*
+     *  워터마크 안전 지연 시간
+     *  조회 시점 직전에 시작되어 늦게 커밋된 변경을 놓치지 않도록 워터마크를 이만큼 앞당겨 발급
+     *  (해당 구간의 변경은 다음 동기화에 중복 전달될 수 있으므로 클라이언트는 id 기준으로 덮어쓰기)
+     *  기본값: 5초
+     */
+    private Duration watermarkLag = Duration.ofSeconds(5);
+
+}
@@ -0,0 +1,21 @@
+package com.example.webapp.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 인사이트 제공자 실행기
+ * 제공자는 대부분 DB 대기 시간이므로 작업마다 가상 스레드를 생성
+ * 동시 실행 수는 커넥션 풀 크기로 제한되며, 커넥션 대기도 제공자 제한 시간에 포함
+ */
+@Configuration
+public class InsightExecutorConfig {
+
+    @Bean(destroyMethod = "close")
+    public ExecutorService insightExecutor(){
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("insight-", 0).factory());
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.webapp.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 인사이트 조회 설정값을 바인딩 하는 클래스
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.analytics.insight")
+public class InsightProperties {
+
+    /*
+     *  인사이트 제공자별 제한 시간
+     *  제공자는 동시에 실행되므로 인사이트 응답 시간의 상한이 됨
+     *  초과한 제공자는 취소하고 결과에서 제외
+     *  기본값: 2초
+     */
+    private Duration providerTimeout = Duration.ofSeconds(2);
+
+}
@@ -0,0 +1,30 @@
+package com.example.webapp.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 사용자 식별 정보 캐시 설정값을 바인딩 하는 클래스
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.cache.user")
+public class UserCacheProperties {
+
+    /*
+     *  캐시에 보관할 최대 사용자 수
+     *  기본값: 10,000
+     */
+    private long maximumSize = 10_000L;
+
+    /*
+     *  캐시 적재 후 만료 시간
+     *  비밀번호, 권한, 활성화 변경은 즉시 무효화 되며 그 외 변경은 만료 시간 내 반영
+     *  기본값: 5분
+     */
+    private Duration expireAfterWrite = Duration.ofMinutes(5);
+
+}
@@ -0,0 +1,34 @@
+package com.example.webapp.config;
+
+import com.example.jwt.util.SecurityUtils;
+import com.example.webapp.common.cache.UserDataVersionRegistry;
+import com.example.webapp.common.context.UserClock;
+import com.example.webapp.common.interceptor.ConditionalReadInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.temporal.ChronoUnit;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+
+    private final UserDataVersionRegistry userDataVersionRegistry;
+    private final SecurityUtils securityUtils;
+    private final UserClock userClock;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+
+//      날짜 단위로 결과가 바뀌는 조회 (오늘, 긴급, 지연 목록, 상태별 통계, 분석)
+        registry.addInterceptor(new ConditionalReadInterceptor(userDataVersionRegistry, securityUtils, userClock, ChronoUnit.DAYS))
+                .addPathPatterns("/dashboard/today", "/dashboard/urgent", "/dashboard/overdue", "/dashboard/stats", "/analytics/**")
+                .excludePathPatterns("/analytics/summary", "/analytics/insights");
+
+//      현재 시각 기준 지연 건수를 포함하는 통계 요약(overdueCount)과 인사이트(지연 주의)는 분 단위로 갱신
+        registry.addInterceptor(new ConditionalReadInterceptor(userDataVersionRegistry, securityUtils, userClock, ChronoUnit.MINUTES))
+                .addPathPatterns("/analytics/summary", "/analytics/insights");
+    }
+}
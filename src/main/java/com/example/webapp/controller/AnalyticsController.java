@@ -2,6 +2,7 @@ package com.example.webapp.controller;
 
 import com.example.webapp.DTO.AnalyticsDistributionDTO;
 import com.example.webapp.DTO.AnalyticsTrendDTO;
+import com.example.webapp.DTO.BestProducibilityDateDTO;
 import com.example.webapp.DTO.InsightDTO;
 import com.example.webapp.DTO.SummaryDTO;
 import com.example.webapp.DTO.request.AnalyticsTrendRequestDTO;
@@ -47,18 +48,21 @@ public class AnalyticsController {
             summary = "일별 완료 추이 요청 API",
             description = """
                     ## 일별 완료 추이 요청 API
-                    일주일 간의 완료 추이를 요청합니다.
+                    선택한 기간의 완료 추이를 요청합니다.
                     - 개발일자:
                     - 수정일자: .
                     - 테스트 여부:
 
                     ### 필수 입력 항목
+
+                    ### 선택 입력 항목
+                    - period : 7d, 30d, 90d, 365d (기본값 7d)
                     """
     )
     @GetMapping("/trend")
-    public ResponseEntity<List<AnalyticsTrendDTO>> trend(@RequestParam("period") String trendPeriod){
+    public ResponseEntity<List<AnalyticsTrendDTO>> trend(@RequestParam(value = "period", defaultValue = "7d") String trendPeriod){
 
-        List<AnalyticsTrendDTO> result = analyticsService.getWeekTrend(trendPeriod);
+        List<AnalyticsTrendDTO> result = analyticsService.getTrend(trendPeriod);
 
         return ResponseEntity.ok(result);
     }
@@ -83,13 +87,36 @@ public class AnalyticsController {
         return ResponseEntity.ok(result);
     }
 
-    /*
     @Operation(
-            summary = " 인사이트 요청 API",
+            summary = "최고 작업일 요청 API",
+            description = """
+                    ## 최고 작업일 요청 API
+                    예정일 기준 완료율이 가장 높은 작업일을 요청합니다.
+                    예정된 할 일이 3개 미만인 일자는 제외하며, 완료율이 같으면 완료 수, 최근 일자 순으로 정렬합니다.
+                    - 개발일자: 2026-10-18
+                    - 수정일자: .
+                    - 테스트 여부:
+
+                    ### 필수 입력 항목
+
+                    ### 선택 입력 항목
+                    - limit : 1 ~ 10 (기본값 3)
+                    """
+    )
+    @GetMapping("/best-days")
+    public ResponseEntity<List<BestProducibilityDateDTO>> bestDays(@RequestParam(value = "limit", defaultValue = "3") int limit){
+
+        List<BestProducibilityDateDTO> result = analyticsService.getBestDays(limit);
+
+        return ResponseEntity.ok(result);
+    }
+
+    @Operation(
+            summary = "인사이트 요청 API",
             description = """
                     ## 인사이트 요청 API
-                    인사이트 데이터를 요청합니다.
-                    - 개발일자:
+                    최고 작업일, 카테고리별 지연 할 일 주의 인사이트 데이터를 요청합니다.
+                    - 개발일자: 2026-10-18
                     - 수정일자: .
                     - 테스트 여부:
 
@@ -97,12 +124,11 @@ public class AnalyticsController {
                     """
     )
     @GetMapping("/insights")
-    public ResponseEntity<List<InsightDTO>> insight(@RequestParam("period") String period){
+    public ResponseEntity<List<InsightDTO>> insight(){
 
         List<InsightDTO> result = analyticsService.getInsight();
 
         return ResponseEntity.ok(result);
     }
-     */
 
 }
@@ -1,7 +1,10 @@
 package com.example.webapp.controller;
 
+import com.example.webapp.DTO.CalendarChangesDTO;
+import com.example.webapp.DTO.CalendarDayDTO;
 import com.example.webapp.DTO.ToDoResponseDTO;
 import com.example.webapp.service.CalendarService;
+import io.swagger.v3.oas.annotations.Operation;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
@@ -28,4 +31,55 @@ public class CalendarController {
     }
 
 
+    @Operation(
+            summary = "캘린더 일자별 ToDo 조회",
+            description = """
+                    ## 캘린더 일자별 ToDo 조회 API
+                    기간 내 ToDo를 일자별로 묶어 캘린더 표시에 필요한 항목만 조회합니다.
+                    일자당 perDay 건까지 중요도 순으로 포함하고, 나머지는 more 건수로 제공합니다.
+                    - 개발일자:
+                    - 수정일자:
+
+                    ### 필수 입력 항목
+                    - startDate : 조회 시작일 (yyyy-MM-dd)
+                    - lastDate : 조회 종료일 (yyyy-MM-dd, 최대 62일)
+
+                    ### 선택 입력 항목
+                    - perDay : 일자당 표시 건수 (기본 3, 최대 50)
+                    """
+    )
+    @GetMapping("/days")
+    public ResponseEntity<List<CalendarDayDTO>> calendarDays(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate lastDate,
+            @RequestParam(value = "perDay", defaultValue = "3") int perDay){
+
+        List<CalendarDayDTO> days = calendarService.getCalendarDays(startDate, lastDate, perDay);
+
+        return ResponseEntity.ok(days);
+    }
+
+
+    @Operation(
+            summary = "캘린더 변경분 조회",
+            description = """
+                    ## 캘린더 변경분 조회 API
+                    이전 동기화 이후 생성/수정/삭제된 ToDo만 조회합니다.
+                    응답의 watermark 를 다음 요청의 since 로 전달합니다.
+                    fullResync 가 true 이면 변경분 대신 기간 조회(/calendar/days)로 다시 불러온 뒤 함께 받은 watermark 를 사용합니다.
+                    - 개발일자:
+                    - 수정일자:
+
+                    ### 선택 입력 항목
+                    - since : 이전 응답의 watermark (최초 동기화는 생략)
+                    """
+    )
+    @GetMapping("/changes")
+    public ResponseEntity<CalendarChangesDTO> changes(@RequestParam(value = "since", required = false) String since){
+
+        CalendarChangesDTO changes = calendarService.getChanges(since);
+
+        return ResponseEntity.ok(changes);
+    }
+
 }
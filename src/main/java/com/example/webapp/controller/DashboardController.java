@@ -1,5 +1,6 @@
 package com.example.webapp.controller;
 
+import com.example.webapp.DTO.CursorPageDTO;
 import com.example.webapp.DTO.ToDoResponseDTO;
 import com.example.webapp.DTO.TodoStats;
 import com.example.webapp.entity.ToDo;
@@ -10,6 +11,7 @@ import org.apache.coyote.Response;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
@@ -91,18 +93,23 @@ public class DashboardController {
             summary = "기한이 지난 할 일 리스트 조회",
             description = """
                     ## 기한이 지난 할 일 조회 API
-                    마감 기한이 지난 할 일 리스트를 요청합니다
+                    마감 기한이 지났지만 완료되지 않은 할 일 리스트를 예정일 순으로 요청합니다
+                    응답의 total 은 전체 지연 건수입니다.
                     - 개발일자:
                     - 수정일자: .
                     - 테스트 여부:
 
-                    ### 필수 입력 항목
+                    ### 선택 입력 항목
+                    - cursor : 이전 응답의 nextCursor (첫 페이지는 생략)
+                    - size : 페이지 크기 (기본 20, 최대 100)
                     """
     )
     @GetMapping("/overdue")
-    public ResponseEntity<List<ToDoResponseDTO>> overdueTodos(){
+    public ResponseEntity<CursorPageDTO<ToDoResponseDTO>> overdueTodos(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size){
 
-        List<ToDoResponseDTO> result = dashBoardService.findOverdueToDoList();
+        CursorPageDTO<ToDoResponseDTO> result = dashBoardService.findOverdueToDoList(cursor, size);
 
         return ResponseEntity.ok(result);
     }
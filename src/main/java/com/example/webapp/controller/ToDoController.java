@@ -1,25 +1,37 @@
 package com.example.webapp.controller;
 
 import com.example.jwt.util.SecurityUtils;
+import com.example.webapp.DTO.CursorPageDTO;
 import com.example.webapp.DTO.ToDoResponseDTO;
+import com.example.webapp.DTO.TodoImportResultDTO;
 import com.example.webapp.DTO.TodoRequestDTO;
 import com.example.webapp.DTO.request.BulkUpdateRequest;
+import com.example.webapp.DTO.request.TodoTransferFormat;
 import com.example.webapp.entity.ToDo;
 import com.example.webapp.entity.User;
 import com.example.webapp.service.ToDoService;
+import com.example.webapp.service.TodoTransferService;
+import com.fasterxml.jackson.databind.JsonNode;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -32,6 +44,7 @@ import java.util.List;
 public class ToDoController {
 
     private final ToDoService toDoService;
+    private final TodoTransferService todoTransferService;
     private final SecurityUtils securityUtils;
 
 
@@ -57,6 +70,108 @@ public class ToDoController {
     }
 
 
+    @Operation(
+            summary = "ToDo 리스트 커서 조회",
+            description = """
+                    ## ToDo 리스트 커서 조회 API
+                    등록한 ToDo 리스트를 커서 기반으로 조회합니다.
+                    전체 건수를 계산하지 않으며 페이지 깊이와 관계없이 일정한 속도로 조회됩니다.
+                    - 개발일자:
+                    - 수정일자:
+
+                    ### 선택 입력 항목
+                    - cursor : 이전 응답의 nextCursor (첫 페이지는 생략)
+                    - size : 페이지 크기 (기본 20, 최대 100)
+                    - sort : planningDate (예정일 오름차순, 기본) / createdAt (최신순)
+                    """
+    )
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPageDTO<ToDoResponseDTO>> getUserTodosByCursor(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            @RequestParam(value = "sort", defaultValue = "planningDate") String sort){
+
+        CursorPageDTO<ToDoResponseDTO> result = toDoService.findTodoListByCursor(cursor, size, sort);
+
+        return ResponseEntity.ok(result);
+    }
+
+
+    @Operation(
+            summary = "ToDo 내보내기",
+            description = """
+                    ## ToDo 내보내기 API
+                    등록한 전체 ToDo를 파일로 내려받습니다.
+                    페이지 조회 없이 DB에서 읽는 즉시 응답으로 전송합니다.
+                    - 개발일자:
+                    - 수정일자:
+
+                    ### 선택 입력 항목
+                    - format : ndjson (기본, 한 줄에 ToDo 1건) / csv
+                    """
+    )
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(value = "format", defaultValue = "ndjson") String format){
+
+        TodoTransferFormat exportFormat;
+        try{
+            exportFormat = TodoTransferFormat.from(format);
+        }catch (IllegalArgumentException e){
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+
+//      스트리밍은 별도 스레드에서 실행되므로 사용자 ID를 미리 확인
+        Long userId = securityUtils.getCurrentUserIdOrThrow();
+
+        StreamingResponseBody body = outputStream -> todoTransferService.exportTodos(userId, exportFormat, outputStream);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"todos." + exportFormat.getExtension() + "\"")
+                .body(body);
+    }
+
+
+    @Operation(
+            summary = "ToDo 가져오기",
+            description = """
+                    ## ToDo 가져오기 API
+                    NDJSON / CSV 파일의 ToDo를 일괄 등록합니다.
+                    행 단위로 검증하며 500건 단위로 나누어 저장합니다.
+                    잘못된 행은 건너뛰고 결과에 행 번호와 사유를 반환합니다.
+                    - 개발일자:
+                    - 수정일자:
+
+                    ### 필수 입력 항목
+                    - 요청 본문 : NDJSON (한 줄에 ToDo 1건) 또는 CSV (첫 행 헤더)
+                    - 필드 : title (필수), memo, category, priority, status, targetDate
+                      (내보내기 형식의 taskPriority, taskStatus, planningDate, doneAt 도 허용)
+
+                    ### 선택 입력 항목
+                    - format : ndjson (기본) / csv
+                    """
+    )
+    @PostMapping("/import")
+    public ResponseEntity<TodoImportResultDTO> importTodos(
+            @RequestParam(value = "format", defaultValue = "ndjson") String format,
+            HttpServletRequest request) throws IOException {
+
+        TodoTransferFormat importFormat;
+        try{
+            importFormat = TodoTransferFormat.from(format);
+        }catch (IllegalArgumentException e){
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+
+        Long userId = securityUtils.getCurrentUserIdOrThrow();
+
+        TodoImportResultDTO result = todoTransferService.importTodos(userId, importFormat, request.getInputStream());
+
+        return ResponseEntity.ok(result);
+    }
+
+
     @Operation(
             summary = "ToDo 상세조회",
             description = """
@@ -73,11 +188,13 @@ public class ToDoController {
     @GetMapping("/{id}")
     public ResponseEntity<ToDoResponseDTO> detail(@PathVariable Integer id){
 
-        String username = SecurityUtils.getCurrentUsername();
+        Long userId = securityUtils.getCurrentUserIdOrThrow();
 
-        ToDoResponseDTO result = toDoService.findTodoById(id, username);
+        ToDoResponseDTO result = toDoService.findTodoById(id, userId);
 
-        return ResponseEntity.ok(result);
+        return ResponseEntity.ok()
+                .eTag(String.valueOf(result.getVersion()))
+                .body(result);
     }
 
 
@@ -111,22 +228,39 @@ public class ToDoController {
             summary = "ToDo 업데이트",
             description = """
                     ## ToDo 업데이트 API
-                    기존의 ToDo를 업데이트 합니다.
+                    기존의 ToDo를 부분 수정합니다. (JSON Merge Patch)
+                    전달한 필드만 변경하며, null 을 전달하면 해당 값을 비웁니다.
+                    If-Match 헤더에 조회 시 받은 ETag 를 전달하면 그 사이 다른 수정이 있었을 경우 412 를 반환합니다.
+                    동시에 수정되어 충돌한 경우 409 를 반환합니다.
                     - 개발일자:
                     - 수정일자: .
                     - 테스트 여부:
 
                     ### 필수 입력 항목
                     id : Integer
-                    TodoRequestDTO
+
+                    ### 선택 입력 항목
+                    - title, memo, priority, category, status, targetDate
+                    - If-Match 헤더 : ETag (예: "3")
                     """
     )
-    @PatchMapping("/{id}")
-    public ResponseEntity<TodoRequestDTO> update(@PathVariable Integer id, @RequestBody TodoRequestDTO requestDTO){
-
-        TodoRequestDTO result = toDoService.UpdateToDo(id, requestDTO);
-
-        return ResponseEntity.ok(result);
+    @PatchMapping(value = "/{id}", consumes = {"application/merge-patch+json", MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<ToDoResponseDTO> update(@PathVariable Integer id,
+                                                  @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                  @RequestBody JsonNode patch){
+
+        Long userId = securityUtils.getCurrentUserIdOrThrow();
+
+        ToDoResponseDTO result;
+        try{
+            result = toDoService.UpdateToDo(id, userId, patch, parseIfMatch(ifMatch));
+        }catch (OptimisticLockingFailureException e){
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "다른 요청과 동시에 수정되었습니다. 다시 조회 후 시도해 주세요.", e);
+        }
+
+        return ResponseEntity.ok()
+                .eTag(String.valueOf(result.getVersion()))
+                .body(result);
     }
 
 
@@ -146,7 +280,9 @@ public class ToDoController {
     @DeleteMapping("/{id}")
     public ResponseEntity<Boolean> delete(@PathVariable Integer id){
 
-        boolean result = toDoService.DeleteTodo(id);
+        Long userId = securityUtils.getCurrentUserIdOrThrow();
+
+        boolean result = toDoService.DeleteTodo(id, userId);
 
         return ResponseEntity.ok().body(result);
     }
@@ -165,7 +301,9 @@ public class ToDoController {
     @PostMapping("/status/{id}")
     public ResponseEntity<ToDo.TaskStatus> taskDone(@PathVariable Integer id, ToDo.TaskStatus status){
 
-        ToDo.TaskStatus result = toDoService.UpdateStatus(id, status);
+        Long userId = securityUtils.getCurrentUserIdOrThrow();
+
+        ToDo.TaskStatus result = toDoService.UpdateStatus(id, userId, status);
 
         return ResponseEntity.ok(result);
     }
@@ -199,10 +337,33 @@ public class ToDoController {
                     """
     )
     @DeleteMapping("/bulkDelete")
-    public ResponseEntity<Boolean> bulkDelete(@RequestBody List<Long> request){
+    public ResponseEntity<Boolean> bulkDelete(@RequestBody List<Integer> request){
 
         boolean result = toDoService.bulkDelete(request);
 
         return ResponseEntity.ok(result);
     }
+
+    /**
+     * If-Match 헤더에서 버전 추출
+     * @param ifMatch If-Match 헤더 값 ("3", W/"3", *)
+     * @return 기대 버전, 헤더가 없거나 * 이면 null
+     */
+    private static Long parseIfMatch(String ifMatch){
+        if(ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")){
+            return null;
+        }
+
+        String tag = ifMatch.trim();
+        if(tag.startsWith("W/")){
+            tag = tag.substring(2);
+        }
+        tag = tag.replace("\"", "");
+
+        try{
+            return Long.parseLong(tag);
+        }catch (NumberFormatException e){
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "If-Match 형식이 올바르지 않습니다.", e);
+        }
+    }
 }
@@ -29,7 +29,8 @@ public class RefreshToken {
      * Refresh Token 고유 ID (PK)
      */
     @Id
-    @GeneratedValue
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "refresh_token_seq")
+    @SequenceGenerator(name = "refresh_token_seq", sequenceName = "refresh_token_seq", allocationSize = 50)
     @Column(name = "id")
     private long id;
 
@@ -1,6 +1,7 @@
 package com.example.webapp.entity;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateTimeDeserializer;
@@ -9,28 +10,42 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 import org.springframework.scheduling.config.Task;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * ToDoNote Entity
  */
 @Entity
-@Table(name = "todos")
+@Table(name = "todos",
+    indexes = {
+        @Index(name = "idx_todos_user_planning", columnList = "user_id, planning_date"),
+        @Index(name = "idx_todos_user_status_planning", columnList = "user_id, status, planning_date"),
+        @Index(name = "idx_todos_user_created", columnList = "user_id, created_at"),
+        @Index(name = "idx_todos_user_done", columnList = "user_id, done_at"),
+        @Index(name = "idx_todos_user_priority_status", columnList = "user_id, priority, status"),
+        @Index(name = "idx_todos_user_updated", columnList = "user_id, updated_at"),
+        @Index(name = "idx_todos_updated", columnList = "updated_at")
+    })
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@DynamicUpdate
 public class ToDo {
     /**
      * ToDoContext ID
-     *
+     * 50개 단위로 미리 할당하는 pooled 시퀀스 사용 (IDENTITY 와 달리 JDBC 배치 INSERT 가능)
      */
     @Id
-    @GeneratedValue
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "to_do_seq")
+    @SequenceGenerator(name = "to_do_seq", sequenceName = "to_do_seq", allocationSize = 50)
     @Schema(description = "ID", example = "1")
     private Integer id;
 
@@ -110,6 +125,30 @@ public class ToDo {
     @JsonSerialize(using = LocalDateTimeSerializer.class)
     private LocalDateTime updatedAt;
 
+    /**
+     * 일자별 집계에 반영된 예정일
+     * 집계 작업에서만 갱신하며, 예정일이 바뀌면 이전 일자를 다시 집계하는 데 사용
+     */
+    @JsonIgnore
+    @Column(name = "rollup_planned_date")
+    private LocalDate rollupPlannedDate;
+
+    /**
+     * 일자별 집계에 반영된 완료일
+     * 집계 작업에서만 갱신하며, 완료가 취소되거나 다시 완료되면 이전 일자를 다시 집계하는 데 사용
+     */
+    @JsonIgnore
+    @Column(name = "rollup_done_date")
+    private LocalDate rollupDoneDate;
+
+    /**
+     * 버전 (낙관적 잠금)
+     */
+    @Version
+    @Column(name = "version", nullable = false)
+    @Schema(description = "버전 (낙관적 잠금)", example = "0")
+    private Long version;
+
     /**
      * 소유자
      */
@@ -127,6 +166,11 @@ public class ToDo {
         COMPLETE("완료"),
         ON_HOLD("보류");
 
+        /**
+         * 예정일이 지나면 지연으로 보는 상태 (완료 제외)
+         */
+        public static final List<TaskStatus> OVERDUE_STATUSES = List.of(IN_PROGRESS, ON_HOLD);
+
         private final String description;
 
         TaskStatus(String description){
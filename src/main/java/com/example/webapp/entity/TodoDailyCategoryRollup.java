@@ -0,0 +1,87 @@
+package com.example.webapp.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * 사용자 일자별 카테고리 상태 분포 엔티티
+ * 해당 일자에 생성된 할 일의 카테고리별 현재 상태 수 (카테고리 없음은 빈 문자열)
+ */
+@Entity
+@Table(name = "todo_daily_category_rollup")
+@IdClass(TodoDailyCategoryRollup.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TodoDailyCategoryRollup {
+
+    /**
+     * 사용자 고유 ID
+     */
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    /**
+     * 집계 일자 (생성일)
+     */
+    @Id
+    @Column(name = "rollup_date")
+    private LocalDate rollupDate;
+
+    /**
+     * 카테고리
+     */
+    @Id
+    @Column(name = "category", length = 255)
+    private String category;
+
+    /**
+     * 완료된 할 일 수
+     */
+    @Column(name = "completed", nullable = false)
+    private long completed;
+
+    /**
+     * 진행중인 할 일 수
+     */
+    @Column(name = "in_progress", nullable = false)
+    private long inProgress;
+
+    /**
+     * 보류중인 할 일 수
+     */
+    @Column(name = "on_hold", nullable = false)
+    private long onHold;
+
+    /**
+     * 상태별 할 일 수 증가
+     * @param status 상태
+     * @param count 할 일 수
+     */
+    public void add(ToDo.TaskStatus status, long count){
+        switch (status){
+            case COMPLETE -> completed += count;
+            case IN_PROGRESS -> inProgress += count;
+            case ON_HOLD -> onHold += count;
+        }
+    }
+
+    /**
+     * 복합 키 (user_id, rollup_date, category)
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long userId;
+        private LocalDate rollupDate;
+        private String category;
+    }
+}
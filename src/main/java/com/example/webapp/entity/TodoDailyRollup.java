@@ -0,0 +1,140 @@
+package com.example.webapp.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * 사용자 일자별 할 일 집계 엔티티
+ * 마감된 일자의 분석 조회를 todos 스캔 없이 처리하기 위해 야간 작업이 적재
+ */
+@Entity
+@Table(name = "todo_daily_rollup")
+@IdClass(TodoDailyRollup.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TodoDailyRollup {
+
+    /**
+     * 사용자 고유 ID
+     */
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    /**
+     * 집계 일자
+     */
+    @Id
+    @Column(name = "rollup_date")
+    private LocalDate rollupDate;
+
+    /**
+     * 해당 일자에 생성된 할 일 수
+     */
+    @Column(name = "created", nullable = false)
+    private long created;
+
+    /**
+     * 해당 일자에 생성된 우선순위 매우 높음 할 일 수
+     */
+    @Column(name = "created_very_high", nullable = false)
+    private long createdVeryHigh;
+
+    /**
+     * 해당 일자에 생성된 우선순위 높음 할 일 수
+     */
+    @Column(name = "created_high", nullable = false)
+    private long createdHigh;
+
+    /**
+     * 해당 일자에 생성된 우선순위 중간 할 일 수
+     */
+    @Column(name = "created_middle", nullable = false)
+    private long createdMiddle;
+
+    /**
+     * 해당 일자에 생성된 우선순위 낮음 할 일 수
+     */
+    @Column(name = "created_low", nullable = false)
+    private long createdLow;
+
+    /**
+     * 해당 일자에 생성된 우선순위 매우 낮음 할 일 수
+     */
+    @Column(name = "created_very_low", nullable = false)
+    private long createdVeryLow;
+
+    /**
+     * 완료 일시가 해당 일자인 할 일 수
+     */
+    @Column(name = "done", nullable = false)
+    private long done;
+
+    /**
+     * 완료 일시가 해당 일자이면서 현재 완료 상태인 할 일 수
+     */
+    @Column(name = "done_completed", nullable = false)
+    private long doneCompleted;
+
+    /**
+     * 예정일이 해당 일자인 할 일 수
+     */
+    @Column(name = "planned", nullable = false)
+    private long planned;
+
+    /**
+     * 예정일이 해당 일자이면서 현재 완료 상태인 할 일 수
+     */
+    @Column(name = "planned_completed", nullable = false)
+    private long plannedCompleted;
+
+    /**
+     * 생성 우선순위별 할 일 수 증가
+     * @param priority 우선순위
+     * @param count 할 일 수
+     */
+    public void addCreated(ToDo.TaskPriority priority, long count){
+        created += count;
+
+        switch (priority){
+            case VERY_HIGH -> createdVeryHigh += count;
+            case HIGH -> createdHigh += count;
+            case MIDDLE -> createdMiddle += count;
+            case LOW -> createdLow += count;
+            case VERY_LOW -> createdVeryLow += count;
+        }
+    }
+
+    /**
+     * 생성 우선순위별 할 일 수
+     * @param priority 우선순위
+     * @return 할 일 수
+     */
+    public long getCreated(ToDo.TaskPriority priority){
+        return switch (priority){
+            case VERY_HIGH -> createdVeryHigh;
+            case HIGH -> createdHigh;
+            case MIDDLE -> createdMiddle;
+            case LOW -> createdLow;
+            case VERY_LOW -> createdVeryLow;
+        };
+    }
+
+    /**
+     * 복합 키 (user_id, rollup_date)
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long userId;
+        private LocalDate rollupDate;
+    }
+}
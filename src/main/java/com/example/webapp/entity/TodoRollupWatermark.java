@@ -0,0 +1,39 @@
+package com.example.webapp.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 일자별 집계 작업 진행 상태 엔티티
+ */
+@Entity
+@Table(name = "todo_rollup_watermark")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TodoRollupWatermark {
+
+    /**
+     * 집계 작업명
+     */
+    @Id
+    @Column(name = "job_name", length = 50)
+    private String jobName;
+
+    /**
+     * 이 시각 이후 할 일이 변경 / 삭제된 사용자는 다음 실행에서 전체 일자를 다시 집계
+     */
+    @Column(name = "changed_since", nullable = false)
+    private LocalDateTime changedSince;
+
+    /**
+     * 이 일자 이전은 집계 테이블로 조회
+     */
+    @Column(name = "closed_before", nullable = false)
+    private LocalDate closedBefore;
+}
@@ -0,0 +1,71 @@
+package com.example.webapp.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * 삭제된 할 일 기록 엔티티
+ * 캘린더 증분 동기화 시 삭제 변경분을 전달하기 위해 보관
+ */
+@Entity
+@Table(name = "todo_tombstones",
+    indexes = {
+        @Index(name = "idx_todo_tombstones_user_deleted", columnList = "user_id, deleted_at")
+    })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TodoTombstone {
+
+    /**
+     * 삭제된 할 일 ID (할 일 ID 는 재사용되지 않음)
+     */
+    @Id
+    @Column(name = "todo_id")
+    private Integer todoId;
+
+    /**
+     * 할 일 소유자 ID
+     */
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    /**
+     * 삭제 일시
+     */
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+
+    /**
+     * 삭제된 할 일의 생성일 (일자별 재집계 대상, 기록 이전 삭제분은 null)
+     */
+    @Column(name = "created_date")
+    private LocalDate createdDate;
+
+    /**
+     * 삭제된 할 일이 집계에 반영되어 있던 예정일
+     */
+    @Column(name = "planned_date")
+    private LocalDate plannedDate;
+
+    /**
+     * 삭제된 할 일이 집계에 반영되어 있던 완료일
+     */
+    @Column(name = "done_date")
+    private LocalDate doneDate;
+
+    /**
+     * 삭제로 다시 집계해야 하는 일자
+     * @return null 을 제외한 일자
+     */
+    public Stream<LocalDate> rollupDates() {
+        return Stream.of(createdDate, plannedDate, doneDate).filter(Objects::nonNull);
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.webapp.entity;
 
+import com.example.webapp.common.cache.UserCacheInvalidationListener;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
@@ -16,6 +17,7 @@ import java.time.LocalDateTime;
  * JWT 인증 시스템에서 사용되는 정보
  */
 @Entity
+@EntityListeners(UserCacheInvalidationListener.class)
 @Table (name = "users",
         uniqueConstraints = {
         @UniqueConstraint(columnNames = "username"),
@@ -28,6 +30,11 @@ import java.time.LocalDateTime;
 @ToString(exclude = "password") //비밀번호는 TtoString에서 제외
 public class User {
 
+    /**
+     * 기본 시간대
+     */
+    public static final String DEFAULT_TIME_ZONE = "Asia/Seoul";
+
     /**
      * 사용자 고유 ID(Primary Key)
      */
@@ -70,6 +77,13 @@ public class User {
     @Builder.Default
     private boolean enabled = true;
 
+    /**
+     * 사용자 시간대 (IANA ID, 예: Asia/Seoul)
+     * 날짜 경계(오늘, 지연) 계산 기준
+     */
+    @Column(name = "time_zone", nullable = false, length = 40)
+    private String timeZone;
+
     /**
      * 엔티티 생성 시간
      */
@@ -90,6 +104,16 @@ public class User {
     @JsonSerialize(using = LocalDateTimeSerializer.class)
     private LocalDateTime updatedAt;
 
+    /**
+     * 시간대를 지정하지 않은 경우 기본 시간대로 저장
+     */
+    @PrePersist
+    void prePersist(){
+        if(timeZone == null){
+            timeZone = DEFAULT_TIME_ZONE;
+        }
+    }
+
     /**
      * 활성 여부 반환 (Spring Security 연동)
      *
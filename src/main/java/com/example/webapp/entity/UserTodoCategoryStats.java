@@ -0,0 +1,53 @@
+package com.example.webapp.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+
+/**
+ * 사용자별 카테고리 할 일 수 엔티티 (읽기 모델)
+ * 카테고리가 없는 할 일은 빈 문자열로 집계
+ */
+@Entity
+@Table(name = "user_todo_category_stats")
+@IdClass(UserTodoCategoryStats.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserTodoCategoryStats {
+
+    /**
+     * 사용자 고유 ID
+     */
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    /**
+     * 카테고리
+     */
+    @Id
+    @Column(name = "category", length = 255)
+    private String category;
+
+    /**
+     * 할 일 수
+     */
+    @Column(name = "todo_count", nullable = false)
+    private long todoCount;
+
+    /**
+     * 복합 키 (user_id, category)
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long userId;
+        private String category;
+    }
+}
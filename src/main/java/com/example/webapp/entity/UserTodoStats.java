@@ -0,0 +1,87 @@
+package com.example.webapp.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 할 일 통계 엔티티 (읽기 모델)
+ * 할 일 변경 시 같은 트랜잭션에서 증감하며, 재집계 작업이 todos 기준으로 보정
+ */
+@Entity
+@Table(name = "user_todo_stats")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserTodoStats {
+
+    /**
+     * 사용자 고유 ID
+     */
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    /**
+     * 전체 할 일 수
+     */
+    @Column(name = "total", nullable = false)
+    private long total;
+
+    /**
+     * 완료된 할 일 수
+     */
+    @Column(name = "completed", nullable = false)
+    private long completed;
+
+    /**
+     * 진행중인 할 일 수
+     */
+    @Column(name = "in_progress", nullable = false)
+    private long inProgress;
+
+    /**
+     * 보류중인 할 일 수
+     */
+    @Column(name = "on_hold", nullable = false)
+    private long onHold;
+
+    /**
+     * 우선순위 매우 높음
+     */
+    @Column(name = "priority_very_high", nullable = false)
+    private long veryHigh;
+
+    /**
+     * 우선순위 높음
+     */
+    @Column(name = "priority_high", nullable = false)
+    private long high;
+
+    /**
+     * 우선순위 중간
+     */
+    @Column(name = "priority_middle", nullable = false)
+    private long middle;
+
+    /**
+     * 우선순위 낮음
+     */
+    @Column(name = "priority_low", nullable = false)
+    private long low;
+
+    /**
+     * 우선순위 매우 낮음
+     */
+    @Column(name = "priority_very_low", nullable = false)
+    private long veryLow;
+
+    /**
+     * 마지막 반영 일시
+     */
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
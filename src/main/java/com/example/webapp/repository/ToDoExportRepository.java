@@ -0,0 +1,20 @@
+package com.example.webapp.repository;
+
+import com.example.webapp.entity.ToDo;
+
+import java.util.stream.Stream;
+
+/**
+ * ToDoRepository 내보내기용 스트리밍 조회 QueryDSL 인터페이스
+ */
+public interface ToDoExportRepository {
+
+    /**
+     * 사용자의 전체 할 일을 id 순서로 스트리밍 조회 (내보내기용)
+     * 읽기 전용으로 조회하며 DB 커서에서 나누어 읽어 전체 결과를 메모리에 올리지 않음
+     * 반드시 트랜잭션 내에서 사용 후 close 해야 함
+     * @param userId 사용자 고유 ID
+     * @return 할 일 Stream (사용자 fetch join)
+     */
+    Stream<ToDo> streamByUserId(Long userId);
+}
@@ -1,8 +1,7 @@
 package com.example.webapp.repository;
 
-import com.example.webapp.DTO.BestProducibilityDateDTO;
+import com.example.webapp.DTO.TodoAggregateDTO;
 import com.example.webapp.DTO.WarnInsightDTO;
-import com.example.webapp.entity.ToDo;
 import com.example.webapp.entity.User;
 
 import java.time.LocalDateTime;
@@ -13,8 +12,15 @@ import java.util.List;
  */
 public interface ToDoInsightRepository {
 
-    BestProducibilityDateDTO getBestProducibilityDate(User user);
-
     List<WarnInsightDTO> getWarnInsight(User user);
 
+    /**
+     * 사용자의 상태별, 우선순위별, 지연, 활동일 카운터를 단일 쿼리로 집계
+     * @param userId 사용자 고유 ID
+     * @param now 지연 여부 판단 기준 시각
+     * @param activeSince 활동일 집계 시작 시각
+     * @return 집계 결과
+     */
+    TodoAggregateDTO getTodoAggregate(Long userId, LocalDateTime now, LocalDateTime activeSince);
+
 }
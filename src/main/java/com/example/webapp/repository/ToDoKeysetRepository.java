@@ -0,0 +1,37 @@
+package com.example.webapp.repository;
+
+import com.example.webapp.DTO.request.TodoCursor;
+import com.example.webapp.DTO.request.TodoCursorSort;
+import com.example.webapp.entity.ToDo;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * ToDoRepository 커서(keyset) 기반 조회 QueryDSL 인터페이스
+ */
+public interface ToDoKeysetRepository {
+
+    /**
+     * 커서 이후의 할 일을 (정렬 키, id) 순서로 조회
+     * OFFSET / COUNT 없이 인덱스 범위 탐색만 수행
+     * @param userId 사용자 고유 ID
+     * @param sort 정렬 기준
+     * @param cursor 마지막으로 조회한 위치 (null 이면 처음부터)
+     * @param limit 조회할 최대 건수
+     * @return 할 일 리스트 (사용자 fetch join)
+     */
+    List<ToDo> findPageAfter(Long userId, TodoCursorSort sort, TodoCursor cursor, int limit);
+
+    /**
+     * 완료되지 않은 지연 할 일을 커서 이후 (예정일, id) 순서로 조회
+     * 상태별로 (user_id, status, planning_date) 인덱스를 순서대로 탐색한 결과를 병합
+     * @param userId 사용자 고유 ID
+     * @param before 이 일시 이전 예정일을 지연으로 판단
+     * @param cursor 마지막으로 조회한 위치 (null 이면 처음부터)
+     * @param limit 조회할 최대 건수
+     * @return 할 일 리스트 (사용자 fetch join)
+     */
+    List<ToDo> findOverduePageAfter(Long userId, LocalDateTime before, TodoCursor cursor, int limit);
+
+}
@@ -0,0 +1,38 @@
+package com.example.webapp.repository;
+
+import com.example.webapp.DTO.CategoryDistribution;
+import com.example.webapp.entity.TodoDailyCategoryRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface TodoDailyCategoryRollupRepository extends JpaRepository<TodoDailyCategoryRollup, TodoDailyCategoryRollup.Key> {
+
+    /**
+     * 기간 내 생성된 할 일의 카테고리별 상태 분포 합계
+     * @param userId 사용자 고유 ID
+     * @param from 시작 일자 (포함)
+     * @param before 종료 일자 (미포함)
+     * @return 카테고리별 분포 (카테고리 없음은 빈 문자열)
+     */
+    @Query("SELECT new com.example.webapp.DTO.CategoryDistribution(c.category, SUM(c.completed), SUM(c.inProgress), SUM(c.onHold), 0L) " +
+            "FROM TodoDailyCategoryRollup c " +
+            "WHERE c.userId = :userId AND c.rollupDate >= :from AND c.rollupDate < :before " +
+            "GROUP BY c.category")
+    List<CategoryDistribution> sumByCategory(@Param("userId") Long userId, @Param("from") LocalDate from, @Param("before") LocalDate before);
+
+    /**
+     * 재집계 전 사용자의 일자 구간 카테고리 분포 삭제
+     * @param userId 사용자 고유 ID
+     * @param from 시작 일자 (포함)
+     * @param before 종료 일자 (미포함)
+     * @return 삭제된 행 수
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM TodoDailyCategoryRollup c WHERE c.userId = :userId AND c.rollupDate >= :from AND c.rollupDate < :before")
+    int deleteRange(@Param("userId") Long userId, @Param("from") LocalDate from, @Param("before") LocalDate before);
+}
@@ -0,0 +1,58 @@
+package com.example.webapp.repository;
+
+import com.example.webapp.DTO.DailyTodoCountDTO;
+import com.example.webapp.entity.TodoDailyRollup;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface TodoDailyRollupRepository extends JpaRepository<TodoDailyRollup, TodoDailyRollup.Key> {
+
+    /**
+     * 기간 내 일자별 집계 조회
+     * @param userId 사용자 고유 ID
+     * @param from 시작 일자 (포함)
+     * @param before 종료 일자 (미포함)
+     * @return 일자 순 집계 리스트 (할 일이 없던 일자는 제외)
+     */
+    @Query("SELECT r FROM TodoDailyRollup r WHERE r.userId = :userId AND r.rollupDate >= :from AND r.rollupDate < :before ORDER BY r.rollupDate")
+    List<TodoDailyRollup> findRange(@Param("userId") Long userId, @Param("from") LocalDate from, @Param("before") LocalDate before);
+
+    /**
+     * 기준 일자 이전 예정일의 전체 / 완료 누적값 (완료 추이 시작값)
+     * @param userId 사용자 고유 ID
+     * @param before 기준 일자 (미포함)
+     * @return 일자가 없는 누적 집계
+     */
+    @Query("SELECT new com.example.webapp.DTO.DailyTodoCountDTO(SUM(r.planned), SUM(r.plannedCompleted)) " +
+            "FROM TodoDailyRollup r WHERE r.userId = :userId AND r.rollupDate < :before")
+    DailyTodoCountDTO sumPlannedBefore(@Param("userId") Long userId, @Param("before") LocalDate before);
+
+    /**
+     * 예정된 할 일이 기준 수 이상인 일자를 완료율, 완료 수, 최근 일자 순으로 조회
+     * (user_id, rollup_date) 기본키 범위에서 정렬하므로 todos 를 스캔하지 않음
+     * @param userId 사용자 고유 ID
+     * @param minPlanned 최소 예정 할 일 수
+     * @param pageable 최대 조회 일자 수
+     * @return 최고 작업일 순 집계 리스트
+     */
+    @Query("SELECT r FROM TodoDailyRollup r WHERE r.userId = :userId AND r.planned >= :minPlanned " +
+            "ORDER BY (r.plannedCompleted * 100 / r.planned) DESC, r.plannedCompleted DESC, r.rollupDate DESC")
+    List<TodoDailyRollup> findBestDays(@Param("userId") Long userId, @Param("minPlanned") long minPlanned, Pageable pageable);
+
+    /**
+     * 재집계 전 사용자의 일자 구간 집계 삭제
+     * @param userId 사용자 고유 ID
+     * @param from 시작 일자 (포함)
+     * @param before 종료 일자 (미포함)
+     * @return 삭제된 행 수
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM TodoDailyRollup r WHERE r.userId = :userId AND r.rollupDate >= :from AND r.rollupDate < :before")
+    int deleteRange(@Param("userId") Long userId, @Param("from") LocalDate from, @Param("before") LocalDate before);
+}
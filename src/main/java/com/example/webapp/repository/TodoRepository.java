@@ -1,13 +1,20 @@
 package com.example.webapp.repository;
 
 import com.example.webapp.DTO.AnalyticsDistributionDTO;
+import com.example.webapp.DTO.CalendarTodoDTO;
 import com.example.webapp.DTO.CategoryDistribution;
+import com.example.webapp.DTO.DailyTodoCountDTO;
 import com.example.webapp.DTO.PriorityDistribution;
+import com.example.webapp.DTO.ToDoResponseDTO;
+import com.example.webapp.DTO.TodoDailyBucketDTO;
+import com.example.webapp.DTO.TodoRollupDatesDTO;
+import com.example.webapp.DTO.TodoStatsBucketDTO;
 import com.example.webapp.entity.ToDo;
 import com.example.webapp.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -16,14 +23,16 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
-public interface TodoRepository extends JpaRepository<ToDo, Long>, ToDoInsightRepository {
+public interface TodoRepository extends JpaRepository<ToDo, Integer>, ToDoInsightRepository, ToDoKeysetRepository, ToDoExportRepository {
 
     /**
-     * ID를 통해 할 일 조회
+     * 사용자 소유의 할 일 단건 조회 (소유자 검증과 조회를 하나의 SELECT 로 처리)
      * @param id 할 일 ID
-     * @return 할 일 entity (Optional)
+     * @param userId 사용자 고유 ID
+     * @return 할 일 entity (Optional), 다른 사용자의 할 일이면 empty
      */
-    Optional<ToDo> findById(int id);
+    @Query("SELECT t FROM ToDo t JOIN FETCH t.user WHERE t.id = :id AND t.user.id = :userId")
+    Optional<ToDo> findByIdAndUserId(@Param("id") Integer id, @Param("userId") Long userId);
 
     /**
      * 사용자를 통해 할 일 조회
@@ -41,6 +50,23 @@ public interface TodoRepository extends JpaRepository<ToDo, Long>, ToDoInsightRe
      */
     List<ToDo> findByUserAndPlanningDateBetween(User user, LocalDateTime startDate, LocalDateTime endDate);
 
+    /**
+     * 예정일 기간 내 할 일을 응답 DTO 로 직접 조회 (오늘 할 일)
+     * (user_id, planning_date) 인덱스 범위 탐색 후 엔티티 적재 없이 필요한 컬럼만 조회
+     * @param userId 사용자 ID
+     * @param startDate 조회 시작일시
+     * @param endDate 조회 종료일시
+     * @return 예정일, ID 순 할 일 응답 리스트
+     */
+    @Query("SELECT new com.example.webapp.DTO.ToDoResponseDTO(t.id, t.title, t.memo, t.taskPriority, t.status, " +
+            "t.category, t.planningDate, t.doneAt, t.createdAt, u.username, t.version) " +
+            "FROM ToDo t JOIN t.user u " +
+            "WHERE u.id = :userId AND t.planningDate BETWEEN :startDate AND :endDate " +
+            "ORDER BY t.planningDate, t.id")
+    List<ToDoResponseDTO> findTodayResponses(@Param("userId") Long userId,
+                                             @Param("startDate") LocalDateTime startDate,
+                                             @Param("endDate") LocalDateTime endDate);
+
     /**
      * 우선 순위 및 상태를 기준으로 조회
      * @param taskPriority 우선순위
@@ -79,14 +105,6 @@ public interface TodoRepository extends JpaRepository<ToDo, Long>, ToDoInsightRe
      */
     long countByUserAndPlanningDateBeforeAndStatus(User user, LocalDateTime targetDate, ToDo.TaskStatus status);
 
-    /**
-     * 요청한 유저의 특정 기간 이전 할 일을 조회합니다
-     * @param user 사용자 객체
-     * @param planningDate 특정 날짜
-     * @return 선택한 날짜 이전의 할 일
-     */
-    List<ToDo> findByUserAndPlanningDateBefore(User user, LocalDateTime planningDate);
-
     /**
      * 시작일자와 종료일자 에정일자를 기준으로 할 일 갯수 조회
      * @param user 사용자 객체
@@ -169,5 +187,238 @@ public interface TodoRepository extends JpaRepository<ToDo, Long>, ToDoInsightRe
             "GROUP BY t.category")
     List<CategoryDistribution> countByUserAndCategoryAndTask(@Param("userId") Long userId, @Param("startDate") LocalDateTime startDate);
 
+    /**
+     * 선택한 구간에 예정된 할 일의 전체 / 완료 갯수를 조회
+     * 완료 추이 누적합의 시작값 중 일자별 집계에 포함되지 않은 구간에 사용
+     * @param userId 사용자 고유 ID
+     * @param from 구간 시작 시각 (포함)
+     * @param before 구간 종료 시각 (미포함)
+     * @return 일자가 없는 누적 집계
+     */
+    @Query("SELECT new com.example.webapp.DTO.DailyTodoCountDTO(COUNT(t), " +
+            "SUM(CASE WHEN t.status = 'COMPLETE' THEN 1L ELSE 0L END)) " +
+            "FROM ToDo t " +
+            "WHERE t.user.id = :userId AND t.planningDate >= :from AND t.planningDate < :before")
+    DailyTodoCountDTO countPlannedBetween(@Param("userId") Long userId, @Param("from") LocalDateTime from, @Param("before") LocalDateTime before);
+
+    /**
+     * 기간 내 예정일 기준 일자별 전체 / 완료 갯수를 조회
+     * @param userId 사용자 고유 ID
+     * @param startDate 조회 시작 시각
+     * @param endDate 조회 종료 시각
+     * @return 일자별 집계 리스트 (할 일이 없는 일자는 제외)
+     */
+    @Query("SELECT new com.example.webapp.DTO.DailyTodoCountDTO(CAST(t.planningDate AS LocalDate), COUNT(t), " +
+            "SUM(CASE WHEN t.status = 'COMPLETE' THEN 1L ELSE 0L END)) " +
+            "FROM ToDo t " +
+            "WHERE t.user.id = :userId AND t.planningDate >= :startDate AND t.planningDate <= :endDate " +
+            "GROUP BY CAST(t.planningDate AS LocalDate)")
+    List<DailyTodoCountDTO> countPlannedPerDay(@Param("userId") Long userId, @Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
+
+    /**
+     * 기간 내 생성일 기준 일자별 생성 갯수를 조회
+     * @param userId 사용자 고유 ID
+     * @param startDate 조회 시작 시각
+     * @param endDate 조회 종료 시각
+     * @return 일자별 생성 갯수 리스트 (total 에 생성 갯수를 담음)
+     */
+    @Query("SELECT new com.example.webapp.DTO.DailyTodoCountDTO(CAST(t.createdAt AS LocalDate), COUNT(t), 0L) " +
+            "FROM ToDo t " +
+            "WHERE t.user.id = :userId AND t.createdAt >= :startDate AND t.createdAt <= :endDate " +
+            "GROUP BY CAST(t.createdAt AS LocalDate)")
+    List<DailyTodoCountDTO> countCreatedPerDay(@Param("userId") Long userId, @Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
+
+    /**
+     * 기간 내 완료일 기준 일자별 완료 처리 / 현재 완료 상태 갯수를 조회
+     * @param userId 사용자 고유 ID
+     * @param startDate 조회 시작 시각 (포함)
+     * @param endDate 조회 종료 시각 (미포함)
+     * @return 일자별 집계 리스트 (total: 완료 일시가 해당 일자인 할 일, completed: 그 중 현재 완료 상태)
+     */
+    @Query("SELECT new com.example.webapp.DTO.DailyTodoCountDTO(CAST(t.doneAt AS LocalDate), COUNT(t), " +
+            "SUM(CASE WHEN t.status = 'COMPLETE' THEN 1L ELSE 0L END)) " +
+            "FROM ToDo t " +
+            "WHERE t.user.id = :userId AND t.doneAt >= :startDate AND t.doneAt < :endDate " +
+            "GROUP BY CAST(t.doneAt AS LocalDate)")
+    List<DailyTodoCountDTO> countDonePerDay(@Param("userId") Long userId, @Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
+
+    /**
+     * 기간 내 생성일 기준 (일자, 상태, 우선순위, 카테고리) 별 갯수를 조회 (일자별 집계 적재용)
+     * @param userId 사용자 고유 ID
+     * @param startDate 조회 시작 시각 (포함)
+     * @param endDate 조회 종료 시각 (미포함)
+     * @return 그룹별 할 일 수
+     */
+    @Query("SELECT new com.example.webapp.DTO.TodoDailyBucketDTO(CAST(t.createdAt AS LocalDate), t.status, t.taskPriority, t.category, COUNT(t)) " +
+            "FROM ToDo t " +
+            "WHERE t.user.id = :userId AND t.createdAt >= :startDate AND t.createdAt < :endDate " +
+            "GROUP BY CAST(t.createdAt AS LocalDate), t.status, t.taskPriority, t.category")
+    List<TodoDailyBucketDTO> countCreatedBuckets(@Param("userId") Long userId, @Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
+
+    /**
+     * 기준 시각 이후 할 일이 생성 / 수정된 사용자 ID 조회 (일자별 재집계 대상)
+     * @param since 기준 시각
+     * @return 사용자 ID 리스트
+     */
+    @Query("SELECT DISTINCT t.user.id FROM ToDo t WHERE t.updatedAt > :since")
+    List<Long> findUserIdsUpdatedSince(@Param("since") LocalDateTime since);
+
+    /**
+     * 기준 시각 이후 생성 / 수정된 할 일의 현재 일자와 마지막 집계 시점 일자 조회 (일자별 부분 재집계 대상)
+     * @param userId 사용자 고유 ID
+     * @param since 기준 시각
+     * @return 할 일별 집계 일자
+     */
+    @Query("SELECT new com.example.webapp.DTO.TodoRollupDatesDTO(CAST(t.createdAt AS LocalDate), " +
+            "CAST(t.planningDate AS LocalDate), CAST(t.doneAt AS LocalDate), t.rollupPlannedDate, t.rollupDoneDate) " +
+            "FROM ToDo t WHERE t.user.id = :userId AND t.updatedAt > :since")
+    List<TodoRollupDatesDTO> findRollupDatesUpdatedSince(@Param("userId") Long userId, @Param("since") LocalDateTime since);
+
+    /**
+     * 기준 시각 이후 생성 / 수정된 할 일의 집계 반영 일자를 현재 예정일 / 완료일로 갱신
+     * 수정 일시와 버전은 바꾸지 않으므로 다음 실행에서 변경으로 보지 않음
+     * @param userId 사용자 고유 ID
+     * @param since 기준 시각
+     * @return 갱신된 행 수
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ToDo t SET t.rollupPlannedDate = CAST(t.planningDate AS LocalDate), " +
+            "t.rollupDoneDate = CAST(t.doneAt AS LocalDate), t.updatedAt = t.updatedAt " +
+            "WHERE t.user.id = :userId AND t.updatedAt > :since")
+    int markRolledUpSince(@Param("userId") Long userId, @Param("since") LocalDateTime since);
+
+    /**
+     * 사용자의 모든 할 일의 집계 반영 일자를 현재 예정일 / 완료일로 갱신 (전체 재집계용)
+     * @param userId 사용자 고유 ID
+     * @return 갱신된 행 수
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ToDo t SET t.rollupPlannedDate = CAST(t.planningDate AS LocalDate), " +
+            "t.rollupDoneDate = CAST(t.doneAt AS LocalDate), t.updatedAt = t.updatedAt " +
+            "WHERE t.user.id = :userId")
+    int markAllRolledUp(@Param("userId") Long userId);
+
+    /**
+     * 사용자 소유의 할 일 상태를 단일 UPDATE 로 일괄 변경
+     * 영향받은 행 수로 존재 여부와 소유권을 함께 확인
+     * @param ids 변경할 할 일 ID 리스트
+     * @param userId 사용자 고유 ID
+     * @param status 변경할 상태
+     * @param doneAt 완료 시각 (완료가 아니면 null)
+     * @param updatedAt 수정 시각
+     * @return 변경된 행 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ToDo t SET t.status = :status, t.doneAt = :doneAt, t.updatedAt = :updatedAt, t.version = t.version + 1 " +
+            "WHERE t.id IN :ids AND t.user.id = :userId")
+    int updateStatusByIdsAndUserId(@Param("ids") List<Integer> ids, @Param("userId") Long userId,
+                                   @Param("status") ToDo.TaskStatus status, @Param("doneAt") LocalDateTime doneAt,
+                                   @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * 사용자 소유의 할 일을 응답 DTO 로 직접 조회 (엔티티 미적재)
+     * @param ids 조회할 할 일 ID 리스트
+     * @param userId 사용자 고유 ID
+     * @return 할 일 응답 DTO 리스트 (id 순)
+     */
+    @Query("SELECT new com.example.webapp.DTO.ToDoResponseDTO(t.id, t.title, t.memo, t.taskPriority, t.status, " +
+            "t.category, t.planningDate, t.doneAt, t.createdAt, u.username, t.version) " +
+            "FROM ToDo t JOIN t.user u " +
+            "WHERE t.id IN :ids AND u.id = :userId " +
+            "ORDER BY t.id")
+    List<ToDoResponseDTO> findResponsesByIdsAndUserId(@Param("ids") List<Integer> ids, @Param("userId") Long userId);
+
+    /**
+     * 사용자 소유의 할 일을 단일 DELETE 로 삭제 (엔티티 미적재)
+     * @param ids 삭제할 할 일 ID 리스트
+     * @param userId 사용자 고유 ID
+     * @return 삭제된 행 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM ToDo t WHERE t.id IN :ids AND t.user.id = :userId")
+    int deleteByIdsAndUserId(@Param("ids") List<Integer> ids, @Param("userId") Long userId);
+
+    /**
+     * 완료되지 않은 지연 할 일 수
+     * @param userId 사용자 고유 ID
+     * @param statuses 포함할 상태 (완료 제외)
+     * @param before 이 일시 이전 예정일을 지연으로 판단
+     * @return 지연 할 일 수
+     */
+    @Query("SELECT COUNT(t) FROM ToDo t WHERE t.user.id = :userId AND t.status IN :statuses AND t.planningDate < :before")
+    long countOverdue(@Param("userId") Long userId, @Param("statuses") List<ToDo.TaskStatus> statuses, @Param("before") LocalDateTime before);
+
+    /**
+     * 선택한 할 일의 (상태, 우선순위, 카테고리) 별 갯수 (통계 증감분 계산용 변경 전 값)
+     * @param ids 할 일 ID 리스트
+     * @param userId 사용자 고유 ID
+     * @return 그룹별 할 일 수
+     */
+    @Query("SELECT new com.example.webapp.DTO.TodoStatsBucketDTO(t.status, t.taskPriority, t.category, COUNT(t)) " +
+            "FROM ToDo t WHERE t.id IN :ids AND t.user.id = :userId " +
+            "GROUP BY t.status, t.taskPriority, t.category")
+    List<TodoStatsBucketDTO> findStatsBucketsByIds(@Param("ids") List<Integer> ids, @Param("userId") Long userId);
+
+    /**
+     * 사용자 전체 할 일의 (상태, 우선순위, 카테고리) 별 갯수 (통계 재집계용)
+     * @param userId 사용자 고유 ID
+     * @return 그룹별 할 일 수
+     */
+    @Query("SELECT new com.example.webapp.DTO.TodoStatsBucketDTO(t.status, t.taskPriority, t.category, COUNT(t)) " +
+            "FROM ToDo t WHERE t.user.id = :userId " +
+            "GROUP BY t.status, t.taskPriority, t.category")
+    List<TodoStatsBucketDTO> findStatsBucketsByUserId(@Param("userId") Long userId);
+
+    /**
+     * 캘린더 표시용 할 일 조회 (필요한 컬럼만 조회)
+     * @param userId 사용자 고유 ID
+     * @param startDate 조회 시작 일시
+     * @param endDate 조회 종료 일시
+     * @return 캘린더 할 일 리스트 (일자, 중요도, 시간 순)
+     */
+    @Query("SELECT new com.example.webapp.DTO.CalendarTodoDTO(t.id, t.title, t.status, t.taskPriority, t.planningDate) " +
+            "FROM ToDo t " +
+            "WHERE t.user.id = :userId AND t.planningDate BETWEEN :startDate AND :endDate " +
+            "ORDER BY CAST(t.planningDate AS LocalDate), t.taskPriority, t.planningDate, t.id")
+    List<CalendarTodoDTO> findCalendarItems(@Param("userId") Long userId, @Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
+
+    /**
+     * 기준 일시 이후 생성 또는 수정된 할 일 조회 (캘린더 증분 동기화)
+     * @param userId 사용자 고유 ID
+     * @param since 기준 일시 (워터마크)
+     * @param pageable 최대 조회 건수
+     * @return 캘린더 할 일 리스트 (수정 순)
+     */
+    @Query("SELECT new com.example.webapp.DTO.CalendarTodoDTO(t.id, t.title, t.status, t.taskPriority, t.planningDate) " +
+            "FROM ToDo t " +
+            "WHERE t.user.id = :userId AND t.updatedAt > :since " +
+            "ORDER BY t.updatedAt, t.id")
+    List<CalendarTodoDTO> findCalendarChangesSince(@Param("userId") Long userId, @Param("since") LocalDateTime since, Pageable pageable);
+
+    /**
+     * 사용자 소유의 할 일 상태를 단일 UPDATE 로 변경
+     * @param id 할 일 ID
+     * @param userId 사용자 고유 ID
+     * @param status 변경할 상태
+     * @param doneAt 완료 일시 (완료가 아니면 null)
+     * @param updatedAt 수정 일시
+     * @return 변경된 행 수 (0 이면 없거나 다른 사용자의 할 일)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ToDo t SET t.status = :status, t.doneAt = :doneAt, t.updatedAt = :updatedAt, t.version = t.version + 1 " +
+            "WHERE t.id = :id AND t.user.id = :userId")
+    int updateStatusByIdAndUserId(@Param("id") Integer id, @Param("userId") Long userId,
+                                  @Param("status") ToDo.TaskStatus status, @Param("doneAt") LocalDateTime doneAt,
+                                  @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * 사용자 소유의 할 일을 단일 DELETE 로 삭제
+     * @param id 할 일 ID
+     * @param userId 사용자 고유 ID
+     * @return 삭제된 행 수 (0 이면 없거나 다른 사용자의 할 일)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM ToDo t WHERE t.id = :id AND t.user.id = :userId")
+    int deleteByIdAndUserId(@Param("id") Integer id, @Param("userId") Long userId);
 
 }
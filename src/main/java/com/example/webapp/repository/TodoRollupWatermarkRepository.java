@@ -0,0 +1,7 @@
+package com.example.webapp.repository;
+
+import com.example.webapp.entity.TodoRollupWatermark;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface TodoRollupWatermarkRepository extends JpaRepository<TodoRollupWatermark, String> {
+}
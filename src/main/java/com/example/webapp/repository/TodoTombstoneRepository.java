@@ -0,0 +1,67 @@
+package com.example.webapp.repository;
+
+import com.example.webapp.entity.TodoTombstone;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface TodoTombstoneRepository extends JpaRepository<TodoTombstone, Integer> {
+
+    /**
+     * 사용자 소유의 할 일에 대한 삭제 기록을 INSERT ... SELECT 로 생성 (엔티티 미적재)
+     * 일자별 집계에서 빼야 하는 생성일 / 예정일 / 완료일을 함께 기록
+     * 할 일 DELETE 전에 같은 트랜잭션에서 실행
+     * @param ids 삭제할 할 일 ID 리스트
+     * @param userId 사용자 고유 ID
+     * @param deletedAt 삭제 일시
+     * @return 생성된 기록 수
+     */
+    @Modifying
+    @Query("INSERT INTO TodoTombstone (todoId, userId, deletedAt, createdDate, plannedDate, doneDate) " +
+            "SELECT t.id, t.user.id, :deletedAt, CAST(t.createdAt AS LocalDate), " +
+            "COALESCE(t.rollupPlannedDate, CAST(t.planningDate AS LocalDate)), " +
+            "COALESCE(t.rollupDoneDate, CAST(t.doneAt AS LocalDate)) " +
+            "FROM ToDo t WHERE t.id IN :ids AND t.user.id = :userId")
+    int insertForOwnedTodos(@Param("ids") List<Integer> ids, @Param("userId") Long userId, @Param("deletedAt") LocalDateTime deletedAt);
+
+    /**
+     * 기준 일시 이후 삭제된 할 일 ID 조회
+     * @param userId 사용자 고유 ID
+     * @param since 기준 일시 (워터마크)
+     * @param pageable 최대 조회 건수
+     * @return 삭제된 할 일 ID 리스트 (삭제 순)
+     */
+    @Query("SELECT tt.todoId FROM TodoTombstone tt WHERE tt.userId = :userId AND tt.deletedAt > :since ORDER BY tt.deletedAt, tt.todoId")
+    List<Integer> findDeletedIdsSince(@Param("userId") Long userId, @Param("since") LocalDateTime since, Pageable pageable);
+
+    /**
+     * 기준 일시 이후 할 일을 삭제한 사용자 ID 조회 (일자별 재집계 대상)
+     * @param since 기준 일시
+     * @return 사용자 ID 리스트
+     */
+    @Query("SELECT DISTINCT tt.userId FROM TodoTombstone tt WHERE tt.deletedAt > :since")
+    List<Long> findUserIdsDeletedSince(@Param("since") LocalDateTime since);
+
+    /**
+     * 기준 일시 이후 사용자의 삭제 기록 조회 (삭제된 할 일의 집계 일자 재집계용)
+     * @param userId 사용자 고유 ID
+     * @param since 기준 일시
+     * @return 삭제 기록 리스트
+     */
+    @Query("SELECT tt FROM TodoTombstone tt WHERE tt.userId = :userId AND tt.deletedAt > :since")
+    List<TodoTombstone> findDeletedSince(@Param("userId") Long userId, @Param("since") LocalDateTime since);
+
+    /**
+     * 보관 기간이 지난 삭제 기록 정리
+     * @param cutoff 이 일시 이전의 기록 삭제
+     * @return 삭제된 기록 수
+     */
+    @Modifying
+    @Query("DELETE FROM TodoTombstone tt WHERE tt.deletedAt < :cutoff")
+    int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff);
+}
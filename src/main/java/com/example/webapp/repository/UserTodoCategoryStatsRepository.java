@@ -0,0 +1,40 @@
+package com.example.webapp.repository;
+
+import com.example.webapp.entity.UserTodoCategoryStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface UserTodoCategoryStatsRepository extends JpaRepository<UserTodoCategoryStats, UserTodoCategoryStats.Key> {
+
+    /**
+     * 카테고리 할 일 수 증감 (엔티티 미적재)
+     * @param userId 사용자 고유 ID
+     * @param category 카테고리 키
+     * @param count 증감 수
+     * @return 반영된 행 수 (처음 사용하는 카테고리면 0)
+     */
+    @Modifying
+    @Query("UPDATE UserTodoCategoryStats c SET c.todoCount = c.todoCount + :count WHERE c.userId = :userId AND c.category = :category")
+    int increment(@Param("userId") Long userId, @Param("category") String category, @Param("count") long count);
+
+    /**
+     * 할 일이 남아있는 카테고리 조회
+     * @param userId 사용자 고유 ID
+     * @return 할 일 수 내림차순 카테고리 통계
+     */
+    @Query("SELECT c FROM UserTodoCategoryStats c WHERE c.userId = :userId AND c.todoCount > 0 ORDER BY c.todoCount DESC, c.category")
+    List<UserTodoCategoryStats> findNonEmptyByUserId(@Param("userId") Long userId);
+
+    /**
+     * 재집계 전 사용자의 카테고리 통계 삭제
+     * @param userId 사용자 고유 ID
+     * @return 삭제된 행 수
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM UserTodoCategoryStats c WHERE c.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+}
@@ -0,0 +1,21 @@
+package com.example.webapp.repository;
+
+import com.example.webapp.DTO.TodoStatsDelta;
+
+import java.time.LocalDateTime;
+
+/**
+ * UserTodoStatsRepository QueryDSL 인터페이스
+ */
+public interface UserTodoStatsCounterRepository {
+
+    /**
+     * 통계 행에 증감분을 UPDATE ... SET col = col + ? 로 반영 (엔티티 미적재)
+     * 같은 사용자의 동시 변경은 이 UPDATE 의 행 잠금으로 직렬화됨
+     * @param userId 사용자 고유 ID
+     * @param delta 증감분
+     * @param now 반영 일시
+     * @return 반영된 행 수 (통계 행이 없으면 0)
+     */
+    long applyDelta(Long userId, TodoStatsDelta delta, LocalDateTime now);
+}
@@ -0,0 +1,34 @@
+package com.example.webapp.repository;
+
+import com.example.webapp.entity.UserTodoStats;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface UserTodoStatsRepository extends JpaRepository<UserTodoStats, Long>, UserTodoStatsCounterRepository {
+
+    /**
+     * 재집계를 위해 통계 행을 잠금 조회
+     * 잠금 이후 todos 를 집계하므로, 진행 중인 증감 트랜잭션이 끝난 뒤의 값으로 덮어씀
+     * @param userId 사용자 고유 ID
+     * @return 통계 행
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM UserTodoStats s WHERE s.userId = :userId")
+    Optional<UserTodoStats> findForUpdate(@Param("userId") Long userId);
+
+    /**
+     * 재집계 대상 사용자 ID 를 ID 순으로 조회
+     * @param after 이전 조회의 마지막 사용자 ID
+     * @param pageable 최대 조회 건수
+     * @return 사용자 ID 리스트
+     */
+    @Query("SELECT u.id FROM User u WHERE u.id > :after ORDER BY u.id")
+    List<Long> findUserIdsAfter(@Param("after") Long after, Pageable pageable);
+}
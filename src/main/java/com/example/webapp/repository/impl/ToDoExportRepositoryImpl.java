@@ -0,0 +1,51 @@
+package com.example.webapp.repository.impl;
+
+import com.example.webapp.entity.ToDo;
+import com.example.webapp.repository.ToDoExportRepository;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.jpa.HibernateHints;
+
+import java.util.stream.Stream;
+
+import static com.example.webapp.entity.QToDo.toDo;
+
+public class ToDoExportRepositoryImpl implements ToDoExportRepository {
+
+    /**
+     * MySQL 외 DB 에서 한 번에 읽는 건수
+     */
+    private static final int DEFAULT_FETCH_SIZE = 500;
+
+    //        Config에서 생성한 JPAQueryFactory 주입
+    private final JPAQueryFactory queryFactory;
+
+    /**
+     * 내보내기 조회 fetch size
+     * MySQL 드라이버는 Integer.MIN_VALUE 일 때만 이 조회를 행 단위로 스트리밍하며,
+     * H2 등 다른 드라이버는 음수 fetch size 를 허용하지 않으므로 DB 에 따라 결정
+     */
+    private final int fetchSize;
+
+    public ToDoExportRepositoryImpl(JPAQueryFactory queryFactory, EntityManagerFactory entityManagerFactory) {
+        this.queryFactory = queryFactory;
+        this.fetchSize = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect() instanceof MySQLDialect ? Integer.MIN_VALUE : DEFAULT_FETCH_SIZE;
+    }
+
+    @Override
+    public Stream<ToDo> streamByUserId(Long userId) {
+//      MySQL 스트리밍 중에는 같은 커넥션으로 다른 쿼리를 실행할 수 없으므로 소유자를 함께 조회
+        return queryFactory
+                .selectFrom(toDo)
+                .join(toDo.user).fetchJoin()
+                .where(toDo.user.id.eq(userId))
+                .orderBy(toDo.id.asc())
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .setHint(HibernateHints.HINT_CACHEABLE, false)
+                .stream();
+    }
+}
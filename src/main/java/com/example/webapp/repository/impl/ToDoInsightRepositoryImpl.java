@@ -1,11 +1,12 @@
 package com.example.webapp.repository.impl;
 
-import com.example.webapp.DTO.BestProducibilityDateDTO;
+import com.example.webapp.DTO.TodoAggregateDTO;
 import com.example.webapp.DTO.WarnInsightDTO;
 import com.example.webapp.entity.ToDo;
 import com.example.webapp.entity.User;
 import com.example.webapp.repository.ToDoInsightRepository;
 import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.dsl.CaseBuilder;
 import com.querydsl.core.types.dsl.DateTemplate;
 import com.querydsl.core.types.dsl.Expressions;
@@ -27,54 +28,90 @@ public class ToDoInsightRepositoryImpl implements ToDoInsightRepository {
     //        Config에서 생성한 JPAQueryFactory 주입
     private final JPAQueryFactory queryFactory;
 
-    @Override
-    public BestProducibilityDateDTO getBestProducibilityDate(User user) {
-
-        NumberExpression<Long> totalCount = toDo.count();
-
-        NumberExpression<Long> completeCount =
-                new CaseBuilder()
-                        .when(toDo.status.eq(ToDo.TaskStatus.COMPLETE))
-                        .then(1L)
-                        .otherwise(0L)
-                        .sum();
-
-        NumberExpression<Long> completionRate =
-                completeCount.multiply(100).divide(totalCount);
-
-        return queryFactory
-                .select(Projections.constructor(BestProducibilityDateDTO.class,
-                        toDo.doneAt,
-                        completionRate
-                ))
-                .from(toDo)
-                .where(
-                        toDo.doneAt.isNotNull(),
-                        toDo.user.id.eq(user.getId())
-                )
-                // QueryDSL의 날짜 함수로 그룹화
-                .groupBy(
-                        toDo.doneAt.year(),
-                        toDo.doneAt.month(),
-                        toDo.doneAt.dayOfMonth()
-                )
-                .having(totalCount.goe(1L))
-                .orderBy(completionRate.desc(), totalCount.desc())
-                .limit(1)
-                .fetchOne();
-    }
-
     @Override
     public List<WarnInsightDTO> getWarnInsight(User user) {
         return queryFactory
-                .select(Projections.bean(WarnInsightDTO.class,
-                        toDo.count().as("count"),
-                        toDo.category.as("category")))
+                .select(Projections.constructor(WarnInsightDTO.class,
+                        toDo.category,
+                        toDo.count()))
                 .from(toDo)
                 .where(toDo.user.id.eq(user.getId()),
                         toDo.doneAt.isNotNull(),
                         toDo.planningDate.before(LocalDateTime.now()))
                 .groupBy(toDo.category)
+                // 인사이트 병합 순서를 고정하기 위해 갯수, 카테고리 순 정렬
+                .orderBy(toDo.count().desc(), toDo.category.asc())
                 .fetch();
     }
+
+    @Override
+    public TodoAggregateDTO getTodoAggregate(Long userId, LocalDateTime now, LocalDateTime activeSince) {
+
+        NumberExpression<Long> total = toDo.count();
+        NumberExpression<Long> completed = countWhen(toDo.status.eq(ToDo.TaskStatus.COMPLETE));
+        NumberExpression<Long> inProgress = countWhen(toDo.status.eq(ToDo.TaskStatus.IN_PROGRESS));
+        NumberExpression<Long> onHold = countWhen(toDo.status.eq(ToDo.TaskStatus.ON_HOLD));
+
+        NumberExpression<Long> veryHigh = countWhen(toDo.taskPriority.eq(ToDo.TaskPriority.VERY_HIGH));
+        NumberExpression<Long> high = countWhen(toDo.taskPriority.eq(ToDo.TaskPriority.HIGH));
+        NumberExpression<Long> middle = countWhen(toDo.taskPriority.eq(ToDo.TaskPriority.MIDDLE));
+        NumberExpression<Long> low = countWhen(toDo.taskPriority.eq(ToDo.TaskPriority.LOW));
+        NumberExpression<Long> veryLow = countWhen(toDo.taskPriority.eq(ToDo.TaskPriority.VERY_LOW));
+
+        // 마감일이 지났지만 완료되지 않은 할 일
+        NumberExpression<Long> overdue = countWhen(
+                toDo.planningDate.lt(now)
+                        .and(toDo.status.ne(ToDo.TaskStatus.COMPLETE)));
+
+        // 기준 시각 이후 할 일이 생성된 일자 수
+        NumberExpression<Long> activeDays = Expressions.numberTemplate(Long.class,
+                "count(distinct case when {0} >= {1} then date({0}) else null end)",
+                toDo.createdAt, activeSince);
+
+        Tuple row = queryFactory
+                .select(total, completed, inProgress, onHold,
+                        veryHigh, high, middle, low, veryLow,
+                        overdue, activeDays)
+                .from(toDo)
+                .where(toDo.user.id.eq(userId))
+                .fetchOne();
+
+        if(row == null){
+            return new TodoAggregateDTO();
+        }
+
+        return TodoAggregateDTO.builder()
+                .total(nvl(row.get(total)))
+                .completed(nvl(row.get(completed)))
+                .inProgress(nvl(row.get(inProgress)))
+                .onHold(nvl(row.get(onHold)))
+                .veryHigh(nvl(row.get(veryHigh)))
+                .high(nvl(row.get(high)))
+                .middle(nvl(row.get(middle)))
+                .low(nvl(row.get(low)))
+                .veryLow(nvl(row.get(veryLow)))
+                .overdue(nvl(row.get(overdue)))
+                .activeDays(nvl(row.get(activeDays)))
+                .build();
+    }
+
+    /**
+     * 조건에 해당하는 행 수를 CASE WHEN 조건부 합계로 계산
+     * @param condition 집계 조건
+     * @return 조건부 합계 표현식
+     */
+    private NumberExpression<Long> countWhen(Predicate condition){
+        return new CaseBuilder()
+                .when(condition)
+                .then(1L)
+                .otherwise(0L)
+                .sum();
+    }
+
+    /**
+     * 집계 결과 null(대상 행 없음)을 0으로 변환
+     */
+    private long nvl(Long value){
+        return value == null ? 0L : value;
+    }
 }
@@ -0,0 +1,136 @@
+package com.example.webapp.repository.impl;
+
+import com.example.webapp.DTO.request.TodoCursor;
+import com.example.webapp.DTO.request.TodoCursorSort;
+import com.example.webapp.entity.ToDo;
+import com.example.webapp.repository.ToDoKeysetRepository;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static com.example.webapp.entity.QToDo.toDo;
+
+@RequiredArgsConstructor
+public class ToDoKeysetRepositoryImpl implements ToDoKeysetRepository {
+
+    //        Config에서 생성한 JPAQueryFactory 주입
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public List<ToDo> findPageAfter(Long userId, TodoCursorSort sort, TodoCursor cursor, int limit) {
+
+        if(sort == TodoCursorSort.CREATED_AT){
+            return fetch(afterCreatedAt(userId, cursor), limit, toDo.createdAt.desc(), toDo.id.desc());
+        }
+
+//      예정일이 있는 구간을 먼저 조회하고, 부족한 만큼 예정일이 없는 구간을 이어서 조회 (NULLS LAST)
+        List<ToDo> result = new ArrayList<>();
+
+        if(cursor == null || cursor.getKey() != null){
+            result.addAll(fetch(afterPlanningDate(userId, cursor), limit, toDo.planningDate.asc(), toDo.id.asc()));
+        }
+
+        if(result.size() < limit){
+            Integer afterId = cursor != null && cursor.getKey() == null ? cursor.getId() : null;
+            result.addAll(fetch(withoutPlanningDate(userId, afterId), limit - result.size(), toDo.id.asc()));
+        }
+
+        return result;
+    }
+
+    @Override
+    public List<ToDo> findOverduePageAfter(Long userId, LocalDateTime before, TodoCursor cursor, int limit) {
+
+//      status IN (...) 로 한 번에 조회하면 상태가 다른 구간을 합쳐 정렬(filesort)해야 하므로
+//      상태별로 인덱스 순서대로 limit 건씩 읽어 병합
+        List<ToDo> merged = new ArrayList<>();
+        for(ToDo.TaskStatus status : ToDo.TaskStatus.OVERDUE_STATUSES){
+            merged.addAll(fetch(overdueAfter(userId, status, before, cursor), limit, toDo.planningDate.asc(), toDo.id.asc()));
+        }
+
+        merged.sort(Comparator.comparing(ToDo::getPlanningDate).thenComparing(ToDo::getId));
+
+        return merged.size() > limit ? new ArrayList<>(merged.subList(0, limit)) : merged;
+    }
+
+    /**
+     * 조건에 맞는 할 일을 정렬 순서대로 limit 건 조회
+     * 한 번의 왕복으로 가져오도록 fetch size 를 limit 에 맞춤
+     */
+    private List<ToDo> fetch(Predicate where, int limit, OrderSpecifier<?>... orders) {
+        return queryFactory
+                .selectFrom(toDo)
+                .join(toDo.user).fetchJoin()
+                .where(where)
+                .orderBy(orders)
+                .limit(limit)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, limit)
+                .fetch();
+    }
+
+    /**
+     * (planning_date, id) > (cursor.key, cursor.id)
+     */
+    private Predicate afterPlanningDate(Long userId, TodoCursor cursor) {
+        BooleanBuilder builder = new BooleanBuilder(toDo.user.id.eq(userId))
+                .and(toDo.planningDate.isNotNull());
+
+        if(cursor != null){
+            LocalDateTime key = cursor.getKey();
+            builder.and(toDo.planningDate.gt(key)
+                    .or(toDo.planningDate.eq(key).and(toDo.id.gt(cursor.getId()))));
+        }
+        return builder;
+    }
+
+    /**
+     * status = :status AND planning_date < before AND (planning_date, id) > (cursor.key, cursor.id)
+     */
+    private Predicate overdueAfter(Long userId, ToDo.TaskStatus status, LocalDateTime before, TodoCursor cursor) {
+        BooleanBuilder builder = new BooleanBuilder(toDo.user.id.eq(userId))
+                .and(toDo.status.eq(status))
+                .and(toDo.planningDate.lt(before));
+
+        if(cursor != null && cursor.getKey() != null){
+            LocalDateTime key = cursor.getKey();
+            builder.and(toDo.planningDate.gt(key)
+                    .or(toDo.planningDate.eq(key).and(toDo.id.gt(cursor.getId()))));
+        }
+        return builder;
+    }
+
+    /**
+     * 예정일이 없는 할 일 중 id > afterId
+     */
+    private Predicate withoutPlanningDate(Long userId, Integer afterId) {
+        BooleanBuilder builder = new BooleanBuilder(toDo.user.id.eq(userId))
+                .and(toDo.planningDate.isNull());
+
+        if(afterId != null){
+            builder.and(toDo.id.gt(afterId));
+        }
+        return builder;
+    }
+
+    /**
+     * (created_at, id) < (cursor.key, cursor.id)  (최신순)
+     */
+    private Predicate afterCreatedAt(Long userId, TodoCursor cursor) {
+        BooleanBuilder builder = new BooleanBuilder(toDo.user.id.eq(userId));
+
+        if(cursor != null){
+            LocalDateTime key = cursor.getKey();
+            builder.and(toDo.createdAt.lt(key)
+                    .or(toDo.createdAt.eq(key).and(toDo.id.lt(cursor.getId()))));
+        }
+        return builder;
+    }
+}
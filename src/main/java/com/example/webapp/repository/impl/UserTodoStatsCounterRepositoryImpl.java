@@ -0,0 +1,35 @@
+package com.example.webapp.repository.impl;
+
+import com.example.webapp.DTO.TodoStatsDelta;
+import com.example.webapp.repository.UserTodoStatsCounterRepository;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+
+import static com.example.webapp.entity.QUserTodoStats.userTodoStats;
+
+@RequiredArgsConstructor
+public class UserTodoStatsCounterRepositoryImpl implements UserTodoStatsCounterRepository {
+
+    //        Config에서 생성한 JPAQueryFactory 주입
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public long applyDelta(Long userId, TodoStatsDelta delta, LocalDateTime now) {
+        return queryFactory
+                .update(userTodoStats)
+                .set(userTodoStats.total, userTodoStats.total.add(delta.getTotal()))
+                .set(userTodoStats.completed, userTodoStats.completed.add(delta.getCompleted()))
+                .set(userTodoStats.inProgress, userTodoStats.inProgress.add(delta.getInProgress()))
+                .set(userTodoStats.onHold, userTodoStats.onHold.add(delta.getOnHold()))
+                .set(userTodoStats.veryHigh, userTodoStats.veryHigh.add(delta.getVeryHigh()))
+                .set(userTodoStats.high, userTodoStats.high.add(delta.getHigh()))
+                .set(userTodoStats.middle, userTodoStats.middle.add(delta.getMiddle()))
+                .set(userTodoStats.low, userTodoStats.low.add(delta.getLow()))
+                .set(userTodoStats.veryLow, userTodoStats.veryLow.add(delta.getVeryLow()))
+                .set(userTodoStats.updatedAt, now)
+                .where(userTodoStats.userId.eq(userId))
+                .execute();
+    }
+}
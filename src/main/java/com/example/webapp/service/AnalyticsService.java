@@ -2,6 +2,7 @@ package com.example.webapp.service;
 
 import com.example.webapp.DTO.AnalyticsDistributionDTO;
 import com.example.webapp.DTO.AnalyticsTrendDTO;
+import com.example.webapp.DTO.BestProducibilityDateDTO;
 import com.example.webapp.DTO.InsightDTO;
 import com.example.webapp.DTO.SummaryDTO;
 import com.example.webapp.DTO.request.AnalyticsTrendRequestDTO;
@@ -13,9 +14,21 @@ public interface AnalyticsService {
 
     SummaryDTO calcSummary(SummaryRequestDTO requestDTO);
 
-    List<AnalyticsTrendDTO> getWeekTrend(String trendPeriod);
+    /**
+     * 선택한 기간의 일별 완료 추이 조회
+     * @param trendPeriod 기간 (7d, 30d, 90d, 365d)
+     * @return 일별 완료 추이 리스트
+     */
+    List<AnalyticsTrendDTO> getTrend(String trendPeriod);
 
     AnalyticsDistributionDTO getDistribution(String period);
 
     List<InsightDTO> getInsight();
+
+    /**
+     * 예정일 기준 완료율이 가장 높은 작업일 조회
+     * @param limit 최대 조회 일자 수 (1 ~ 10)
+     * @return 완료율, 완료 수, 최근 일자 순 작업일 리스트
+     */
+    List<BestProducibilityDateDTO> getBestDays(int limit);
 }
@@ -1,5 +1,7 @@
 package com.example.webapp.service;
 
+import com.example.webapp.DTO.CalendarChangesDTO;
+import com.example.webapp.DTO.CalendarDayDTO;
 import com.example.webapp.DTO.ToDoResponseDTO;
 import org.springframework.web.bind.annotation.RequestBody;
 
@@ -11,4 +13,21 @@ public interface CalendarService {
 
     List<ToDoResponseDTO> getThisMonthTodo(LocalDate startDate, LocalDate lastDate);
 
+    /**
+     * 기간 내 일자별 할 일 조회
+     * 일자당 perDay 건까지만 포함하고 나머지는 건수로 제공
+     * @param startDate 조회 시작일
+     * @param lastDate 조회 종료일
+     * @param perDay 일자당 최대 표시 건수
+     * @return 할 일이 있는 일자별 리스트 (일자 순)
+     */
+    List<CalendarDayDTO> getCalendarDays(LocalDate startDate, LocalDate lastDate, int perDay);
+
+    /**
+     * 워터마크 이후 변경된 할 일 조회 (증분 동기화)
+     * @param since 이전 응답의 워터마크 (최초 동기화는 null)
+     * @return 생성/수정된 할 일, 삭제된 할 일 ID, 다음 워터마크
+     */
+    CalendarChangesDTO getChanges(String since);
+
 }
@@ -1,5 +1,6 @@
 package com.example.webapp.service;
 
+import com.example.webapp.DTO.CursorPageDTO;
 import com.example.webapp.DTO.ToDoResponseDTO;
 import com.example.webapp.DTO.TodoStats;
 import com.example.webapp.entity.ToDo;
@@ -26,5 +27,11 @@ public interface DashBoardService {
      */
     TodoStats getTaskStatus();
 
-    List<ToDoResponseDTO> findOverdueToDoList();
+    /**
+     * 완료되지 않은 지연 할 일을 예정일 순으로 커서 기반 조회
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기
+     * @return 지연 할 일 리스트, 다음 페이지 커서, 전체 지연 건수
+     */
+    CursorPageDTO<ToDoResponseDTO> findOverdueToDoList(String cursor, int size);
 }
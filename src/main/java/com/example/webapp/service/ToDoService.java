@@ -1,10 +1,12 @@
 package com.example.webapp.service;
 
+import com.example.webapp.DTO.CursorPageDTO;
 import com.example.webapp.DTO.ToDoResponseDTO;
 import com.example.webapp.DTO.TodoRequestDTO;
 import com.example.webapp.DTO.request.BulkUpdateRequest;
 import com.example.webapp.entity.ToDo;
 import com.example.webapp.entity.User;
+import com.fasterxml.jackson.databind.JsonNode;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -13,11 +15,12 @@ import java.util.List;
 public interface ToDoService {
 
     /**
-     * id를 통해 할 일 상세조회
+     * id를 통해 사용자 소유의 할 일 상세조회
      * @param id 할 일 고유 id
+     * @param userId 사용자 고유 id
      * @return ToDo 객체
      */
-    public ToDoResponseDTO findTodoById(int id, String username);
+    public ToDoResponseDTO findTodoById(int id, Long userId);
 
     /**
      * User를 통해 할 일 리스트 조회
@@ -27,6 +30,15 @@ public interface ToDoService {
      */
     public Page<ToDoResponseDTO> findTodoListByUser(User user, Pageable pageable);
 
+    /**
+     * 커서 기반 할 일 리스트 조회 (COUNT 쿼리 없음)
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기
+     * @param sort 정렬 기준 (planningDate, createdAt)
+     * @return 할 일 리스트와 다음 페이지 커서
+     */
+    public CursorPageDTO<ToDoResponseDTO> findTodoListByCursor(String cursor, int size, String sort);
+
     /**
      * 할 일 등록
      * @param toDoDTO 할 일 객체
@@ -35,34 +47,32 @@ public interface ToDoService {
     public ToDo saveToDo(TodoRequestDTO toDoDTO, User user);
 
     /**
-     * 할 일 수정
+     * 할 일 부분 수정 (JSON Merge Patch)
+     * 전달된 필드만 반영하며 null 은 값 제거를 의미
      * @param id 할 일 고유 id
-     * @param updateToDo 수정할 할 일 객체
-     * @return 수정된 객체
+     * @param userId 사용자 고유 id
+     * @param patch 수정할 필드 (title, memo, priority, category, status, targetDate)
+     * @param expectedVersion If-Match 로 전달된 버전 (null 이면 검증 생략)
+     * @return 수정된 할 일
      */
-    public TodoRequestDTO UpdateToDo(int id, TodoRequestDTO updateToDo);
+    public ToDoResponseDTO UpdateToDo(int id, Long userId, JsonNode patch, Long expectedVersion);
 
     /**
      * 할 일 상태 변경
      * @param id 할 일 고유 id
+     * @param userId 사용자 고유 id
      * @param status 상태
      * @return 수정된 객체
      */
-    public ToDo.TaskStatus UpdateStatus(int id, ToDo.TaskStatus status);
+    public ToDo.TaskStatus UpdateStatus(int id, Long userId, ToDo.TaskStatus status);
 
     /**
      * 할 일 삭제
      * @param id 할 일 고유 id
+     * @param userId 사용자 고유 id
      * @return 삭제 여부
      */
-    public Boolean DeleteTodo(int id);
-
-    /**
-     * 할 일 작성자 검증
-     * @param user 사용자 객체
-     * @return 접근 가능 여부
-     */
-    public Boolean CheckOwner(int id, String username);
+    public Boolean DeleteTodo(int id, Long userId);
 
     /**
      * 요청한 ID의 할 일 들의 상태를 일괄 변경합니다
@@ -76,6 +86,6 @@ public interface ToDoService {
      * @param request 삭제할 할 일 ID
      * @return 결과
      */
-    public boolean bulkDelete(List<Long> request);
+    public boolean bulkDelete(List<Integer> request);
 
 }
@@ -0,0 +1,60 @@
+package com.example.webapp.service;
+
+import com.example.webapp.entity.TodoRollupWatermark;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface TodoRollupService {
+
+    /**
+     * 집계가 한 번도 실행되지 않았을 때의 기준 일자 (모든 일자를 todos 에서 조회)
+     */
+    LocalDate ROLLUP_EPOCH = LocalDate.of(1970, 1, 1);
+
+    /**
+     * 집계 테이블로 조회하는 일자 상한
+     * @return 이 일자 이전은 집계 테이블, 이후는 todos 에서 조회 (미실행 시 ROLLUP_EPOCH)
+     */
+    LocalDate closedBefore();
+
+    /**
+     * 집계 작업 진행 상태
+     * @return 워터마크 (미실행 시 empty)
+     */
+    Optional<TodoRollupWatermark> getWatermark();
+
+    /**
+     * 사용자의 일자 구간을 todos 기준으로 다시 집계 (삭제 후 적재하므로 반복 실행해도 결과가 같음)
+     * @param userId 사용자 고유 ID
+     * @param from 시작 일자 (포함)
+     * @param before 종료 일자 (미포함)
+     */
+    void compactUser(Long userId, LocalDate from, LocalDate before);
+
+    /**
+     * 사용자의 마감된 전체 일자를 다시 집계하고, 모든 할 일의 집계 반영 일자를 갱신
+     * @param userId 사용자 고유 ID
+     * @param before 종료 일자 (미포함)
+     */
+    void rebuildUser(Long userId, LocalDate before);
+
+    /**
+     * 기준 시각 이후 생성 / 수정 / 삭제된 할 일이 영향을 주는 일자만 다시 집계
+     * 현재 생성일 / 예정일 / 완료일, 마지막 집계 시점의 예정일 / 완료일, 삭제 기록의 일자가 대상
+     * 일자를 알 수 없는 삭제 기록이 있으면 전체 일자를 다시 집계
+     * @param userId 사용자 고유 ID
+     * @param changedSince 기준 시각 (워터마크)
+     * @param before 종료 일자 (미포함)
+     * @return 다시 집계한 일자 수
+     */
+    int compactChangedDays(Long userId, LocalDateTime changedSince, LocalDate before);
+
+    /**
+     * 전체 사용자 집계 완료 후 워터마크 갱신
+     * @param changedSince 다음 실행에서 변경 여부를 판단할 기준 시각
+     * @param closedBefore 집계 테이블로 조회할 일자 상한
+     */
+    void advanceWatermark(LocalDateTime changedSince, LocalDate closedBefore);
+}
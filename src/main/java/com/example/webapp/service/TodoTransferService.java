@@ -0,0 +1,33 @@
+package com.example.webapp.service;
+
+import com.example.webapp.DTO.TodoImportResultDTO;
+import com.example.webapp.DTO.request.TodoTransferFormat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+public interface TodoTransferService {
+
+    /**
+     * 사용자의 전체 할 일을 요청한 형식으로 출력 스트림에 기록
+     * DB 커서에서 읽은 할 일을 바로 기록하므로 건수와 관계없이 메모리 사용량이 일정함
+     * 응답 스트리밍 스레드에서 호출되므로 사용자 ID 를 직접 전달받음
+     * @param userId 사용자 고유 ID
+     * @param format 내보내기 형식
+     * @param outputStream 기록할 출력 스트림
+     * @return 기록한 할 일 건수
+     */
+    public long exportTodos(Long userId, TodoTransferFormat format, OutputStream outputStream) throws IOException;
+
+    /**
+     * 입력 스트림의 할 일을 행 단위로 검증하여 청크 단위로 저장
+     * 청크마다 별도 트랜잭션으로 JDBC 배치 INSERT 하며, 실패한 청크만 롤백
+     * @param userId 사용자 고유 ID
+     * @param format 입력 형식
+     * @param inputStream 요청 본문
+     * @return 청크별 진행 결과 및 행 오류
+     */
+    public TodoImportResultDTO importTodos(Long userId, TodoTransferFormat format, InputStream inputStream) throws IOException;
+
+}
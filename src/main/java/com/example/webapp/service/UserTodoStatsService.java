@@ -0,0 +1,48 @@
+package com.example.webapp.service;
+
+import com.example.webapp.DTO.TodoAggregateDTO;
+import com.example.webapp.DTO.TodoStatsDelta;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+public interface UserTodoStatsService {
+
+    /**
+     * 사용자 통계 행 잠금 (호출한 트랜잭션에 참여)
+     * 변경 전 상태 / 우선순위 / 카테고리를 읽기 전에 호출하여, 같은 사용자의 변경 트랜잭션이
+     * 서로 커밋 전 값을 기준으로 증감분을 계산하지 않도록 직렬화
+     * @param userId 사용자 고유 ID
+     */
+    void lock(Long userId);
+
+    /**
+     * 할 일 변경분을 사용자 통계에 반영 (호출한 트랜잭션에 참여)
+     * @param userId 사용자 고유 ID
+     * @param delta 증감분
+     */
+    void apply(Long userId, TodoStatsDelta delta);
+
+    /**
+     * todos 기준으로 사용자 통계 재집계
+     * @param userId 사용자 고유 ID
+     */
+    void rebuild(Long userId);
+
+    /**
+     * 통계 테이블 기반 집계 조회
+     * 상태별, 우선순위별 카운터는 통계 행에서 읽고, 시각에 따라 달라지는 지연 / 활동일만 인덱스 범위로 계산
+     * @param userId 사용자 고유 ID
+     * @param now 지연 여부 판단 기준 시각
+     * @param activeSince 활동일 집계 시작 시각
+     * @return 집계 결과
+     */
+    TodoAggregateDTO getAggregate(Long userId, LocalDateTime now, LocalDateTime activeSince);
+
+    /**
+     * 카테고리별 할 일 수
+     * @param userId 사용자 고유 ID
+     * @return 할 일 수 내림차순 카테고리별 할 일 수
+     */
+    Map<String, Long> getCategoryCounts(Long userId);
+}
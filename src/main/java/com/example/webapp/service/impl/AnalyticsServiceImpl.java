@@ -1,23 +1,38 @@
 package com.example.webapp.service.impl;
 
 import com.example.webapp.DTO.*;
+import com.example.webapp.DTO.request.AnalyticsPeriod;
 import com.example.webapp.DTO.request.SummaryRequestDTO;
 import com.example.webapp.common.annotations.InjectUserEntity;
 import com.example.webapp.common.context.UserContext;
 import com.example.webapp.entity.ToDo;
+import com.example.webapp.entity.TodoDailyRollup;
 import com.example.webapp.entity.User;
+import com.example.webapp.repository.TodoDailyCategoryRollupRepository;
+import com.example.webapp.repository.TodoDailyRollupRepository;
 import com.example.webapp.repository.TodoRepository;
 import com.example.webapp.service.AnalyticsService;
+import com.example.webapp.service.TodoRollupService;
+import com.example.webapp.service.UserTodoStatsService;
+import com.example.webapp.service.insight.BestDayInsightProvider;
+import com.example.webapp.service.insight.InsightPipeline;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -25,6 +40,17 @@ import java.util.List;
 public class AnalyticsServiceImpl implements AnalyticsService {
 
     private final TodoRepository todoRepository;
+    private final UserTodoStatsService userTodoStatsService;
+    private final TodoRollupService todoRollupService;
+    private final TodoDailyRollupRepository todoDailyRollupRepository;
+    private final TodoDailyCategoryRollupRepository todoDailyCategoryRollupRepository;
+    private final InsightPipeline insightPipeline;
+    private final BestDayInsightProvider bestDayInsightProvider;
+
+    /**
+     * 최고 작업일 최대 조회 일자 수
+     */
+    static final int MAX_BEST_DAYS = 10;
 
     @Override
     @InjectUserEntity
@@ -33,24 +59,18 @@ public class AnalyticsServiceImpl implements AnalyticsService {
         SummaryDTO result = new SummaryDTO();
         User user = UserContext.getCurrentUser();
 
-        long total = todoRepository.countByUser(user);
-        long completed = todoRepository.countByUserAndStatus(user, ToDo.TaskStatus.COMPLETE);
-        long pending = todoRepository.countByUserAndStatus(user, ToDo.TaskStatus.ON_HOLD);
-        long inProgress = todoRepository.countByUserAndStatus(user, ToDo.TaskStatus.IN_PROGRESS);
+        LocalDateTime now = LocalDateTime.now();
+        TodoAggregateDTO aggregate = userTodoStatsService.getAggregate(user.getId(), now, getActiveSince(requestDTO, now));
 
-
-        result.setTotal(total);
-        result.setCompleted(completed);
-        result.setPending(pending);
-        result.setInProgress(inProgress);
-        if(completed!=0){
-            result.setCompletionRate(completed * 100 / completed);
-        }else{
-            result.setCompletionRate(0);
-        }
-        result.setOverdueCount(todoRepository.countTodosAfterPlanningDate(LocalDateTime.now(), user.getId()));
-        result.setUrgentCount(todoRepository.countByUserAndTaskPriority(user, ToDo.TaskPriority.VERY_HIGH));
-        result.setActiveDays(todoRepository.countActiveDays(user.getId(), LocalDateTime.now()));
+        result.setTotal(aggregate.getTotal());
+        result.setCompleted(aggregate.getCompleted());
+        result.setPending(aggregate.getOnHold());
+        result.setInProgress(aggregate.getInProgress());
+        result.setCompletionRate(aggregate.getCompletionRate());
+        result.setOverdueCount(aggregate.getOverdue());
+        result.setUrgentCount(aggregate.getVeryHigh());
+        result.setActiveDays(aggregate.getActiveDays());
+        result.setCategoryCounts(userTodoStatsService.getCategoryCounts(user.getId()));
 
         return result;
 
@@ -59,44 +79,80 @@ public class AnalyticsServiceImpl implements AnalyticsService {
     @InjectUserEntity
     @Transactional(readOnly = true)
     @Override
-    public List<AnalyticsTrendDTO> getWeekTrend(String trendPeriod) {
+    public List<AnalyticsTrendDTO> getTrend(String trendPeriod) {
 
         User user = UserContext.getCurrentUser();
+        AnalyticsPeriod period = parsePeriod(trendPeriod);
 
-        List<AnalyticsTrendDTO> result = new ArrayList<>();
+        LocalDate today = LocalDate.now();
+        LocalDate startDay = today.minusDays(period.getDays() - 1L);
+        LocalDateTime startDate = startDay.atStartOfDay();
+        LocalDateTime endDate = today.atTime(LocalTime.MAX);
 
-        LocalDate now = LocalDate.now();
+        log.info("완료 추이 조회 사용자: {}, 기간: {} ~ {}", user.getUsername(), startDay, today);
 
-        for(int i=6; i>=0; i--){
-            AnalyticsTrendDTO trend = new AnalyticsTrendDTO();
-            LocalDate targetDate;
-            long total;
-            long completed;
+//      마감된 일자는 일자별 집계에서, 이후 일자만 todos 에서 조회
+        LocalDate closedBefore = todoRollupService.closedBefore();
+        LocalDate liveFrom = startDay.isAfter(closedBefore) ? startDay : closedBefore;
 
-            targetDate = now.minusDays(i);
-            log.info("조회 일자:{}", targetDate);
-            LocalDateTime startDate = targetDate.atTime(LocalTime.MIN);
-            LocalDateTime endDate = targetDate.atTime(LocalTime.MAX);
+//      기간 시작 전까지의 누적값
+        DailyTodoCountDTO baseline = todoDailyRollupRepository.sumPlannedBefore(user.getId(), startDay.isBefore(closedBefore) ? startDay : closedBefore);
+        if(startDay.isAfter(closedBefore)){
+            DailyTodoCountDTO live = todoRepository.countPlannedBetween(user.getId(), closedBefore.atStartOfDay(), startDate);
+            baseline = new DailyTodoCountDTO(baseline.getTotal() + live.getTotal(), baseline.getCompleted() + live.getCompleted());
+        }
 
-            total = todoRepository.countByUserAndPlanningDateBefore(user, targetDate.atTime(LocalTime.MAX));
-            log.info("조회 일자까지의 총 할 일 갯수: {}", total);
+//      기간 내 일자별 집계
+        List<DailyTodoCountDTO> planned = new ArrayList<>();
+        List<DailyTodoCountDTO> created = new ArrayList<>();
+        for(TodoDailyRollup rollup : todoDailyRollupRepository.findRange(user.getId(), startDay, closedBefore)){
+            planned.add(new DailyTodoCountDTO(rollup.getRollupDate(), rollup.getPlanned(), rollup.getPlannedCompleted()));
+            created.add(new DailyTodoCountDTO(rollup.getRollupDate(), rollup.getCreated(), 0L));
+        }
+        planned.addAll(todoRepository.countPlannedPerDay(user.getId(), liveFrom.atStartOfDay(), endDate));
+        created.addAll(todoRepository.countCreatedPerDay(user.getId(), liveFrom.atStartOfDay(), endDate));
 
-            completed = todoRepository.countByUserAndPlanningDateBeforeAndStatus(user, targetDate.atTime(LocalTime.MAX), ToDo.TaskStatus.COMPLETE);
-            log.info("조회 일자까지 완료한 할 일 갯수: {}", completed);
+        return buildTrend(startDay, today, baseline, planned, created);
+    }
 
-            trend.setDate(targetDate);
-            trend.setCompleted(completed);
-            trend.setTotal(total);
-            if(completed!=0) {
-                trend.setCompletionRate(completed * 100 / total);
-            }else{
-                trend.setCompletionRate(0);
+    /**
+     * 일자별 집계를 누적합(prefix sum)으로 변환하여 완료 추이 생성
+     * @param startDay 시작 일자
+     * @param endDay 종료 일자
+     * @param baseline 시작 일자 이전까지의 누적 집계
+     * @param planned 예정일 기준 일자별 집계
+     * @param created 생성일 기준 일자별 집계
+     * @return 일자별 완료 추이 리스트
+     */
+    private List<AnalyticsTrendDTO> buildTrend(LocalDate startDay, LocalDate endDay, DailyTodoCountDTO baseline,
+                                               List<DailyTodoCountDTO> planned, List<DailyTodoCountDTO> created){
+
+        Map<LocalDate, DailyTodoCountDTO> plannedByDate = planned.stream()
+                .collect(Collectors.toMap(DailyTodoCountDTO::getDate, Function.identity()));
+        Map<LocalDate, Long> createdByDate = created.stream()
+                .collect(Collectors.toMap(DailyTodoCountDTO::getDate, DailyTodoCountDTO::getTotal));
+
+        List<AnalyticsTrendDTO> result = new ArrayList<>();
+
+        long total = baseline == null ? 0L : baseline.getTotal();
+        long completed = baseline == null ? 0L : baseline.getCompleted();
+
+        for(LocalDate targetDate = startDay; !targetDate.isAfter(endDay); targetDate = targetDate.plusDays(1)){
+
+            DailyTodoCountDTO day = plannedByDate.get(targetDate);
+            if(day != null){
+                total += day.getTotal();
+                completed += day.getCompleted();
             }
 
-            trend.setCreated(todoRepository.countByUserAndCreatedAtBetween(user, startDate, endDate));
+            AnalyticsTrendDTO trend = new AnalyticsTrendDTO();
+            trend.setDate(targetDate);
+            trend.setTotal(total);
+            trend.setCompleted(completed);
+            trend.setCompletionRate(total == 0 ? 0 : completed * 100 / total);
+            trend.setCreated(createdByDate.getOrDefault(targetDate, 0L));
 
             result.add(trend);
-
         }
 
         return result;
@@ -110,40 +166,106 @@ public class AnalyticsServiceImpl implements AnalyticsService {
         User user = UserContext.getCurrentUser();
 
         LocalDate now = LocalDate.now();
-        LocalDateTime startDate = now.minusDays(6).atTime(LocalTime.MIN);
+        LocalDate startDay = now.minusDays(6);
 
-        List<PriorityDistribution> priorityResult = todoRepository.countByUserAndTaskPriorityDistribution(user.getId(), startDate);
-        List<CategoryDistribution> categoryResult = todoRepository.countByUserAndCategoryAndTask(user.getId(), startDate);
+//      마감된 일자는 일자별 집계에서, 이후 일자만 todos 에서 조회
+        LocalDate closedBefore = todoRollupService.closedBefore();
+        LocalDateTime liveFrom = (startDay.isAfter(closedBefore) ? startDay : closedBefore).atTime(LocalTime.MIN);
 
+        Map<ToDo.TaskPriority, Long> priorityCounts = new EnumMap<>(ToDo.TaskPriority.class);
+        for(TodoDailyRollup rollup : todoDailyRollupRepository.findRange(user.getId(), startDay, closedBefore)){
+            for(ToDo.TaskPriority priority : ToDo.TaskPriority.values()){
+                priorityCounts.merge(priority, rollup.getCreated(priority), Long::sum);
+            }
+        }
+        for(PriorityDistribution live : todoRepository.countByUserAndTaskPriorityDistribution(user.getId(), liveFrom)){
+            priorityCounts.merge(live.getPriority(), live.getCount(), Long::sum);
+        }
+
+        List<PriorityDistribution> priorityResult = priorityCounts.entrySet().stream()
+                .filter(entry -> entry.getValue() > 0)
+                .map(entry -> new PriorityDistribution(entry.getKey(), entry.getValue()))
+                .toList();
+
+        Map<String, CategoryDistribution> categoryCounts = new LinkedHashMap<>();
+        todoDailyCategoryRollupRepository.sumByCategory(user.getId(), startDay, closedBefore)
+                .forEach(rollup -> mergeCategory(categoryCounts, rollup));
+        todoRepository.countByUserAndCategoryAndTask(user.getId(), liveFrom)
+                .forEach(live -> mergeCategory(categoryCounts, live));
 
-        return new AnalyticsDistributionDTO(categoryResult, priorityResult);
+        return new AnalyticsDistributionDTO(new ArrayList<>(categoryCounts.values()), priorityResult);
     }
 
+    /**
+     * 인사이트 조회
+     * 제공자별 조회는 InsightPipeline 에서 동시에 실행되므로 요청 스레드에서 트랜잭션을 열지 않음
+     */
     @InjectUserEntity
     @Override
     public List<InsightDTO> getInsight() {
 
-        List<InsightDTO> result = new ArrayList<>();
-        User user = UserContext.getCurrentUser();
+        return insightPipeline.collect(UserContext.getCurrentUser());
+    }
+
+    @InjectUserEntity
+    @Transactional(readOnly = true)
+    @Override
+    public List<BestProducibilityDateDTO> getBestDays(int limit) {
 
-        BestProducibilityDateDTO bestProducibilityDateResult = todoRepository.getBestProducibilityDate(user);
-        InsightDTO bestProducibility = new InsightDTO(
-                "positive",
-                "최고 작업일",
-                bestProducibilityDateResult.getDate()+"에 가장 많은 작업을 완료했습니다. 완료율: "+bestProducibilityDateResult.getProgress()+"%"
-        );
+        if(limit < 1 || limit > MAX_BEST_DAYS){
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "limit 은 1 ~ " + MAX_BEST_DAYS + " 사이여야 합니다.");
+        }
 
-        List<WarnInsightDTO> warnInsight = todoRepository.getWarnInsight(user);
+        return bestDayInsightProvider.findBestDays(UserContext.getCurrentUser().getId(), limit);
+    }
+
+    /**
+     * 카테고리별 분포 합산 (집계 테이블의 카테고리 없음 '' 은 todos 조회 결과와 같이 null 로 표시)
+     */
+    private static void mergeCategory(Map<String, CategoryDistribution> categoryCounts, CategoryDistribution distribution){
+        String name = distribution.getCategoryName() == null || distribution.getCategoryName().isEmpty() ? null : distribution.getCategoryName();
+
+        CategoryDistribution merged = categoryCounts.computeIfAbsent(String.valueOf(name),
+                key -> new CategoryDistribution(name, 0L, 0L, 0L, 0L));
+        merged.setCompleted(merged.getCompleted() + distribution.getCompleted());
+        merged.setInProgress(merged.getInProgress() + distribution.getInProgress());
+        merged.setPending(merged.getPending() + distribution.getPending());
+    }
 
-        for(WarnInsightDTO insight : warnInsight){
-            result.add( new InsightDTO(
-                    "warn",
-                    "주의 필요",
-                    insight.getCategory()+"카테고리에서 "+insight.getCount()+"개의 지연된 할 일이 있습니다."));
+    /**
+     * 요청한 통계 기간 문자열 변환
+     * @param period 기간 문자열
+     * @return 통계 기간
+     * @throws ResponseStatusException 지원하지 않는 기간인 경우 400
+     */
+    private AnalyticsPeriod parsePeriod(String period){
+        try{
+            return AnalyticsPeriod.from(period);
+        }catch (IllegalArgumentException e){
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
         }
+    }
 
-        result.add(bestProducibility);
+    /**
+     * 통계 기간에 해당하는 활동일 집계 시작 시각 계산
+     * 기간이 지정되지 않은 경우 주간으로 처리
+     * @param requestDTO 통계 요약 요청
+     * @param now 기준 시각
+     * @return 집계 시작 시각
+     */
+    private LocalDateTime getActiveSince(SummaryRequestDTO requestDTO, LocalDateTime now){
 
-        return result;
+        SummaryRequestDTO.SummaryPeriod period = requestDTO == null ? null : requestDTO.getPeriod();
+        LocalDate today = now.toLocalDate();
+
+        if(period == null){
+            return today.minusDays(6).atStartOfDay();
+        }
+
+        return switch (period){
+            case week -> today.minusDays(6).atStartOfDay();
+            case month -> today.minusMonths(1).plusDays(1).atStartOfDay();
+            case year -> today.minusYears(1).plusDays(1).atStartOfDay();
+        };
     }
 }
@@ -1,20 +1,32 @@
 package com.example.webapp.service.impl;
 
 
+import com.example.webapp.DTO.CalendarChangesDTO;
+import com.example.webapp.DTO.CalendarDayDTO;
+import com.example.webapp.DTO.CalendarTodoDTO;
 import com.example.webapp.DTO.ToDoResponseDTO;
+import com.example.webapp.DTO.request.CalendarWatermark;
 import com.example.webapp.common.annotations.InjectUserEntity;
 import com.example.webapp.common.context.UserContext;
+import com.example.webapp.config.CalendarSyncProperties;
 import com.example.webapp.entity.ToDo;
 import com.example.webapp.entity.User;
 import com.example.webapp.repository.TodoRepository;
+import com.example.webapp.repository.TodoTombstoneRepository;
 import com.example.webapp.service.CalendarService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
 
 @Service
@@ -22,6 +34,19 @@ import java.util.List;
 public class CalendarServiceImpl implements CalendarService {
 
     private final TodoRepository todoRepository;
+    private final TodoTombstoneRepository todoTombstoneRepository;
+    private final CalendarSyncProperties calendarSyncProperties;
+
+    /**
+     * 한 번에 조회할 수 있는 최대 기간 (일)
+     * 월 보기 앞뒤 주를 포함해도 충분한 두 달
+     */
+    private static final int MAX_RANGE_DAYS = 62;
+
+    /**
+     * 일자당 최대 표시 건수
+     */
+    private static final int MAX_PER_DAY = 50;
 
 
     @Override
@@ -31,9 +56,103 @@ public class CalendarServiceImpl implements CalendarService {
 
         User user = UserContext.getCurrentUser();
 
+        validateRange(startDate, lastDate);
+
         List<ToDo> result = todoRepository.findByUserAndPlanningDateBetween(user, startDate.atTime(LocalTime.MIN), lastDate.atTime(LocalTime.MAX));
 
         return result.stream().map(ToDoResponseDTO :: from).toList();
     }
 
+    @Override
+    @InjectUserEntity
+    @Transactional(readOnly = true)
+    public List<CalendarDayDTO> getCalendarDays(LocalDate startDate, LocalDate lastDate, int perDay) {
+
+        User user = UserContext.getCurrentUser();
+
+        validateRange(startDate, lastDate);
+
+        if(perDay < 1 || perDay > MAX_PER_DAY){
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "일자당 표시 건수는 1 ~ " + MAX_PER_DAY + " 사이여야 합니다.");
+        }
+
+        List<CalendarTodoDTO> items = todoRepository.findCalendarItems(
+                user.getId(), startDate.atTime(LocalTime.MIN), lastDate.atTime(LocalTime.MAX));
+
+//      일자, 중요도 순으로 정렬되어 있으므로 순차적으로 일자 단위로 묶음
+        List<CalendarDayDTO> days = new ArrayList<>();
+        CalendarDayDTO current = null;
+
+        for(CalendarTodoDTO item : items){
+            LocalDate date = item.getPlanningDate().toLocalDate();
+
+            if(current == null || !current.getDate().equals(date)){
+                current = new CalendarDayDTO(date, 0, new ArrayList<>(), 0);
+                days.add(current);
+            }
+
+            current.setTotal(current.getTotal() + 1);
+            if(current.getTodos().size() < perDay){
+                current.getTodos().add(item);
+            }else{
+                current.setMore(current.getMore() + 1);
+            }
+        }
+
+        return days;
+    }
+
+    @Override
+    @InjectUserEntity
+    @Transactional(readOnly = true)
+    public CalendarChangesDTO getChanges(String since) {
+
+        User user = UserContext.getCurrentUser();
+
+        CalendarWatermark watermark;
+        try{
+            watermark = CalendarWatermark.decode(since);
+        }catch (IllegalArgumentException e){
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+
+//      조회 시점보다 조금 앞당긴 워터마크를 발급하여 늦게 커밋된 변경도 다음 동기화에 포함
+        LocalDateTime now = LocalDateTime.now();
+        String next = new CalendarWatermark(now.minus(calendarSyncProperties.getWatermarkLag())).encode();
+
+//      최초 동기화이거나 삭제 기록이 이미 정리된 기간이면 전체 재조회 필요
+        if(watermark == null || watermark.getSince().isBefore(now.minus(calendarSyncProperties.getTombstoneRetention()))){
+            return CalendarChangesDTO.fullResync(next);
+        }
+
+        int maxChanges = calendarSyncProperties.getMaxChanges();
+        Pageable limit = PageRequest.of(0, maxChanges + 1);
+
+        List<CalendarTodoDTO> changed = todoRepository.findCalendarChangesSince(user.getId(), watermark.getSince(), limit);
+        if(changed.size() > maxChanges){
+            return CalendarChangesDTO.fullResync(next);
+        }
+
+        List<Integer> deleted = todoTombstoneRepository.findDeletedIdsSince(user.getId(), watermark.getSince(), limit);
+        if(deleted.size() > maxChanges){
+            return CalendarChangesDTO.fullResync(next);
+        }
+
+        return new CalendarChangesDTO(changed, deleted, next, false);
+    }
+
+    /**
+     * 조회 기간 검증
+     * @param startDate 조회 시작일
+     * @param lastDate 조회 종료일
+     */
+    private void validateRange(LocalDate startDate, LocalDate lastDate){
+        if(lastDate.isBefore(startDate)){
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "종료일은 시작일 이후여야 합니다.");
+        }
+        if(ChronoUnit.DAYS.between(startDate, lastDate) + 1 > MAX_RANGE_DAYS){
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "조회 기간은 최대 " + MAX_RANGE_DAYS + "일입니다.");
+        }
+    }
+
 }
@@ -1,26 +1,30 @@
 package com.example.webapp.service.impl;
 
-import com.example.jwt.Repository.UserRepository;
+import com.example.webapp.DTO.CursorPageDTO;
 import com.example.webapp.DTO.ToDoResponseDTO;
+import com.example.webapp.DTO.TodoAggregateDTO;
 import com.example.webapp.DTO.TodoStats;
+import com.example.webapp.DTO.request.TodoCursor;
+import com.example.webapp.DTO.request.TodoCursorSort;
 import com.example.webapp.common.annotations.InjectUserEntity;
+import com.example.webapp.common.context.DayBoundaries;
+import com.example.webapp.common.context.UserClock;
 import com.example.webapp.common.context.UserContext;
 import com.example.webapp.entity.ToDo;
 import com.example.webapp.entity.User;
 import com.example.webapp.repository.TodoRepository;
 import com.example.webapp.service.DashBoardService;
+import com.example.webapp.service.UserTodoStatsService;
 import jakarta.persistence.Table;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cglib.core.Local;
-import org.springframework.security.authorization.AuthorizationDeniedException;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
-import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -30,32 +34,26 @@ import java.util.stream.Collectors;
 public class DashBoardServiceImpl implements DashBoardService {
 
     private final TodoRepository todoRepository;
-    private final UserRepository userRepository;
+    private final UserClock userClock;
+    private final UserTodoStatsService userTodoStatsService;
+
+    /**
+     * 지연 목록 최대 페이지 크기
+     */
+    private static final int MAX_OVERDUE_PAGE_SIZE = 100;
 
     @Override
-    @Transactional
+    @InjectUserEntity
+    @Transactional(readOnly = true)
     public List<ToDoResponseDTO> findTodayToDoList() {
 
-        String username = SecurityContextHolder.getContext().getAuthentication().getName();
-        log.info("금일 종료 예정 TodoList 조회 사용자명: {}",username);
-
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(()-> new AuthorizationDeniedException(
-                        "사용자를 찾을 수 없습니다."
-                ));
-
-//      검색 시작일자
-        LocalDateTime startDate = LocalDate.now().atStartOfDay();
-
-//      종료일자
-        LocalDateTime endDate = LocalDate.now().atTime(LocalTime.MAX);
+        User user = UserContext.getCurrentUser();
+        log.info("금일 종료 예정 TodoList 조회 사용자명: {}", user.getUsername());
 
-        List<ToDo> result = todoRepository.findByUserAndPlanningDateBetween(user, startDate, endDate);
+//      사용자 시간대 기준 오늘의 시작 / 종료일시
+        DayBoundaries today = userClock.today();
 
-//      ToDoEntity를 ResponseDTO로 매핑
-        return result.stream()
-                .map(ToDoResponseDTO :: from)
-                .toList();
+        return todoRepository.findTodayResponses(user.getId(), today.getStartOfDay(), today.getEndOfDay());
     }
 
     @Override
@@ -82,23 +80,17 @@ public class DashBoardServiceImpl implements DashBoardService {
         User user = UserContext.getCurrentUser();
         TodoStats stats = new TodoStats();
 
-        long total = todoRepository.countByUser(user);
-        log.info("사용자: {} 전체 ToDo 갯수 조회: {}", user.getUsername(), total);
-
-        long completed = todoRepository.countByUserAndStatus(user, ToDo.TaskStatus.COMPLETE);
-        log.info("사용자: {} 완료된 ToDo 갯수 조회: {}", user.getUsername(), completed);
+        DayBoundaries today = userClock.today();
 
-        long inProgress = todoRepository.countByUserAndStatus(user, ToDo.TaskStatus.IN_PROGRESS);
-        log.info("사용자: {} 진행중 ToDo 갯수 조회: {}", user.getUsername(), inProgress);
-
-        long pending = todoRepository.countByUserAndStatus(user, ToDo.TaskStatus.ON_HOLD);
-        log.info("사용자: {} 보류중 ToDo 갯수 조회: {}", user.getUsername(), pending);
-
-        long completeRate = 0;
-        if(total > 0){
-            completeRate = Math.round((double) completed * 100 / total);
-        }
+//      상태별 카운터는 통계 테이블에서 조회 (todos 스캔 없음)
+        TodoAggregateDTO aggregate = userTodoStatsService.getAggregate(user.getId(), today.getNow(), today.getStartOfDay());
+        log.info("사용자: {} ToDo 집계 조회: {}", user.getUsername(), aggregate);
 
+        long total = aggregate.getTotal();
+        long completed = aggregate.getCompleted();
+        long inProgress = aggregate.getInProgress();
+        long pending = aggregate.getOnHold();
+        long completeRate = aggregate.getCompletionRate();
 
         stats.setTotal(total);
         stats.setCompleted(completed);
@@ -111,15 +103,44 @@ public class DashBoardServiceImpl implements DashBoardService {
 
     @Override
     @InjectUserEntity
-    @Transactional
-    public List<ToDoResponseDTO> findOverdueToDoList() {
+    @Transactional(readOnly = true)
+    public CursorPageDTO<ToDoResponseDTO> findOverdueToDoList(String cursor, int size) {
 
         User user = UserContext.getCurrentUser();
-        LocalDateTime now = LocalDate.now().minusDays(1).atTime(LocalTime.MAX);
 
-        List<ToDo> result = todoRepository.findByUserAndPlanningDateBefore(user, now);
+        if(size < 1 || size > MAX_OVERDUE_PAGE_SIZE){
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "페이지 크기는 1 ~ " + MAX_OVERDUE_PAGE_SIZE + " 사이여야 합니다.");
+        }
+
+        TodoCursor after;
+        try{
+            after = TodoCursor.decode(cursor, TodoCursorSort.PLANNING_DATE);
+        }catch (IllegalArgumentException e){
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+
+//      오늘 이전 예정일 중 완료되지 않은 할 일
+        LocalDateTime before = userClock.today().getStartOfDay();
+
+//      다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        List<ToDo> result = todoRepository.findOverduePageAfter(user.getId(), before, after, size + 1);
+
+        boolean hasNext = result.size() > size;
+        List<ToDo> page = hasNext ? result.subList(0, size) : result;
+
+        String nextCursor = null;
+        if(hasNext){
+            ToDo last = page.getLast();
+            nextCursor = new TodoCursor(TodoCursorSort.PLANNING_DATE, last.getPlanningDate(), last.getId()).encode();
+        }
+
+        long total = todoRepository.countOverdue(user.getId(), ToDo.TaskStatus.OVERDUE_STATUSES, before);
+
+        List<ToDoResponseDTO> content = page.stream()
+                .map(ToDoResponseDTO :: from)
+                .toList();
 
-        return result.stream().map(ToDoResponseDTO :: from).toList();
+        return new CursorPageDTO<>(content, nextCursor, hasNext, size, total);
     }
 
 
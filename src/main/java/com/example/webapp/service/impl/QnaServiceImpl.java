@@ -70,7 +70,7 @@ public class QnaServiceImpl implements QnaService {
         Qna qna = qnaRepository.findByIdWithOwner(id)
                 .orElseThrow(()-> new EntityNotFoundException("게시글을 찾을 수 없습니다."));
 
-        if(qna.getOwner()!=user||!user.getRole().isAdmin()){
+        if(!qna.getOwner().getId().equals(user.getId()) && !user.getRole().isAdmin()){
             throw new AccessDeniedException("접근 권한이 없는 게시글 입니다.");
         }
 
@@ -110,7 +110,7 @@ public class QnaServiceImpl implements QnaService {
                         "게시글을 찾을 수 없습니다."
                 ));
 
-        if(qna.getOwner()!=user||!user.getRole().isAdmin()){
+        if(!qna.getOwner().getId().equals(user.getId()) && !user.getRole().isAdmin()){
             throw new AccessDeniedException("권한이 부족합니다.");
         }
 
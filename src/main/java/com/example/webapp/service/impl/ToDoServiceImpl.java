@@ -1,23 +1,34 @@
 package com.example.webapp.service.impl;
 
-import com.example.jwt.exception.InvalidJwtTokenException;
+import com.example.webapp.DTO.CursorPageDTO;
 import com.example.webapp.DTO.ToDoResponseDTO;
 import com.example.webapp.DTO.TodoRequestDTO;
+import com.example.webapp.DTO.TodoStatsBucketDTO;
+import com.example.webapp.DTO.TodoStatsDelta;
 import com.example.webapp.DTO.request.BulkUpdateRequest;
+import com.example.webapp.DTO.request.TodoCursor;
+import com.example.webapp.DTO.request.TodoCursorSort;
 import com.example.webapp.common.annotations.InjectUserEntity;
+import com.example.webapp.common.cache.UserDataVersionRegistry;
 import com.example.webapp.common.context.UserContext;
 import com.example.webapp.entity.ToDo;
 import com.example.webapp.entity.User;
 import com.example.webapp.repository.TodoRepository;
+import com.example.webapp.repository.TodoTombstoneRepository;
 import com.example.webapp.service.ToDoService;
-import jakarta.persistence.EntityNotFoundException;
+import com.example.webapp.service.UserTodoStatsService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -31,13 +42,27 @@ import java.util.stream.Collectors;
 public class ToDoServiceImpl implements ToDoService {
 
     private final TodoRepository todoRepository;
+    private final TodoTombstoneRepository todoTombstoneRepository;
+    private final UserDataVersionRegistry userDataVersionRegistry;
+    private final UserTodoStatsService userTodoStatsService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 커서 기반 조회 최대 페이지 크기
+     */
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
+    /**
+     * 일괄 삭제 시 DELETE 한 번에 포함하는 최대 ID 수
+     */
+    private static final int BULK_DELETE_CHUNK_SIZE = 1000;
 
     @Override
-    @Transactional
-    public ToDoResponseDTO findTodoById(int id, String username) {
+    @Transactional(readOnly = true)
+    public ToDoResponseDTO findTodoById(int id, Long userId) {
         log.info("할 일 조회 고유 id: {}",id);
 
-        ToDo todo = todoRepository.findById(id)
+        ToDo todo = todoRepository.findByIdAndUserId(id, userId)
                 .orElseThrow(()->new AccessDeniedException(
                         "권한이 없거나 존재하지 않는 게시물입니다."
                 ));
@@ -56,6 +81,47 @@ public class ToDoServiceImpl implements ToDoService {
     }
 
     @Override
+    @InjectUserEntity
+    @Transactional(readOnly = true)
+    public CursorPageDTO<ToDoResponseDTO> findTodoListByCursor(String cursor, int size, String sort) {
+
+        User user = UserContext.getCurrentUser();
+
+        if(size < 1 || size > MAX_CURSOR_PAGE_SIZE){
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "페이지 크기는 1 ~ " + MAX_CURSOR_PAGE_SIZE + " 사이여야 합니다.");
+        }
+
+        TodoCursorSort cursorSort;
+        TodoCursor after;
+        try{
+            cursorSort = TodoCursorSort.from(sort);
+            after = TodoCursor.decode(cursor, cursorSort);
+        }catch (IllegalArgumentException e){
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+
+//      다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        List<ToDo> result = todoRepository.findPageAfter(user.getId(), cursorSort, after, size + 1);
+
+        boolean hasNext = result.size() > size;
+        List<ToDo> page = hasNext ? result.subList(0, size) : result;
+
+        String nextCursor = null;
+        if(hasNext){
+            ToDo last = page.getLast();
+            LocalDateTime key = cursorSort == TodoCursorSort.CREATED_AT ? last.getCreatedAt() : last.getPlanningDate();
+            nextCursor = new TodoCursor(cursorSort, key, last.getId()).encode();
+        }
+
+        List<ToDoResponseDTO> content = page.stream()
+                .map(ToDoResponseDTO :: from)
+                .toList();
+
+        return new CursorPageDTO<>(content, nextCursor, hasNext, size);
+    }
+
+    @Override
+    @Transactional
     public ToDo saveToDo(TodoRequestDTO toDoDTO, User user) {
 
         ToDo todo = ToDo.builder()
@@ -68,75 +134,137 @@ public class ToDoServiceImpl implements ToDoService {
                 .user(user)
                 .build();
 
-        return todoRepository.save(todo);
+        ToDo saved = todoRepository.save(todo);
+        userTodoStatsService.apply(user.getId(), new TodoStatsDelta().add(saved));
+        userDataVersionRegistry.bump(user.getId());
+
+        return saved;
     }
 
     @Override
-    public TodoRequestDTO UpdateToDo(int id, TodoRequestDTO updateToDo) {
+    @Transactional
+    public ToDoResponseDTO UpdateToDo(int id, Long userId, JsonNode patch, Long expectedVersion) {
 
-        ToDo todo = todoRepository.findById(id).orElseThrow(()->new EntityNotFoundException(
-                "Todo Not Found"));
+        if(patch == null || !patch.isObject()){
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "수정 내용은 JSON 객체여야 합니다.");
+        }
 
-        todo.setTitle(updateToDo.getTitle());
-        todo.setTaskPriority(updateToDo.getPriority());
-        todo.setCategory(updateToDo.getCategory());
-        todo.setMemo(updateToDo.getMemo());
-        todo.setStatus(updateToDo.getStatus());
-        todo.setPlanningDate(updateToDo.getTargetDate());
+        TodoRequestDTO values;
+        try{
+            values = objectMapper.treeToValue(patch, TodoRequestDTO.class);
+        }catch (JsonProcessingException e){
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "수정 내용을 해석할 수 없습니다.", e);
+        }
 
-        todoRepository.save(todo);
-        return updateToDo;
-    }
+//      변경 전 값을 읽기 전에 통계 행을 잠가 같은 사용자의 변경을 직렬화
+        userTodoStatsService.lock(userId);
 
-    @Override
-    public ToDo.TaskStatus UpdateStatus(int id, ToDo.TaskStatus status) {
+        ToDo todo = todoRepository.findByIdAndUserId(id, userId).orElseThrow(()->new AccessDeniedException(
+                "권한이 없거나 존재하지 않는 게시물입니다."));
 
-        ToDo todo = todoRepository.findById(id)
-                .orElseThrow(
-                        ()-> new EntityNotFoundException(
-                                "Not Found"
-                        )
-                );
+//      If-Match 로 전달된 버전과 다르면 클라이언트가 본 이후 다른 요청이 먼저 수정한 것
+        if(expectedVersion != null && !expectedVersion.equals(todo.getVersion())){
+            throw new ResponseStatusException(HttpStatus.PRECONDITION_FAILED, "다른 요청에 의해 이미 수정된 할 일입니다.");
+        }
 
-        todo.setStatus(status);
+//      변경 전 값을 통계에서 빼고, 수정 후 값을 더함
+        TodoStatsDelta delta = new TodoStatsDelta().remove(todo);
 
-        if(status.equals(ToDo.TaskStatus.COMPLETE)){
-            todo.setDoneAt(LocalDateTime.now());
+//      JSON Merge Patch: 전달된 필드만 반영하고 null 은 값 제거를 의미
+//      @DynamicUpdate 로 실제 변경된 컬럼만 UPDATE 에 포함됨
+        if(patch.has("title")){
+            if(values.getTitle() == null || values.getTitle().isBlank()){
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "title 은 비워둘 수 없습니다.");
+            }
+            todo.setTitle(values.getTitle());
+        }
+        if(patch.has("memo")){
+            todo.setMemo(values.getMemo());
         }
-        if(status.equals(ToDo.TaskStatus.IN_PROGRESS)){
-            todo.setDoneAt(null);
+        if(patch.has("category")){
+            todo.setCategory(values.getCategory());
         }
-        if(status.equals(ToDo.TaskStatus.ON_HOLD)){
-            todo.setDoneAt(null);
+        if(patch.has("targetDate")){
+            todo.setPlanningDate(values.getTargetDate());
+        }
+        if(patch.has("priority")){
+            todo.setTaskPriority(requirePatchValue(values.getPriority(), "priority"));
+        }
+        if(patch.has("status")){
+            ToDo.TaskStatus status = requirePatchValue(values.getStatus(), "status");
+            if(status != todo.getStatus()){
+                todo.setStatus(status);
+                todo.setDoneAt(status == ToDo.TaskStatus.COMPLETE ? LocalDateTime.now() : null);
+            }
         }
 
-        ToDo result = todoRepository.save(todo);
+//      증가된 버전을 응답(ETag)에 담기 위해 즉시 반영
+        todoRepository.flush();
+        userTodoStatsService.apply(userId, delta.add(todo));
+        userDataVersionRegistry.bump(userId);
+
+        return ToDoResponseDTO.from(todo);
+    }
 
-        return result.getStatus();
+    /**
+     * Merge Patch 에서 null 로 제거할 수 없는 필수 값 검증
+     * @param value 요청 값
+     * @param field 필드명
+     * @return 검증된 값
+     */
+    private <T> T requirePatchValue(T value, String field){
+        if(value == null){
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, field + " 은 비워둘 수 없습니다.");
+        }
+        return value;
     }
 
     @Override
-    public Boolean DeleteTodo(int id) {
+    @Transactional
+    public ToDo.TaskStatus UpdateStatus(int id, Long userId, ToDo.TaskStatus status) {
 
-        ToDo todo = todoRepository.findById(id).orElseThrow(
-                ()-> new EntityNotFoundException(
-                        "Not Found"
-                ));
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime doneAt = status == ToDo.TaskStatus.COMPLETE ? now : null;
 
-        todoRepository.delete(todo);
+//      변경 전 값을 읽기 전에 통계 행을 잠가 같은 사용자의 변경을 직렬화
+        userTodoStatsService.lock(userId);
 
-        return true;
+//      통계 증감분 계산을 위해 변경 전 상태 조회
+        List<TodoStatsBucketDTO> before = todoRepository.findStatsBucketsByIds(List.of(id), userId);
+        int updated = todoRepository.updateStatusByIdAndUserId(id, userId, status, doneAt, now);
+
+        if(updated == 0){
+            throw new AccessDeniedException("권한이 없거나 존재하지 않는 게시물입니다.");
+        }
+
+        userTodoStatsService.apply(userId, statusChangeDelta(before, status));
+
+        userDataVersionRegistry.bump(userId);
+
+        return status;
     }
 
     @Override
-    public Boolean CheckOwner(int id, String username) {
+    @Transactional
+    public Boolean DeleteTodo(int id, Long userId) {
 
-        ToDo todo = todoRepository.findById(id).orElseThrow(
-                ()->new EntityNotFoundException(
-                        "Not Found"
-                ));
+//      변경 전 값을 읽기 전에 통계 행을 잠가 같은 사용자의 변경을 직렬화
+        userTodoStatsService.lock(userId);
 
-        return username.equals(todo.getUser().getUsername());
+//      캘린더 증분 동기화용 삭제 기록을 먼저 남긴 후 삭제
+        todoTombstoneRepository.insertForOwnedTodos(List.of(id), userId, LocalDateTime.now());
+        List<TodoStatsBucketDTO> before = todoRepository.findStatsBucketsByIds(List.of(id), userId);
+        int deleted = todoRepository.deleteByIdAndUserId(id, userId);
+
+        if(deleted == 0){
+            throw new AccessDeniedException("권한이 없거나 존재하지 않는 게시물입니다.");
+        }
+
+        userTodoStatsService.apply(userId, new TodoStatsDelta().removeAll(before));
+
+        userDataVersionRegistry.bump(userId);
+
+        return true;
     }
 
 
@@ -147,46 +275,87 @@ public class ToDoServiceImpl implements ToDoService {
 
         User user = UserContext.getCurrentUser();
 
-        List<ToDo> list = todoRepository.findAllById(request.getId());
+        List<Integer> ids = request.getId().stream()
+                .distinct()
+                .toList();
 
-        if(list.size()!=request.getId().size()){
-            throw new EntityNotFoundException("일부 게시글을 찾을 수 없습니다.");
+        if(ids.isEmpty()){
+            return List.of();
         }
 
-        boolean hasUnauthorized = list.stream()
-                .anyMatch(toDo -> !toDo.getUser().equals(user));
+//      완료 시각은 UpdateStatus 와 동일하게 완료 시 현재 시각, 그 외에는 null
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime doneAt = request.getStatus() == ToDo.TaskStatus.COMPLETE ? now : null;
 
-        if(hasUnauthorized)
-            throw new InvalidJwtTokenException("게시글의 접근 권한이 없습니다.");
+//      변경 전 값을 읽기 전에 통계 행을 잠가 같은 사용자의 변경을 직렬화
+        userTodoStatsService.lock(user.getId());
 
-        list.forEach(toDo -> toDo.setStatus(request.getStatus()));
+        List<TodoStatsBucketDTO> before = todoRepository.findStatsBucketsByIds(ids, user.getId());
+        int updated = todoRepository.updateStatusByIdsAndUserId(ids, user.getId(), request.getStatus(), doneAt, now);
 
-        return list.stream()
-                .map(ToDoResponseDTO :: from)
-                .collect(Collectors.toList());
+//      존재하지 않거나 다른 사용자의 할 일이 포함되면 영향 행 수가 줄어듦 -> 전체 롤백
+        if(updated != ids.size()){
+            throw new AccessDeniedException("권한이 없거나 존재하지 않는 게시물입니다.");
+        }
+
+        userTodoStatsService.apply(user.getId(), statusChangeDelta(before, request.getStatus()));
+
+        log.info("할 일 상태 일괄 변경 사용자: {}, 건수: {}, 상태: {}", user.getUsername(), updated, request.getStatus());
+
+        userDataVersionRegistry.bump(user.getId());
+
+        return todoRepository.findResponsesByIdsAndUserId(ids, user.getId());
     }
 
     @Override
     @Transactional
     @InjectUserEntity
-    public boolean bulkDelete(List<Long> request) {
+    public boolean bulkDelete(List<Integer> request) {
 
         User user = UserContext.getCurrentUser();
 
-        List<ToDo> list = todoRepository.findAllById(request);
+        List<Integer> ids = request.stream()
+                .distinct()
+                .toList();
+
+//      변경 전 값을 읽기 전에 통계 행을 잠가 같은 사용자의 변경을 직렬화
+        userTodoStatsService.lock(user.getId());
+
+//      IN 절 크기를 제한하여 MySQL max_allowed_packet / 파서 부담을 넘지 않도록 청크 단위로 삭제
+        LocalDateTime now = LocalDateTime.now();
+        TodoStatsDelta delta = new TodoStatsDelta();
+        int deleted = 0;
+        for(int from = 0; from < ids.size(); from += BULK_DELETE_CHUNK_SIZE){
+            List<Integer> chunk = ids.subList(from, Math.min(from + BULK_DELETE_CHUNK_SIZE, ids.size()));
+//          캘린더 증분 동기화용 삭제 기록을 먼저 남긴 후 삭제
+            todoTombstoneRepository.insertForOwnedTodos(chunk, user.getId(), now);
+            delta.removeAll(todoRepository.findStatsBucketsByIds(chunk, user.getId()));
+            deleted += todoRepository.deleteByIdsAndUserId(chunk, user.getId());
+        }
 
-        if(request.size()!=list.size()){
-            throw new EntityNotFoundException("일부 게시글을 찾을 수 없습니다.");
+//      존재하지 않거나 다른 사용자의 할 일이 포함되면 삭제 행 수가 줄어듦 -> 전체 롤백
+        if(deleted != ids.size()){
+            throw new AccessDeniedException("권한이 없거나 존재하지 않는 게시물입니다.");
         }
 
-        boolean hasUnauthorized = list.stream().anyMatch(
-                toDo -> !toDo.getUser().getId().equals(user.getId()));
+        log.info("할 일 일괄 삭제 사용자: {}, 건수: {}", user.getUsername(), deleted);
 
-        if(hasUnauthorized)
-            throw new InvalidJwtTokenException("게시글의 접근 권한이 없습니다.");
+        userTodoStatsService.apply(user.getId(), delta);
 
-        todoRepository.deleteAllInBatch(list);
+        userDataVersionRegistry.bump(user.getId());
 
         return true;
     }
+
+    /**
+     * 상태 변경에 따른 통계 증감분
+     * @param before 변경 전 (상태, 우선순위, 카테고리) 별 할 일 수
+     * @param status 변경할 상태
+     * @return 변경 전 상태에서 빼고 변경할 상태로 더한 증감분
+     */
+    private TodoStatsDelta statusChangeDelta(List<TodoStatsBucketDTO> before, ToDo.TaskStatus status){
+        TodoStatsDelta delta = new TodoStatsDelta().removeAll(before);
+        before.forEach(bucket -> delta.add(status, bucket.getPriority(), bucket.getCategory(), bucket.getCount()));
+        return delta;
+    }
 }
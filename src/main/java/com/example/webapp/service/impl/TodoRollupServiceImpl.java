@@ -0,0 +1,193 @@
+package com.example.webapp.service.impl;
+
+import com.example.webapp.DTO.DailyTodoCountDTO;
+import com.example.webapp.DTO.TodoDailyBucketDTO;
+import com.example.webapp.DTO.TodoStatsDelta;
+import com.example.webapp.entity.TodoDailyCategoryRollup;
+import com.example.webapp.entity.TodoDailyRollup;
+import com.example.webapp.entity.TodoRollupWatermark;
+import com.example.webapp.entity.TodoTombstone;
+import com.example.webapp.repository.TodoDailyCategoryRollupRepository;
+import com.example.webapp.repository.TodoDailyRollupRepository;
+import com.example.webapp.repository.TodoRepository;
+import com.example.webapp.repository.TodoRollupWatermarkRepository;
+import com.example.webapp.repository.TodoTombstoneRepository;
+import com.example.webapp.service.TodoRollupService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TodoRollupServiceImpl implements TodoRollupService {
+
+    /**
+     * 일자별 집계 작업명 (워터마크 키)
+     */
+    private static final String DAILY_JOB = "daily";
+
+    private final TodoRepository todoRepository;
+    private final TodoDailyRollupRepository todoDailyRollupRepository;
+    private final TodoDailyCategoryRollupRepository todoDailyCategoryRollupRepository;
+    private final TodoRollupWatermarkRepository todoRollupWatermarkRepository;
+    private final TodoTombstoneRepository todoTombstoneRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public LocalDate closedBefore() {
+        return getWatermark()
+                .map(TodoRollupWatermark::getClosedBefore)
+                .orElse(ROLLUP_EPOCH);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<TodoRollupWatermark> getWatermark() {
+        return todoRollupWatermarkRepository.findById(DAILY_JOB);
+    }
+
+    @Override
+    @Transactional
+    public void compactUser(Long userId, LocalDate from, LocalDate before) {
+
+        if(!from.isBefore(before)){
+            return;
+        }
+
+        LocalDateTime startDate = from.atStartOfDay();
+        LocalDateTime endDate = before.atStartOfDay();
+
+        todoDailyRollupRepository.deleteRange(userId, from, before);
+        todoDailyCategoryRollupRepository.deleteRange(userId, from, before);
+
+        Map<LocalDate, TodoDailyRollup> days = new TreeMap<>();
+        Map<TodoDailyCategoryRollup.Key, TodoDailyCategoryRollup> categories = new HashMap<>();
+
+//      생성일 기준: 우선순위 분포, 카테고리별 현재 상태 분포
+        for(TodoDailyBucketDTO bucket : todoRepository.countCreatedBuckets(userId, startDate, endDate)){
+            day(days, userId, bucket.getDate()).addCreated(bucket.getPriority(), bucket.getCount());
+
+            String category = TodoStatsDelta.categoryKey(bucket.getCategory());
+            categories.computeIfAbsent(new TodoDailyCategoryRollup.Key(userId, bucket.getDate(), category),
+                            key -> TodoDailyCategoryRollup.builder()
+                                    .userId(userId)
+                                    .rollupDate(bucket.getDate())
+                                    .category(category)
+                                    .build())
+                    .add(bucket.getStatus(), bucket.getCount());
+        }
+
+//      완료일 기준
+        for(DailyTodoCountDTO done : todoRepository.countDonePerDay(userId, startDate, endDate)){
+            TodoDailyRollup rollup = day(days, userId, done.getDate());
+            rollup.setDone(done.getTotal());
+            rollup.setDoneCompleted(done.getCompleted());
+        }
+
+//      예정일 기준 (종료 시각 포함 조건이므로 구간 끝 직전까지)
+        for(DailyTodoCountDTO planned : todoRepository.countPlannedPerDay(userId, startDate, endDate.minusNanos(1))){
+            TodoDailyRollup rollup = day(days, userId, planned.getDate());
+            rollup.setPlanned(planned.getTotal());
+            rollup.setPlannedCompleted(planned.getCompleted());
+        }
+
+//      삭제 직후 같은 키로 적재하므로 merge(SELECT) 없이 persist
+        days.values().forEach(entityManager::persist);
+        categories.values().forEach(entityManager::persist);
+        entityManager.flush();
+        entityManager.clear();
+
+        log.debug("일자별 집계 사용자 ID: {}, 구간: {} ~ {}, 일자 수: {}", userId, from, before, days.size());
+    }
+
+    @Override
+    @Transactional
+    public void rebuildUser(Long userId, LocalDate before) {
+
+//      집계 전에 반영 일자를 먼저 갱신 (이후 변경된 할 일은 다음 실행에서 두 일자 모두 재집계)
+        todoRepository.markAllRolledUp(userId);
+        compactUser(userId, ROLLUP_EPOCH, before);
+    }
+
+    @Override
+    @Transactional
+    public int compactChangedDays(Long userId, LocalDateTime changedSince, LocalDate before) {
+
+        Set<LocalDate> days = new TreeSet<>();
+        todoRepository.findRollupDatesUpdatedSince(userId, changedSince)
+                .forEach(dates -> dates.rollupDates().forEach(days::add));
+
+        for(TodoTombstone tombstone : todoTombstoneRepository.findDeletedSince(userId, changedSince)){
+            if(tombstone.getCreatedDate() == null){
+//              일자를 기록하기 전의 삭제 기록은 영향 일자를 알 수 없으므로 전체 재집계
+                log.info("일자 없는 삭제 기록, 전체 재집계 사용자 ID: {}", userId);
+                rebuildUser(userId, before);
+                return (int) ChronoUnit.DAYS.between(ROLLUP_EPOCH, before);
+            }
+            tombstone.rollupDates().forEach(days::add);
+        }
+
+//      영향 일자를 읽은 뒤 반영 일자를 갱신하고 재집계
+        todoRepository.markRolledUpSince(userId, changedSince);
+
+//      연속된 일자는 한 구간으로 묶어서 재집계
+        int compacted = 0;
+        LocalDate rangeStart = null;
+        LocalDate rangeEnd = null;
+        for(LocalDate day : days){
+            if(!day.isBefore(before)){
+                break;
+            }
+            if(rangeEnd != null && !day.equals(rangeEnd)){
+                compactUser(userId, rangeStart, rangeEnd);
+                rangeStart = null;
+            }
+            if(rangeStart == null){
+                rangeStart = day;
+            }
+            rangeEnd = day.plusDays(1);
+            compacted++;
+        }
+        if(rangeStart != null){
+            compactUser(userId, rangeStart, rangeEnd);
+        }
+
+        return compacted;
+    }
+
+    @Override
+    @Transactional
+    public void advanceWatermark(LocalDateTime changedSince, LocalDate closedBefore) {
+
+        TodoRollupWatermark watermark = todoRollupWatermarkRepository.findById(DAILY_JOB)
+                .orElseGet(() -> TodoRollupWatermark.builder().jobName(DAILY_JOB).build());
+
+        watermark.setChangedSince(changedSince);
+        watermark.setClosedBefore(closedBefore);
+        todoRollupWatermarkRepository.save(watermark);
+    }
+
+    private static TodoDailyRollup day(Map<LocalDate, TodoDailyRollup> days, Long userId, LocalDate date){
+        return days.computeIfAbsent(date, key -> TodoDailyRollup.builder()
+                .userId(userId)
+                .rollupDate(key)
+                .build());
+    }
+}
@@ -0,0 +1,503 @@
+package com.example.webapp.service.impl;
+
+import com.example.webapp.DTO.ToDoResponseDTO;
+import com.example.webapp.DTO.TodoImportResultDTO;
+import com.example.webapp.DTO.TodoStatsDelta;
+import com.example.webapp.DTO.request.TodoTransferFormat;
+import com.example.webapp.common.cache.UserDataVersionRegistry;
+import com.example.webapp.entity.ToDo;
+import com.example.webapp.entity.User;
+import com.example.webapp.repository.TodoRepository;
+import com.example.webapp.service.TodoTransferService;
+import com.example.webapp.service.UserTodoStatsService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.PersistenceException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TodoTransferServiceImpl implements TodoTransferService {
+
+    /**
+     * 출력 버퍼를 비우는 주기 (건)
+     */
+    private static final int FLUSH_INTERVAL = 1000;
+
+    private static final String CSV_HEADER = "id,title,memo,taskPriority,taskStatus,category,planningDate,doneAt,createdAt";
+
+    /**
+     * 가져오기 시 한 트랜잭션에서 저장하는 건수
+     * hibernate.jdbc.batch_size 의 배수로 설정하여 INSERT 를 배치로 전송
+     */
+    private static final int IMPORT_CHUNK_SIZE = 500;
+
+    /**
+     * 결과에 기록하는 최대 행 오류 수
+     */
+    private static final int MAX_ROW_ERRORS = 100;
+
+    private final TodoRepository todoRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final UserDataVersionRegistry userDataVersionRegistry;
+    private final UserTodoStatsService userTodoStatsService;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportTodos(Long userId, TodoTransferFormat format, OutputStream outputStream) throws IOException {
+
+        log.info("할 일 내보내기 사용자 ID: {}, 형식: {}", userId, format);
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        long count = 0;
+
+        if(format == TodoTransferFormat.CSV){
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        try(Stream<ToDo> stream = todoRepository.streamByUserId(userId)){
+            Iterator<ToDo> iterator = stream.iterator();
+
+            while(iterator.hasNext()){
+                ToDo todo = iterator.next();
+                ToDoResponseDTO dto = ToDoResponseDTO.from(todo);
+
+//              기록한 엔티티는 영속성 컨텍스트에서 분리하여 컨텍스트가 커지지 않도록 함
+                entityManager.detach(todo);
+
+                if(format == TodoTransferFormat.CSV){
+                    writeCsvRow(writer, dto);
+                }else{
+                    writer.write(objectMapper.writeValueAsString(dto));
+                    writer.write('\n');
+                }
+
+                if(++count % FLUSH_INTERVAL == 0){
+                    writer.flush();
+                }
+            }
+        }
+
+        writer.flush();
+        log.info("할 일 내보내기 완료 사용자 ID: {}, 건수: {}", userId, count);
+
+        return count;
+    }
+
+    @Override
+    public TodoImportResultDTO importTodos(Long userId, TodoTransferFormat format, InputStream inputStream) throws IOException {
+
+        log.info("할 일 가져오기 사용자 ID: {}, 형식: {}", userId, format);
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        RowReader rowReader = format == TodoTransferFormat.CSV ? new CsvRowReader(reader) : new NdjsonRowReader(reader, objectMapper);
+
+        TodoImportResultDTO result = new TodoImportResultDTO();
+        List<ToDo> chunk = new ArrayList<>(IMPORT_CHUNK_SIZE);
+        long rowNumber = 0;
+        long chunkStartRow = 1;
+
+//      행 단위로 읽고 검증하여 청크가 차면 저장 (입력 전체를 메모리에 올리지 않음)
+        while(true){
+            Map<String, String> row;
+            try{
+                row = rowReader.next();
+            }catch (IllegalArgumentException e){
+                rowNumber++;
+                addRowError(result, rowNumber, e.getMessage());
+                continue;
+            }
+
+            if(row == null){
+                break;
+            }
+
+            rowNumber++;
+            try{
+                chunk.add(toToDo(row));
+            }catch (IllegalArgumentException e){
+                addRowError(result, rowNumber, e.getMessage());
+            }
+
+            if(chunk.size() == IMPORT_CHUNK_SIZE){
+                saveChunk(userId, chunk, chunkStartRow, rowNumber, result);
+                chunk.clear();
+                chunkStartRow = rowNumber + 1;
+            }
+        }
+
+        if(!chunk.isEmpty()){
+            saveChunk(userId, chunk, chunkStartRow, rowNumber, result);
+        }
+
+        result.setTotalRows(rowNumber);
+        log.info("할 일 가져오기 완료 사용자 ID: {}, 전체: {}, 저장: {}, 실패: {}",
+                userId, rowNumber, result.getImported(), result.getFailed());
+
+        return result;
+    }
+
+    /**
+     * 청크 단위로 별도 트랜잭션에서 저장
+     * 저장 후 flush / clear 하여 영속성 컨텍스트가 커지지 않도록 하며, 실패 시 해당 청크만 롤백
+     */
+    private void saveChunk(Long userId, List<ToDo> chunk, long fromRow, long toRow, TodoImportResultDTO result){
+        int chunkNumber = result.getChunks().size() + 1;
+
+        try{
+            transactionTemplate.executeWithoutResult(status -> {
+                User owner = entityManager.getReference(User.class, userId);
+                TodoStatsDelta delta = new TodoStatsDelta();
+
+                for(ToDo todo : chunk){
+                    todo.setUser(owner);
+                    entityManager.persist(todo);
+                    delta.add(todo);
+                }
+                entityManager.flush();
+                entityManager.clear();
+
+                userTodoStatsService.apply(userId, delta);
+
+                userDataVersionRegistry.bump(userId);
+            });
+
+            result.setImported(result.getImported() + chunk.size());
+            result.getChunks().add(new TodoImportResultDTO.ChunkResult(chunkNumber, fromRow, toRow, chunk.size(), true));
+            log.debug("할 일 가져오기 청크 {} 저장 완료 ({} ~ {}행, {}건)", chunkNumber, fromRow, toRow, chunk.size());
+        }catch (DataAccessException | PersistenceException | TransactionException e){
+            log.warn("할 일 가져오기 청크 {} 저장 실패 ({} ~ {}행): {}", chunkNumber, fromRow, toRow, e.getMessage());
+
+            result.setFailed(result.getFailed() + chunk.size());
+            result.getChunks().add(new TodoImportResultDTO.ChunkResult(chunkNumber, fromRow, toRow, 0, false));
+            addError(result, new TodoImportResultDTO.RowError(fromRow, "청크 저장 실패 (" + fromRow + " ~ " + toRow + "행): " + NestedExceptionUtils.getMostSpecificCause(e).getMessage()));
+        }
+    }
+
+    private void addRowError(TodoImportResultDTO result, long row, String message){
+        result.setFailed(result.getFailed() + 1);
+        addError(result, new TodoImportResultDTO.RowError(row, message));
+    }
+
+    private void addError(TodoImportResultDTO result, TodoImportResultDTO.RowError error){
+        if(result.getErrors().size() < MAX_ROW_ERRORS){
+            result.getErrors().add(error);
+        }else{
+            result.setOmittedErrors(result.getOmittedErrors() + 1);
+        }
+    }
+
+    /**
+     * 입력 행을 검증하여 할 일 엔티티로 변환
+     * 내보내기 형식의 필드명(taskPriority, taskStatus, planningDate)과 등록 API 의 필드명을 모두 허용
+     * @param row 필드명 - 값
+     * @return 저장할 할 일 (사용자 미지정)
+     * @throws IllegalArgumentException 검증 실패 시
+     */
+    private ToDo toToDo(Map<String, String> row){
+        String title = field(row, "title");
+        if(title == null){
+            throw new IllegalArgumentException("제목(title)은 필수입니다.");
+        }
+        if(title.length() > 50){
+            throw new IllegalArgumentException("제목(title)은 50자 이하여야 합니다.");
+        }
+
+        String memo = field(row, "memo");
+        if(memo != null && memo.length() > 200){
+            throw new IllegalArgumentException("메모(memo)는 200자 이하여야 합니다.");
+        }
+
+        String category = field(row, "category");
+        if(category != null && category.length() > 255){
+            throw new IllegalArgumentException("카테고리(category)는 255자 이하여야 합니다.");
+        }
+
+        ToDo todo = ToDo.builder()
+                .title(title)
+                .memo(memo)
+                .planningDate(parseDateTime(row, "planningDate", "targetDate"))
+                .doneAt(parseDateTime(row, "doneAt"))
+                .build();
+
+        if(category != null){
+            todo.setCategory(category);
+        }
+
+        String priority = field(row, "taskPriority", "priority");
+        if(priority != null){
+            todo.setTaskPriority(parseEnum(ToDo.TaskPriority.class, priority, "우선순위"));
+        }
+
+        String status = field(row, "taskStatus", "status");
+        if(status != null){
+            todo.setStatus(parseEnum(ToDo.TaskStatus.class, status, "상태"));
+        }
+
+        if(todo.getStatus() == ToDo.TaskStatus.COMPLETE && todo.getDoneAt() == null){
+            todo.setDoneAt(LocalDateTime.now());
+        }
+        if(todo.getStatus() != ToDo.TaskStatus.COMPLETE){
+            todo.setDoneAt(null);
+        }
+
+        return todo;
+    }
+
+    /**
+     * 후보 필드명 중 처음으로 값이 있는 필드 반환 (빈 문자열은 null)
+     */
+    private static String field(Map<String, String> row, String... names){
+        for(String name : names){
+            String value = row.get(name);
+            if(value != null && !value.isBlank()){
+                return value.trim();
+            }
+        }
+        return null;
+    }
+
+    private static LocalDateTime parseDateTime(Map<String, String> row, String... names){
+        String value = field(row, names);
+        if(value == null){
+            return null;
+        }
+
+        try{
+//          등록 API 형식(yyyy-MM-dd'T'HH:mm:ss.SSS'Z')과 ISO 형식을 모두 허용
+            return LocalDateTime.parse(value.endsWith("Z") ? value.substring(0, value.length() - 1) : value);
+        }catch (DateTimeParseException e){
+            throw new IllegalArgumentException("날짜 형식이 올바르지 않습니다 (" + names[0] + "): " + value);
+        }
+    }
+
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String value, String label){
+        try{
+            return Enum.valueOf(type, value.toUpperCase(Locale.ROOT));
+        }catch (IllegalArgumentException e){
+            throw new IllegalArgumentException("지원하지 않는 " + label + " 값입니다: " + value);
+        }
+    }
+
+    /**
+     * 할 일 1건을 CSV 행으로 기록
+     */
+    private void writeCsvRow(Writer writer, ToDoResponseDTO dto) throws IOException {
+        writer.write(String.valueOf(dto.getId()));
+        writer.write(',');
+        writer.write(csv(dto.getTitle()));
+        writer.write(',');
+        writer.write(csv(dto.getMemo()));
+        writer.write(',');
+        writer.write(csv(dto.getTaskPriority() == null ? null : dto.getTaskPriority().name()));
+        writer.write(',');
+        writer.write(csv(dto.getTaskStatus() == null ? null : dto.getTaskStatus().name()));
+        writer.write(',');
+        writer.write(csv(dto.getCategory()));
+        writer.write(',');
+        writer.write(csv(dto.getPlanningDate()));
+        writer.write(',');
+        writer.write(csv(dto.getDoneAt()));
+        writer.write(',');
+        writer.write(csv(dto.getCreatedAt()));
+        writer.write('\n');
+    }
+
+    private static String csv(LocalDateTime value){
+        return value == null ? "" : value.toString();
+    }
+
+    /**
+     * CSV 값 이스케이프 (쉼표, 따옴표, 줄바꿈 포함 시 따옴표로 감쌈)
+     */
+    private static String csv(String value){
+        if(value == null){
+            return "";
+        }
+        if(value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0){
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+        return value;
+    }
+
+    /**
+     * 가져오기 입력을 한 행씩 읽는 리더
+     */
+    private interface RowReader {
+
+        /**
+         * 다음 행 읽기
+         * @return 필드명 - 값 (입력 끝이면 null)
+         * @throws IllegalArgumentException 행 형식이 잘못된 경우 (해당 행은 소비됨)
+         */
+        Map<String, String> next() throws IOException;
+    }
+
+    /**
+     * NDJSON 리더 (빈 줄은 건너뜀)
+     */
+    private static class NdjsonRowReader implements RowReader {
+
+        private final BufferedReader reader;
+        private final ObjectMapper objectMapper;
+
+        NdjsonRowReader(BufferedReader reader, ObjectMapper objectMapper){
+            this.reader = reader;
+            this.objectMapper = objectMapper;
+        }
+
+        @Override
+        public Map<String, String> next() throws IOException {
+            String line;
+            do{
+                line = reader.readLine();
+                if(line == null){
+                    return null;
+                }
+            }while(line.isBlank());
+
+            JsonNode node;
+            try{
+                node = objectMapper.readTree(line);
+            }catch (JsonProcessingException e){
+                throw new IllegalArgumentException("JSON 형식이 올바르지 않습니다: " + e.getOriginalMessage());
+            }
+            if(!node.isObject()){
+                throw new IllegalArgumentException("JSON 객체가 아닙니다.");
+            }
+
+            Map<String, String> row = new HashMap<>();
+            node.fields().forEachRemaining(entry -> {
+                if(!entry.getValue().isNull()){
+                    row.put(entry.getKey(), entry.getValue().asText());
+                }
+            });
+            return row;
+        }
+    }
+
+    /**
+     * CSV 리더 (RFC 4180, 첫 행은 헤더, 따옴표 안의 쉼표 / 줄바꿈 허용)
+     */
+    private static class CsvRowReader implements RowReader {
+
+        private final BufferedReader reader;
+        private List<String> header;
+
+        CsvRowReader(BufferedReader reader){
+            this.reader = reader;
+        }
+
+        @Override
+        public Map<String, String> next() throws IOException {
+            if(header == null){
+                header = readRecord();
+                if(header == null){
+                    return null;
+                }
+            }
+
+            List<String> values;
+            do{
+                values = readRecord();
+                if(values == null){
+                    return null;
+                }
+            }while(values.size() == 1 && values.getFirst().isEmpty());
+
+            if(values.size() > header.size()){
+                throw new IllegalArgumentException("헤더보다 많은 열이 있습니다: " + values.size());
+            }
+
+            Map<String, String> row = new HashMap<>();
+            for(int i = 0; i < values.size(); i++){
+                row.put(header.get(i).trim(), values.get(i));
+            }
+            return row;
+        }
+
+        /**
+         * 레코드 1건 읽기
+         * @return 값 목록 (입력 끝이면 null)
+         */
+        private List<String> readRecord() throws IOException {
+            int c = reader.read();
+            if(c == -1){
+                return null;
+            }
+
+            List<String> values = new ArrayList<>();
+            StringBuilder value = new StringBuilder();
+            boolean quoted = false;
+
+            while(c != -1){
+                if(quoted){
+                    if(c == '"'){
+                        reader.mark(1);
+                        int next = reader.read();
+                        if(next == '"'){
+                            value.append('"');
+                        }else{
+                            quoted = false;
+                            reader.reset();
+                        }
+                    }else{
+                        value.append((char) c);
+                    }
+                }else if(c == '"' && value.isEmpty()){
+                    quoted = true;
+                }else if(c == ','){
+                    values.add(value.toString());
+                    value.setLength(0);
+                }else if(c == '\n'){
+                    break;
+                }else if(c != '\r'){
+                    value.append((char) c);
+                }
+                c = reader.read();
+            }
+
+            if(quoted){
+                throw new IllegalArgumentException("닫히지 않은 따옴표가 있습니다.");
+            }
+
+            values.add(value.toString());
+            return values;
+        }
+    }
+}
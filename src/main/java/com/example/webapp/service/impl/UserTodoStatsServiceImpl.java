@@ -0,0 +1,132 @@
+package com.example.webapp.service.impl;
+
+import com.example.webapp.DTO.TodoAggregateDTO;
+import com.example.webapp.DTO.TodoStatsDelta;
+import com.example.webapp.entity.ToDo;
+import com.example.webapp.entity.UserTodoCategoryStats;
+import com.example.webapp.entity.UserTodoStats;
+import com.example.webapp.repository.TodoRepository;
+import com.example.webapp.repository.UserTodoCategoryStatsRepository;
+import com.example.webapp.repository.UserTodoStatsRepository;
+import com.example.webapp.service.UserTodoStatsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UserTodoStatsServiceImpl implements UserTodoStatsService {
+
+    private final UserTodoStatsRepository userTodoStatsRepository;
+    private final UserTodoCategoryStatsRepository userTodoCategoryStatsRepository;
+    private final TodoRepository todoRepository;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void lock(Long userId) {
+        userTodoStatsRepository.findForUpdate(userId);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void apply(Long userId, TodoStatsDelta delta) {
+
+        if(delta.isEmpty()){
+            return;
+        }
+
+//      변경 경로에서 lock 으로 통계 행을 먼저 잠그므로 카테고리 행 생성도 직렬화됨
+        long updated = userTodoStatsRepository.applyDelta(userId, delta, LocalDateTime.now());
+
+        if(updated == 0){
+//          통계 행이 없는 사용자는 현재 트랜잭션에서 변경된 todos 기준으로 새로 집계
+            log.info("사용자 통계 행 없음, 재집계 사용자 ID: {}", userId);
+            rebuild(userId);
+            return;
+        }
+
+        delta.getCategories().forEach((category, count) -> {
+            if(count == 0){
+                return;
+            }
+            int affected = userTodoCategoryStatsRepository.increment(userId, category, count);
+            if(affected == 0 && count > 0){
+                userTodoCategoryStatsRepository.save(new UserTodoCategoryStats(userId, category, count));
+            }
+        });
+    }
+
+    @Override
+    @Transactional
+    public void rebuild(Long userId) {
+
+//      잠금 이후 todos 를 집계하여 진행 중인 증감 트랜잭션과 겹치지 않도록 함
+        UserTodoStats stats = userTodoStatsRepository.findForUpdate(userId)
+                .orElseGet(() -> UserTodoStats.builder().userId(userId).build());
+
+        TodoStatsDelta actual = new TodoStatsDelta();
+        todoRepository.findStatsBucketsByUserId(userId)
+                .forEach(bucket -> actual.add(bucket.getStatus(), bucket.getPriority(), bucket.getCategory(), bucket.getCount()));
+
+        stats.setTotal(actual.getTotal());
+        stats.setCompleted(actual.getCompleted());
+        stats.setInProgress(actual.getInProgress());
+        stats.setOnHold(actual.getOnHold());
+        stats.setVeryHigh(actual.getVeryHigh());
+        stats.setHigh(actual.getHigh());
+        stats.setMiddle(actual.getMiddle());
+        stats.setLow(actual.getLow());
+        stats.setVeryLow(actual.getVeryLow());
+        stats.setUpdatedAt(LocalDateTime.now());
+        userTodoStatsRepository.save(stats);
+
+        userTodoCategoryStatsRepository.deleteByUserId(userId);
+        userTodoCategoryStatsRepository.saveAll(actual.getCategories().entrySet().stream()
+                .map(entry -> new UserTodoCategoryStats(userId, entry.getKey(), entry.getValue()))
+                .toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TodoAggregateDTO getAggregate(Long userId, LocalDateTime now, LocalDateTime activeSince) {
+
+        UserTodoStats stats = userTodoStatsRepository.findById(userId).orElse(null);
+
+        if(stats == null){
+//          재집계 전인 사용자는 기존 단일 집계 쿼리로 응답
+            return todoRepository.getTodoAggregate(userId, now, activeSince);
+        }
+
+        return TodoAggregateDTO.builder()
+                .total(stats.getTotal())
+                .completed(stats.getCompleted())
+                .inProgress(stats.getInProgress())
+                .onHold(stats.getOnHold())
+                .veryHigh(stats.getVeryHigh())
+                .high(stats.getHigh())
+                .middle(stats.getMiddle())
+                .low(stats.getLow())
+                .veryLow(stats.getVeryLow())
+                .overdue(todoRepository.countOverdue(userId, ToDo.TaskStatus.OVERDUE_STATUSES, now))
+                .activeDays(todoRepository.countActiveDays(userId, activeSince))
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, Long> getCategoryCounts(Long userId) {
+
+        Map<String, Long> result = new LinkedHashMap<>();
+        userTodoCategoryStatsRepository.findNonEmptyByUserId(userId)
+                .forEach(stats -> result.put(stats.getCategory(), stats.getTodoCount()));
+
+        return result;
+    }
+}
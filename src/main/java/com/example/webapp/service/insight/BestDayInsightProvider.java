@@ -0,0 +1,93 @@
+package com.example.webapp.service.insight;
+
+import com.example.webapp.DTO.BestProducibilityDateDTO;
+import com.example.webapp.DTO.DailyTodoCountDTO;
+import com.example.webapp.DTO.InsightDTO;
+import com.example.webapp.entity.User;
+import com.example.webapp.repository.TodoDailyRollupRepository;
+import com.example.webapp.repository.TodoRepository;
+import com.example.webapp.service.TodoRollupService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 최고 작업일 인사이트
+ * 예정일 기준 완료율이 가장 높은 작업일
+ */
+@Component
+@Order(200)
+@RequiredArgsConstructor
+public class BestDayInsightProvider implements InsightProvider {
+
+    /**
+     * 최고 작업일 후보가 되기 위한 최소 예정 할 일 수 (1 ~ 2 건인 일자의 100% 완료율 제외)
+     */
+    static final long BEST_DAY_MIN_PLANNED = 3L;
+
+    /**
+     * 작업일 정렬 기준 (완료율, 완료 수, 최근 일자 순)
+     * 일자별 집계의 findBestDays 정렬과 동일
+     */
+    private static final Comparator<DailyTodoCountDTO> BEST_DAY_ORDER =
+            Comparator.comparingLong((DailyTodoCountDTO day) -> day.getCompleted() * 100 / day.getTotal())
+                    .thenComparingLong(DailyTodoCountDTO::getCompleted)
+                    .thenComparing(DailyTodoCountDTO::getDate)
+                    .reversed();
+
+    private final TodoRepository todoRepository;
+    private final TodoRollupService todoRollupService;
+    private final TodoDailyRollupRepository todoDailyRollupRepository;
+
+    @Override
+    public String getName() {
+        return "best-day";
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<InsightDTO> provide(User user) {
+        return findBestDays(user.getId(), 1).stream()
+                .map(best -> new InsightDTO(
+                        "positive",
+                        "최고 작업일",
+                        best.getDate()+"에 예정된 "+best.getTotal()+"개의 할 일 중 "+best.getCompleted()+"개를 완료했습니다. 완료율: "+best.getProgress()+"%"))
+                .toList();
+    }
+
+    /**
+     * 완료율이 가장 높은 작업일 상위 N 건
+     * 예정된 할 일이 BEST_DAY_MIN_PLANNED 개 미만인 일자는 제외
+     * 마감된 일자는 일자별 집계에서 상위 N 건만, 이후 일자는 todos 에서 일자별로 조회하여 병합
+     * @param userId 사용자 고유 ID
+     * @param limit 최대 조회 일자 수
+     * @return 완료율, 완료 수, 최근 일자 순 작업일 리스트
+     */
+    @Transactional(readOnly = true)
+    public List<BestProducibilityDateDTO> findBestDays(Long userId, int limit){
+
+        LocalDate closedBefore = todoRollupService.closedBefore();
+
+        List<DailyTodoCountDTO> candidates = new ArrayList<>();
+        todoDailyRollupRepository.findBestDays(userId, BEST_DAY_MIN_PLANNED, PageRequest.of(0, limit))
+                .forEach(rollup -> candidates.add(new DailyTodoCountDTO(rollup.getRollupDate(), rollup.getPlanned(), rollup.getPlannedCompleted())));
+
+        todoRepository.countPlannedPerDay(userId, closedBefore.atStartOfDay(), LocalDate.now().atTime(LocalTime.MAX)).stream()
+                .filter(day -> day.getTotal() >= BEST_DAY_MIN_PLANNED)
+                .forEach(candidates::add);
+
+        return candidates.stream()
+                .sorted(BEST_DAY_ORDER)
+                .limit(limit)
+                .map(BestProducibilityDateDTO::from)
+                .toList();
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.webapp.service.insight;
+
+import com.example.webapp.DTO.InsightDTO;
+import com.example.webapp.config.InsightProperties;
+import com.example.webapp.entity.User;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 인사이트 제공자를 동시에 실행하여 결과를 병합
+ * 전체 응답 시간은 제공자 응답 시간의 합이 아닌 최대값
+ * 실패하거나 제한 시간을 넘긴 제공자는 결과에서 제외하고 나머지 인사이트만 반환
+ */
+@Component
+@Slf4j
+public class InsightPipeline {
+
+    private final List<InsightProvider> insightProviders;
+    private final ExecutorService insightExecutor;
+    private final InsightProperties insightProperties;
+
+    public InsightPipeline(List<InsightProvider> insightProviders,
+                           @Qualifier("insightExecutor") ExecutorService insightExecutor,
+                           InsightProperties insightProperties) {
+        this.insightProviders = insightProviders;
+        this.insightExecutor = insightExecutor;
+        this.insightProperties = insightProperties;
+    }
+
+    /**
+     * 모든 제공자의 인사이트 조회
+     * 제공자는 동시에 시작하므로 제한 시간은 시작 시각 기준으로 한 번만 계산
+     * @param user 사용자 식별 정보
+     * @return 제공자 순서대로 병합된 인사이트 리스트
+     */
+    public List<InsightDTO> collect(User user){
+
+        List<Future<List<InsightDTO>>> futures = new ArrayList<>();
+        for(InsightProvider provider : insightProviders){
+            futures.add(insightExecutor.submit(() -> provider.provide(user)));
+        }
+
+        long deadline = System.nanoTime() + insightProperties.getProviderTimeout().toNanos();
+        List<InsightDTO> result = new ArrayList<>();
+
+        for(int i = 0; i < futures.size(); i++){
+            InsightProvider provider = insightProviders.get(i);
+            Future<List<InsightDTO>> future = futures.get(i);
+
+            try{
+                List<InsightDTO> insights = future.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                if(insights != null){
+                    result.addAll(insights);
+                }
+            }catch (TimeoutException e){
+                future.cancel(true);
+                log.warn("인사이트 제공자 제한 시간 초과 제공자: {}, 사용자: {}", provider.getName(), user.getUsername());
+            }catch (ExecutionException e){
+                log.warn("인사이트 제공자 실패 제공자: {}, 사용자: {}", provider.getName(), user.getUsername(), e.getCause());
+            }catch (InterruptedException e){
+                futures.forEach(remaining -> remaining.cancel(true));
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        return result;
+    }
+}
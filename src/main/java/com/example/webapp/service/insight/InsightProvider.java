@@ -0,0 +1,28 @@
+package com.example.webapp.service.insight;
+
+import com.example.webapp.DTO.InsightDTO;
+import com.example.webapp.entity.User;
+
+import java.util.List;
+
+/**
+ * 인사이트 제공자
+ * 각 제공자는 InsightPipeline 에서 가상 스레드로 동시에 실행되며 자체 읽기 전용 트랜잭션에서 조회
+ * 요청 스레드의 UserContext 는 전달되지 않으므로 사용자는 인자로 받음
+ * 결과는 @Order 순서로 병합
+ */
+public interface InsightProvider {
+
+    /**
+     * 로그에 표시할 제공자 이름
+     * @return 제공자 이름
+     */
+    String getName();
+
+    /**
+     * 사용자의 인사이트 조회
+     * @param user 사용자 식별 정보
+     * @return 인사이트 리스트 (해당 없으면 빈 리스트)
+     */
+    List<InsightDTO> provide(User user);
+}
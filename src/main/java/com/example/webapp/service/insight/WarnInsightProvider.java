@@ -0,0 +1,38 @@
+package com.example.webapp.service.insight;
+
+import com.example.webapp.DTO.InsightDTO;
+import com.example.webapp.entity.User;
+import com.example.webapp.repository.TodoRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 카테고리별 지연 할 일 주의 인사이트
+ */
+@Component
+@Order(100)
+@RequiredArgsConstructor
+public class WarnInsightProvider implements InsightProvider {
+
+    private final TodoRepository todoRepository;
+
+    @Override
+    public String getName() {
+        return "warn";
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<InsightDTO> provide(User user) {
+        return todoRepository.getWarnInsight(user).stream()
+                .map(insight -> new InsightDTO(
+                        "warn",
+                        "주의 필요",
+                        insight.getCategory()+"카테고리에서 "+insight.getCount()+"개의 지연된 할 일이 있습니다."))
+                .toList();
+    }
+}
@@ -0,0 +1,17 @@
+-- V2: todos 테이블 조회 경로별 복합 인덱스
+-- 모든 조회가 user_id 로 시작하므로 user_id 를 선두 컬럼으로 둔다
+
+-- findByUserAndPlanningDateBetween, countByUserAndPlanningDateBefore
+CREATE INDEX idx_todos_user_planning ON todos (user_id, planning_date);
+
+-- countByUserAndStatus, countByUserAndPlanningDateBeforeAndStatus
+CREATE INDEX idx_todos_user_status_planning ON todos (user_id, status, planning_date);
+
+-- countActiveDays, countByUserAndCreatedAtBetween, 분포 분석 조회
+CREATE INDEX idx_todos_user_created ON todos (user_id, created_at);
+
+-- getWarnInsight, getBestProducibilityDate
+CREATE INDEX idx_todos_user_done ON todos (user_id, done_at);
+
+-- findByUserAndTaskPriorityAndStatus, countByUserAndTaskPriority
+CREATE INDEX idx_todos_user_priority_status ON todos (user_id, priority, status);
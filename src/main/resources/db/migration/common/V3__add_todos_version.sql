@@ -0,0 +1,3 @@
+-- V3: todos 낙관적 잠금 버전 컬럼
+-- 기존 행은 0 으로 시작하며, JPA 외 경로(JDBC 적재 등)로 삽입되는 행도 기본값을 사용한다
+ALTER TABLE todos ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
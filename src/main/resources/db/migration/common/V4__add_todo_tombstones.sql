@@ -0,0 +1,15 @@
+-- V4: 캘린더 증분 동기화
+-- 삭제된 할 일은 행이 사라지므로 삭제 기록(tombstone)을 별도로 남긴다
+-- 보관 기간이 지난 기록은 스케줄러가 정리한다 (app.calendar.sync.tombstone-retention)
+CREATE TABLE todo_tombstones (
+    todo_id     INT          NOT NULL,
+    user_id     BIGINT       NOT NULL,
+    deleted_at  DATETIME(6)  NOT NULL,
+    PRIMARY KEY (todo_id)
+);
+
+-- 사용자별 삭제 변경분 조회 (deleted_at > 워터마크)
+CREATE INDEX idx_todo_tombstones_user_deleted ON todo_tombstones (user_id, deleted_at);
+
+-- 사용자별 생성/수정 변경분 조회 (updated_at > 워터마크)
+CREATE INDEX idx_todos_user_updated ON todos (user_id, updated_at);
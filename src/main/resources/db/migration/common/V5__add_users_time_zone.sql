@@ -0,0 +1,4 @@
+-- V5: 사용자별 시간대
+-- "오늘", "지연" 등 날짜 경계를 사용자 시간대 기준으로 계산하기 위해 추가
+-- 기존 사용자는 서비스 기본 시간대(Asia/Seoul)로 설정
+ALTER TABLE users ADD COLUMN time_zone VARCHAR(40) DEFAULT 'Asia/Seoul' NOT NULL;
@@ -0,0 +1,48 @@
+-- V6: 사용자별 할 일 통계 읽기 모델
+-- 할 일 변경과 같은 트랜잭션에서 카운터를 증감하여 통계 조회 시 todos 스캔을 제거한다
+-- 어긋난 값은 재집계 작업이 todos 기준으로 다시 계산한다 (app.stats.reconcile-cron)
+CREATE TABLE user_todo_stats (
+    user_id             BIGINT       NOT NULL,
+    total               BIGINT       DEFAULT 0 NOT NULL,
+    completed           BIGINT       DEFAULT 0 NOT NULL,
+    in_progress         BIGINT       DEFAULT 0 NOT NULL,
+    on_hold             BIGINT       DEFAULT 0 NOT NULL,
+    priority_very_high  BIGINT       DEFAULT 0 NOT NULL,
+    priority_high       BIGINT       DEFAULT 0 NOT NULL,
+    priority_middle     BIGINT       DEFAULT 0 NOT NULL,
+    priority_low        BIGINT       DEFAULT 0 NOT NULL,
+    priority_very_low   BIGINT       DEFAULT 0 NOT NULL,
+    updated_at          DATETIME(6)  NOT NULL,
+    PRIMARY KEY (user_id)
+);
+
+-- 카테고리는 자유 입력이므로 (사용자, 카테고리) 행으로 보관, 카테고리 없음은 '' 로 저장
+CREATE TABLE user_todo_category_stats (
+    user_id     BIGINT        NOT NULL,
+    category    VARCHAR(255)  NOT NULL,
+    todo_count  BIGINT        DEFAULT 0 NOT NULL,
+    PRIMARY KEY (user_id, category)
+);
+
+-- 기존 사용자 통계 적재 (priority 는 ORDINAL: VERY_HIGH=0 ~ VERY_LOW=4)
+INSERT INTO user_todo_stats (user_id, total, completed, in_progress, on_hold,
+                             priority_very_high, priority_high, priority_middle, priority_low, priority_very_low, updated_at)
+SELECT u.id,
+       COUNT(t.id),
+       SUM(CASE WHEN t.status = 'COMPLETE' THEN 1 ELSE 0 END),
+       SUM(CASE WHEN t.status = 'IN_PROGRESS' THEN 1 ELSE 0 END),
+       SUM(CASE WHEN t.status = 'ON_HOLD' THEN 1 ELSE 0 END),
+       SUM(CASE WHEN t.priority = 0 THEN 1 ELSE 0 END),
+       SUM(CASE WHEN t.priority = 1 THEN 1 ELSE 0 END),
+       SUM(CASE WHEN t.priority = 2 THEN 1 ELSE 0 END),
+       SUM(CASE WHEN t.priority = 3 THEN 1 ELSE 0 END),
+       SUM(CASE WHEN t.priority = 4 THEN 1 ELSE 0 END),
+       CURRENT_TIMESTAMP
+FROM users u
+LEFT JOIN todos t ON t.user_id = u.id
+GROUP BY u.id;
+
+INSERT INTO user_todo_category_stats (user_id, category, todo_count)
+SELECT t.user_id, COALESCE(t.category, ''), COUNT(t.id)
+FROM todos t
+GROUP BY t.user_id, COALESCE(t.category, '');
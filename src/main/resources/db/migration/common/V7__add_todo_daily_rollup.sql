@@ -0,0 +1,42 @@
+-- V7: 분석용 일자별 집계 (rollup)
+-- 마감된 일자(todo_rollup_watermark.closed_before 이전)는 rollup 에서, 이후 일자는 todos 에서 직접 조회한다
+-- 야간 집계 작업은 사용자 / 일자 구간 단위로 삭제 후 다시 적재하므로 같은 구간을 여러 번 실행해도 결과가 같다
+CREATE TABLE todo_daily_rollup (
+    user_id             BIGINT  NOT NULL,
+    rollup_date         DATE    NOT NULL,
+    created             BIGINT  DEFAULT 0 NOT NULL,
+    created_very_high   BIGINT  DEFAULT 0 NOT NULL,
+    created_high        BIGINT  DEFAULT 0 NOT NULL,
+    created_middle      BIGINT  DEFAULT 0 NOT NULL,
+    created_low         BIGINT  DEFAULT 0 NOT NULL,
+    created_very_low    BIGINT  DEFAULT 0 NOT NULL,
+    done                BIGINT  DEFAULT 0 NOT NULL,
+    done_completed      BIGINT  DEFAULT 0 NOT NULL,
+    planned             BIGINT  DEFAULT 0 NOT NULL,
+    planned_completed   BIGINT  DEFAULT 0 NOT NULL,
+    PRIMARY KEY (user_id, rollup_date)
+);
+
+-- 생성일 기준 카테고리별 현재 상태 분포, 카테고리 없음은 '' 로 저장
+CREATE TABLE todo_daily_category_rollup (
+    user_id      BIGINT        NOT NULL,
+    rollup_date  DATE          NOT NULL,
+    category     VARCHAR(255)  NOT NULL,
+    completed    BIGINT        DEFAULT 0 NOT NULL,
+    in_progress  BIGINT        DEFAULT 0 NOT NULL,
+    on_hold      BIGINT        DEFAULT 0 NOT NULL,
+    PRIMARY KEY (user_id, rollup_date, category)
+);
+
+-- 집계 작업 진행 상태
+-- changed_since: 이 시각 이후 변경된 사용자는 다음 실행에서 전체 일자를 다시 집계
+-- closed_before: 이 일자 이전은 rollup 으로 조회
+CREATE TABLE todo_rollup_watermark (
+    job_name       VARCHAR(50)  NOT NULL,
+    changed_since  DATETIME(6)  NOT NULL,
+    closed_before  DATE         NOT NULL,
+    PRIMARY KEY (job_name)
+);
+
+-- 마지막 집계 이후 변경된 사용자 조회 (updated_at > changed_since)
+CREATE INDEX idx_todos_updated ON todos (updated_at);
@@ -0,0 +1,15 @@
+-- V8: 일자별 집계 부분 재집계
+-- 변경된 할 일은 전체 일자가 아닌 영향받은 일자만 다시 집계한다
+-- todos.rollup_*_date: 마지막 집계 시점의 예정일 / 완료일 (예정일 변경, 완료 취소 시 이전 일자 재집계용)
+ALTER TABLE todos ADD COLUMN rollup_planned_date DATE NULL;
+ALTER TABLE todos ADD COLUMN rollup_done_date DATE NULL;
+
+UPDATE todos SET rollup_planned_date = CAST(planning_date AS DATE), rollup_done_date = CAST(done_at AS DATE);
+
+-- 삭제된 할 일이 집계에 반영되어 있던 생성일 / 예정일 / 완료일 (삭제 시 기록)
+ALTER TABLE todo_tombstones ADD COLUMN created_date DATE NULL;
+ALTER TABLE todo_tombstones ADD COLUMN planned_date DATE NULL;
+ALTER TABLE todo_tombstones ADD COLUMN done_date DATE NULL;
+
+-- 기존 집계가 위 일자와 어긋나지 않도록 다음 실행에서 한 번 전체 재집계
+DELETE FROM todo_rollup_watermark;
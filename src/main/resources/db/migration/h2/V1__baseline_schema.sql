@@ -0,0 +1,70 @@
+-- V1: 기존 JPA 엔티티 기준 초기 스키마 (H2, 테스트용)
+-- MySQL의 테이블 기반 시퀀스 대신 H2 네이티브 시퀀스를 사용
+
+CREATE TABLE users (
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    username    VARCHAR(20)  NOT NULL,
+    email       VARCHAR(100) NOT NULL,
+    password    VARCHAR(255) NOT NULL,
+    role        VARCHAR(20)  NOT NULL,
+    enabled     BOOLEAN      NOT NULL,
+    created_at  DATETIME(6)  NOT NULL,
+    updated_at  DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_username UNIQUE (username),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE todos (
+    id             INT          NOT NULL,
+    title          VARCHAR(50)  NOT NULL,
+    priority       TINYINT      NOT NULL,
+    category       VARCHAR(255),
+    memo           VARCHAR(200),
+    status         VARCHAR(20)  NOT NULL,
+    planning_date  DATETIME(6),
+    done_at        DATETIME(6),
+    created_at     DATETIME(6)  NOT NULL,
+    updated_at     DATETIME(6),
+    user_id        BIGINT       NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_todo_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE SEQUENCE to_do_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE qna (
+    id           BIGINT       NOT NULL AUTO_INCREMENT,
+    title        VARCHAR(50)  NOT NULL,
+    content      VARCHAR(200) NOT NULL,
+    created_at   DATETIME(6)  NOT NULL,
+    answered_at  DATETIME(6),
+    is_answered  BOOLEAN      NOT NULL,
+    answer       VARCHAR(255),
+    user_id      BIGINT       NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_Qna_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE refresh_token_tokens (
+    id              BIGINT       NOT NULL,
+    token           VARCHAR(500) NOT NULL,
+    user_id         BIGINT       NOT NULL,
+    expiry_date     DATETIME(6)  NOT NULL,
+    created_at      DATETIME(6)  NOT NULL,
+    usage_count     INT          NOT NULL,
+    last_used_at    DATETIME(6),
+    created_ip      VARCHAR(45),
+    user_agent      VARCHAR(500),
+    is_active       BOOLEAN      NOT NULL,
+    revoked_at      DATETIME(6),
+    revoked_reason  VARCHAR(100),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_refresh_token_token UNIQUE (token),
+    CONSTRAINT fk_refresh_token_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+CREATE INDEX idx_refresh_token_token ON refresh_token_tokens (token);
+CREATE INDEX idx_refresh_token_user_id ON refresh_token_tokens (user_id);
+CREATE INDEX idx_refresh_token_expiry_date ON refresh_token_tokens (expiry_date);
+
+CREATE SEQUENCE refresh_token_seq START WITH 1 INCREMENT BY 50;
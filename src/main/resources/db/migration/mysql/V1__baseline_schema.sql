@@ -0,0 +1,76 @@
+-- V1: 기존 JPA 엔티티 기준 초기 스키마 (MySQL)
+-- 이미 테이블이 존재하는 DB는 baseline-on-migrate 설정으로 이 스크립트를 건너뜀
+
+CREATE TABLE users (
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    username    VARCHAR(20)  NOT NULL,
+    email       VARCHAR(100) NOT NULL,
+    password    VARCHAR(255) NOT NULL,
+    role        ENUM('USER', 'ADMIN') NOT NULL,
+    enabled     BIT          NOT NULL,
+    created_at  DATETIME(6)  NOT NULL,
+    updated_at  DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_username UNIQUE (username),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE todos (
+    id             INT          NOT NULL,
+    title          VARCHAR(50)  NOT NULL,
+    priority       TINYINT      NOT NULL,
+    category       VARCHAR(255),
+    memo           VARCHAR(200),
+    status         ENUM('IN_PROGRESS', 'COMPLETE', 'ON_HOLD') NOT NULL,
+    planning_date  DATETIME(6),
+    done_at        DATETIME(6),
+    created_at     DATETIME(6)  NOT NULL,
+    updated_at     DATETIME(6),
+    user_id        BIGINT       NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_todo_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE to_do_seq (
+    next_val BIGINT
+);
+INSERT INTO to_do_seq VALUES (1);
+
+CREATE TABLE qna (
+    id           BIGINT       NOT NULL AUTO_INCREMENT,
+    title        VARCHAR(50)  NOT NULL,
+    content      VARCHAR(200) NOT NULL,
+    created_at   DATETIME(6)  NOT NULL,
+    answered_at  DATETIME(6),
+    is_answered  BIT          NOT NULL,
+    answer       VARCHAR(255),
+    user_id      BIGINT       NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_Qna_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE refresh_token_tokens (
+    id              BIGINT       NOT NULL,
+    token           VARCHAR(500) NOT NULL,
+    user_id         BIGINT       NOT NULL,
+    expiry_date     DATETIME(6)  NOT NULL,
+    created_at      DATETIME(6)  NOT NULL,
+    usage_count     INT          NOT NULL,
+    last_used_at    DATETIME(6),
+    created_ip      VARCHAR(45),
+    user_agent      VARCHAR(500),
+    is_active       BIT          NOT NULL,
+    revoked_at      DATETIME(6),
+    revoked_reason  VARCHAR(100),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_refresh_token_token UNIQUE (token),
+    CONSTRAINT fk_refresh_token_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+CREATE INDEX idx_refresh_token_token ON refresh_token_tokens (token);
+CREATE INDEX idx_refresh_token_user_id ON refresh_token_tokens (user_id);
+CREATE INDEX idx_refresh_token_expiry_date ON refresh_token_tokens (expiry_date);
+
+CREATE TABLE refresh_token_seq (
+    next_val BIGINT
+);
+INSERT INTO refresh_token_seq VALUES (1);
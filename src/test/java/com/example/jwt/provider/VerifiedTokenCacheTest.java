@@ -0,0 +1,74 @@
+package com.example.jwt.provider;
+
+import com.example.jwt.config.JwtProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+public class VerifiedTokenCacheTest {
+
+    @Mock
+    private ObjectProvider<MeterRegistry> meterRegistry;
+
+    private JwtProperties jwtProperties;
+
+    private Authentication authentication;
+
+    @BeforeEach
+    void setUp() {
+        jwtProperties = new JwtProperties();
+        authentication = new UsernamePasswordAuthenticationToken(
+                "username", "", List.of(new SimpleGrantedAuthority("ROLE_USER")));
+    }
+
+    @Test
+    void 검증된_토큰은_만료_전까지_캐시에서_조회된다(){
+        // Arrange (준비)
+        VerifiedTokenCache cache = new VerifiedTokenCache(jwtProperties, meterRegistry);
+
+        // Act (실행)
+        cache.put("token", authentication, new Date(System.currentTimeMillis() + 60_000));
+
+        // Assert (검증)
+        assertSame(authentication, cache.get("token"));
+        assertNull(cache.get("other-token"));
+    }
+
+    @Test
+    void 이미_만료된_토큰은_캐시하지_않는다(){
+        // Arrange (준비)
+        VerifiedTokenCache cache = new VerifiedTokenCache(jwtProperties, meterRegistry);
+
+        // Act (실행)
+        cache.put("token", authentication, new Date(System.currentTimeMillis() - 1_000));
+
+        // Assert (검증)
+        assertNull(cache.get("token"));
+    }
+
+    @Test
+    void 캐시를_사용하지_않도록_설정하면_항상_조회되지_않는다(){
+        // Arrange (준비)
+        jwtProperties.getTokenCache().setEnabled(false);
+        VerifiedTokenCache cache = new VerifiedTokenCache(jwtProperties, meterRegistry);
+
+        // Act (실행)
+        cache.put("token", authentication, new Date(System.currentTimeMillis() + 60_000));
+
+        // Assert (검증)
+        assertNull(cache.get("token"));
+    }
+}
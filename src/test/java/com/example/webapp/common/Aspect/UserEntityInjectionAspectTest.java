@@ -0,0 +1,78 @@
+package com.example.webapp.common.Aspect;
+
+import com.example.jwt.dto.JwtUserPrincipal;
+import com.example.webapp.common.cache.UserIdentityCache;
+import com.example.webapp.common.context.DayBoundaries;
+import com.example.webapp.common.context.UserContext;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class UserEntityInjectionAspectTest {
+
+    @Mock
+    private UserIdentityCache userIdentityCache;
+
+    @Mock
+    private ProceedingJoinPoint outerJoinPoint;
+
+    @Mock
+    private ProceedingJoinPoint innerJoinPoint;
+
+    @InjectMocks
+    private UserEntityInjectionAspect aspect;
+
+    @BeforeEach
+    void setUp() {
+        JwtUserPrincipal principal = new JwtUserPrincipal(1L, "username", List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        UserContext.clear();
+    }
+
+    @Test
+    void 중첩_호출이_끝나도_바깥_호출의_사용자_정보는_유지되고_최종_종료_시_제거된다() throws Throwable {
+        // Arrange (준비)
+        DayBoundaries boundaries = DayBoundaries.of(ZoneId.of("Asia/Seoul"));
+
+        when(innerJoinPoint.proceed()).thenReturn("inner");
+        when(outerJoinPoint.proceed()).thenAnswer(invocation -> {
+            UserContext.setDayBoundaries(boundaries);
+            aspect.injectUserEntity(innerJoinPoint);
+
+//            안쪽 호출 종료 후에도 바깥 호출의 값이 남아 있어야 함
+            assertNotNull(UserContext.getCurrentUser());
+            assertSame(boundaries, UserContext.getDayBoundaries());
+            return "outer";
+        });
+
+        // Act (실행)
+        Object result = aspect.injectUserEntity(outerJoinPoint);
+
+        // Assert (검증)
+        assertEquals("outer", result);
+        assertNull(UserContext.getCurrentUser());
+        assertNull(UserContext.getDayBoundaries());
+        verifyNoInteractions(userIdentityCache);
+    }
+}
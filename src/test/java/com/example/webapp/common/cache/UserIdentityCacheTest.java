@@ -0,0 +1,81 @@
+package com.example.webapp.common.cache;
+
+import com.example.jwt.Repository.UserRepository;
+import com.example.webapp.config.UserCacheProperties;
+import com.example.webapp.entity.User;
+import com.example.webapp.fixture.ToDoTestFixture;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class UserIdentityCacheTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ObjectProvider<MeterRegistry> meterRegistry;
+
+    private UserIdentityCache userIdentityCache;
+
+    private User testuser;
+
+    @BeforeEach
+    void setUp() {
+        testuser = ToDoTestFixture.createTestuser();
+        userIdentityCache = new UserIdentityCache(userRepository, new UserCacheProperties(), meterRegistry);
+    }
+
+    @Test
+    void 같은_사용자를_반복_조회하면_DB는_한_번만_조회한다(){
+        // Arrange (준비)
+        when(userRepository.findByUsername("username")).thenReturn(Optional.of(testuser));
+
+        // Act (실행)
+        User first = userIdentityCache.findByUsername("username").orElseThrow();
+        User second = userIdentityCache.findByUsername("username").orElseThrow();
+
+        // Assert (검증)
+        assertSame(first, second);
+        assertEquals(testuser.getId(), first.getId());
+        assertNull(first.getPassword());
+        verify(userRepository, times(1)).findByUsername("username");
+    }
+
+    @Test
+    void 무효화_후에는_DB에서_다시_조회한다(){
+        // Arrange (준비)
+        when(userRepository.findByUsername("username")).thenReturn(Optional.of(testuser));
+        userIdentityCache.findByUsername("username");
+
+        // Act (실행)
+        userIdentityCache.invalidate("username");
+        userIdentityCache.findByUsername("username");
+
+        // Assert (검증)
+        verify(userRepository, times(2)).findByUsername("username");
+    }
+
+    @Test
+    void 존재하지_않는_사용자는_캐시하지_않는다(){
+        // Arrange (준비)
+        when(userRepository.findByUsername("unknown")).thenReturn(Optional.empty());
+
+        // Act (실행)
+        assertTrue(userIdentityCache.findByUsername("unknown").isEmpty());
+        assertTrue(userIdentityCache.findByUsername("unknown").isEmpty());
+
+        // Assert (검증)
+        verify(userRepository, times(2)).findByUsername("unknown");
+    }
+}
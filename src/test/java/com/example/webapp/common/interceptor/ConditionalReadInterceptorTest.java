@@ -0,0 +1,140 @@
+package com.example.webapp.common.interceptor;
+
+import com.example.jwt.util.SecurityUtils;
+import com.example.webapp.common.cache.UserDataVersionRegistry;
+import com.example.webapp.common.context.UserClock;
+import com.example.webapp.config.WebConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.handler.MappedInterceptor;
+import org.springframework.web.util.ServletRequestPathUtils;
+
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ConditionalReadInterceptorTest {
+
+    @Mock
+    private SecurityUtils securityUtils;
+
+    @Mock
+    private UserClock userClock;
+
+    private UserDataVersionRegistry userDataVersionRegistry;
+
+    private ConditionalReadInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        userDataVersionRegistry = new UserDataVersionRegistry();
+        interceptor = new ConditionalReadInterceptor(userDataVersionRegistry, securityUtils, userClock, ChronoUnit.DAYS);
+        lenient().when(userClock.zoneOf(any())).thenReturn(ZoneId.of("Asia/Seoul"));
+        lenient().when(securityUtils.getCurrentUserId()).thenReturn(Optional.of(1L));
+    }
+
+    @Test
+    void 변경이_없으면_컨트롤러_실행_없이_304를_반환한다(){
+        // Arrange (준비)
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        interceptor.preHandle(new MockHttpServletRequest("GET", "/dashboard/today"), first, null);
+        String etag = first.getHeader(HttpHeaders.ETAG);
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/dashboard/today");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act (실행)
+        boolean proceed = interceptor.preHandle(request, response, null);
+
+        // Assert (검증)
+        assertFalse(proceed);
+        assertEquals(304, response.getStatus());
+        assertEquals(etag, response.getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    void 할_일이_변경되면_ETag가_바뀌어_다시_조회한다(){
+        // Arrange (준비)
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        interceptor.preHandle(new MockHttpServletRequest("GET", "/dashboard/stats"), first, null);
+        String etag = first.getHeader(HttpHeaders.ETAG);
+
+        userDataVersionRegistry.bump(1L);
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/dashboard/stats");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act (실행)
+        boolean proceed = interceptor.preHandle(request, response, null);
+
+        // Assert (검증)
+        assertTrue(proceed);
+        assertNotEquals(etag, response.getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    void 현재_시각에_따라_바뀌는_조회만_분_단위_구간을_사용한다(){
+        // Arrange (준비)
+        RecordingInterceptorRegistry registry = new RecordingInterceptorRegistry();
+
+        // Act (실행)
+        new WebConfig(userDataVersionRegistry, securityUtils, userClock).addInterceptors(registry);
+
+        // Assert (검증)
+//        overdueCount 를 현재 시각 기준으로 계산하는 통계 요약
+        assertEquals(ChronoUnit.MINUTES, bucketOf(registry, "/analytics/summary"));
+//        현재 시각 기준 지연 할 일을 포함하는 인사이트
+        assertEquals(ChronoUnit.MINUTES, bucketOf(registry, "/analytics/insights"));
+
+//        상태별 갯수와 완료율만 포함하는 통계는 변경 시에만 갱신
+        assertEquals(ChronoUnit.DAYS, bucketOf(registry, "/dashboard/stats"));
+        assertEquals(ChronoUnit.DAYS, bucketOf(registry, "/dashboard/today"));
+        assertEquals(ChronoUnit.DAYS, bucketOf(registry, "/dashboard/urgent"));
+        assertEquals(ChronoUnit.DAYS, bucketOf(registry, "/dashboard/overdue"));
+        assertEquals(ChronoUnit.DAYS, bucketOf(registry, "/analytics/trend"));
+        assertEquals(ChronoUnit.DAYS, bucketOf(registry, "/analytics/distribution"));
+    }
+
+    /**
+     * 경로에 적용되는 조건부 조회 인터셉터의 시간 구간 (경로당 하나만 적용되어야 함)
+     */
+    private static ChronoUnit bucketOf(RecordingInterceptorRegistry registry, String path){
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        ServletRequestPathUtils.parseAndCache(request);
+
+        List<ChronoUnit> buckets = registry.getInterceptors().stream()
+                .map(MappedInterceptor.class::cast)
+                .filter(mapped -> mapped.matches(request))
+                .map(mapped -> ((ConditionalReadInterceptor) mapped.getInterceptor()).getTimeBucket())
+                .toList();
+
+        assertEquals(1, buckets.size(), path + " 에 적용된 인터셉터 수");
+        return buckets.getFirst();
+    }
+
+    /**
+     * 등록된 인터셉터 목록을 조회하기 위한 InterceptorRegistry
+     */
+    private static class RecordingInterceptorRegistry extends InterceptorRegistry {
+
+        @Override
+        protected List<Object> getInterceptors() {
+            return super.getInterceptors();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.webapp.common.scheduler;
+
+import com.example.webapp.common.cache.UserDataVersionRegistry;
+import com.example.webapp.config.AnalyticsRollupProperties;
+import com.example.webapp.config.CalendarSyncProperties;
+import com.example.webapp.entity.TodoRollupWatermark;
+import com.example.webapp.repository.TodoRepository;
+import com.example.webapp.repository.TodoTombstoneRepository;
+import com.example.webapp.repository.UserTodoStatsRepository;
+import com.example.webapp.service.TodoRollupService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TodoDailyRollupJobTest {
+
+    @Mock
+    private TodoRollupService todoRollupService;
+
+    @Mock
+    private TodoRepository todoRepository;
+
+    @Mock
+    private TodoTombstoneRepository todoTombstoneRepository;
+
+    @Mock
+    private UserTodoStatsRepository userTodoStatsRepository;
+
+    @Mock
+    private UserDataVersionRegistry userDataVersionRegistry;
+
+    private TodoDailyRollupJob todoDailyRollupJob;
+
+    @BeforeEach
+    void setUp() {
+        todoDailyRollupJob = new TodoDailyRollupJob(todoRollupService, todoRepository, todoTombstoneRepository,
+                userTodoStatsRepository, new AnalyticsRollupProperties(), new CalendarSyncProperties(), userDataVersionRegistry);
+
+        when(userTodoStatsRepository.findUserIdsAfter(anyLong(), any(Pageable.class)))
+                .thenReturn(List.of(1L, 2L))
+                .thenReturn(List.of());
+    }
+
+    @Test
+    void 변경된_일자를_다시_집계한_사용자만_데이터_버전을_올린다() {
+        // Arrange (준비)
+        LocalDateTime changedSince = LocalDateTime.now().minusHours(1);
+//        이미 어제까지 마감되어 새로 적재할 일자는 없음
+        LocalDate closedBefore = LocalDate.now().minusDays(1);
+        when(todoRollupService.getWatermark())
+                .thenReturn(Optional.of(new TodoRollupWatermark("todo-daily", changedSince, closedBefore)));
+        when(todoRepository.findUserIdsUpdatedSince(changedSince)).thenReturn(List.of(1L));
+        when(todoTombstoneRepository.findUserIdsDeletedSince(changedSince)).thenReturn(List.of());
+
+        // Act (실행)
+        todoDailyRollupJob.compact();
+
+        // Assert (검증)
+        verify(todoRollupService).compactChangedDays(1L, changedSince, closedBefore);
+        verify(userDataVersionRegistry).bump(1L);
+        verify(userDataVersionRegistry, never()).bump(2L);
+    }
+
+    @Test
+    void 새로_마감된_일자를_적재하면_모든_사용자의_데이터_버전을_올린다() {
+        // Arrange (준비)
+        LocalDateTime changedSince = LocalDateTime.now().minusDays(1);
+        LocalDate previousClosedBefore = LocalDate.now().minusDays(2);
+        when(todoRollupService.getWatermark())
+                .thenReturn(Optional.of(new TodoRollupWatermark("todo-daily", changedSince, previousClosedBefore)));
+        when(todoRepository.findUserIdsUpdatedSince(changedSince)).thenReturn(List.of());
+        when(todoTombstoneRepository.findUserIdsDeletedSince(changedSince)).thenReturn(List.of());
+
+        // Act (실행)
+        todoDailyRollupJob.compact();
+
+        // Assert (검증)
+        verify(todoRollupService, times(2)).compactUser(anyLong(), eq(previousClosedBefore), eq(LocalDate.now().minusDays(1)));
+        verify(userDataVersionRegistry).bump(1L);
+        verify(userDataVersionRegistry).bump(2L);
+    }
+}
@@ -0,0 +1,160 @@
+package com.example.webapp.repository;
+
+import com.example.webapp.config.QueryDslConfig;
+import com.example.webapp.entity.TodoDailyRollup;
+import com.example.webapp.service.TodoRollupService;
+import com.example.webapp.service.impl.TodoRollupServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 일자별 집계 적재가 반복 실행에도 같은 결과를 내고,
+ * 마감된 일자의 할 일이 나중에 변경되면 재집계로 반영되는지 검증
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QueryDslConfig.class, TodoRollupServiceImpl.class})
+public class TodoDailyRollupTest {
+
+    private static final long USER_ID = 910L;
+
+    private static final LocalDate DAY = LocalDate.of(2025, 3, 10);
+
+    @Autowired
+    private TodoRollupService todoRollupService;
+
+    @Autowired
+    private TodoDailyRollupRepository todoDailyRollupRepository;
+
+    @Autowired
+    private TodoTombstoneRepository todoTombstoneRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime base = DAY.atTime(9, 0);
+        jdbcTemplate.update(
+                "INSERT INTO users (id, username, email, password, role, enabled, created_at, updated_at) " +
+                        "VALUES (?, 'rollup-user', 'rollup-user@test.com', 'pw', 'USER', TRUE, ?, ?)",
+                USER_ID, base, base);
+
+//        DAY 에 생성 / 예정된 할 일 3건 (1건 완료), 다음 날 생성된 할 일 1건
+        insertTodo(9101, "COMPLETE", 0, "work", base, base, base.plusHours(2));
+        insertTodo(9102, "IN_PROGRESS", 2, "work", base, base, null);
+        insertTodo(9103, "ON_HOLD", 4, null, base, base, null);
+        insertTodo(9104, "IN_PROGRESS", 2, "home", base.plusDays(1), base.plusDays(1), null);
+    }
+
+    @Test
+    void 같은_구간을_다시_집계해도_결과가_같다() {
+        // Act (실행)
+        todoRollupService.compactUser(USER_ID, DAY.minusDays(1), DAY.plusDays(2));
+        todoRollupService.compactUser(USER_ID, DAY.minusDays(1), DAY.plusDays(2));
+
+        // Assert (검증)
+        List<TodoDailyRollup> rollups = todoDailyRollupRepository.findRange(USER_ID, DAY.minusDays(1), DAY.plusDays(2));
+        assertEquals(2, rollups.size());
+
+        TodoDailyRollup day = rollups.getFirst();
+        assertEquals(DAY, day.getRollupDate());
+        assertEquals(3, day.getCreated());
+        assertEquals(1, day.getCreatedVeryHigh());
+        assertEquals(1, day.getCreatedMiddle());
+        assertEquals(1, day.getCreatedVeryLow());
+        assertEquals(1, day.getDone());
+        assertEquals(3, day.getPlanned());
+        assertEquals(1, day.getPlannedCompleted());
+
+        // (DAY, work), (DAY, 카테고리 없음), (DAY + 1, home)
+        assertEquals(3, countCategoryRows());
+        assertEquals(DAY, todoDailyRollupRepository.findBestDays(USER_ID, 3, PageRequest.of(0, 1)).getFirst().getRollupDate());
+    }
+
+    @Test
+    void 마감된_일자의_할_일이_변경되면_재집계로_반영된다() {
+        // Arrange (준비)
+        todoRollupService.compactUser(USER_ID, DAY, DAY.plusDays(1));
+
+//        마감 이후 예정일이 DAY 인 할 일을 완료 처리하고, 완료된 할 일을 삭제
+        jdbcTemplate.update("UPDATE todos SET status = 'COMPLETE', updated_at = ? WHERE id = 9102", LocalDateTime.now());
+        jdbcTemplate.update("DELETE FROM todos WHERE id = 9101");
+
+        // Act (실행)
+        todoRollupService.compactUser(USER_ID, TodoRollupService.ROLLUP_EPOCH, DAY.plusDays(1));
+
+        // Assert (검증)
+        TodoDailyRollup day = todoDailyRollupRepository.findRange(USER_ID, DAY, DAY.plusDays(1)).getFirst();
+        assertEquals(2, day.getCreated());
+        assertEquals(2, day.getPlanned());
+        assertEquals(1, day.getPlannedCompleted());
+        assertEquals(0, day.getDone());
+    }
+
+    @Test
+    void 변경된_할_일은_영향받은_일자만_다시_집계한다() {
+        // Arrange (준비)
+        todoRollupService.rebuildUser(USER_ID, DAY.plusDays(10));
+
+//        변경과 무관한 일자는 다시 집계하지 않음을 확인하기 위해 임의 값으로 변경
+        jdbcTemplate.update("UPDATE todo_daily_rollup SET created = 99 WHERE user_id = ? AND rollup_date = ?", USER_ID, DAY.plusDays(1));
+
+//        마감 이후 예정일을 DAY -> DAY + 3 으로 변경하고, 완료된 할 일을 삭제
+        LocalDateTime changedSince = LocalDateTime.now();
+        jdbcTemplate.update("UPDATE todos SET planning_date = ?, updated_at = ? WHERE id = 9102",
+                DAY.plusDays(3).atTime(9, 0), changedSince.plusSeconds(1));
+        todoTombstoneRepository.insertForOwnedTodos(List.of(9101), USER_ID, changedSince.plusSeconds(1));
+        jdbcTemplate.update("DELETE FROM todos WHERE id = 9101");
+
+        // Act (실행)
+        int compacted = todoRollupService.compactChangedDays(USER_ID, changedSince, DAY.plusDays(10));
+
+        // Assert (검증)
+//        이전 예정일 / 삭제된 할 일의 일자(DAY) 와 새 예정일(DAY + 3) 만 재집계
+        assertEquals(2, compacted);
+
+        TodoDailyRollup day = todoDailyRollupRepository.findRange(USER_ID, DAY, DAY.plusDays(1)).getFirst();
+        assertEquals(2, day.getCreated());
+        assertEquals(1, day.getPlanned());
+        assertEquals(0, day.getPlannedCompleted());
+        assertEquals(0, day.getDone());
+
+        TodoDailyRollup moved = todoDailyRollupRepository.findRange(USER_ID, DAY.plusDays(3), DAY.plusDays(4)).getFirst();
+        assertEquals(1, moved.getPlanned());
+
+        assertEquals(99, todoDailyRollupRepository.findRange(USER_ID, DAY.plusDays(1), DAY.plusDays(2)).getFirst().getCreated());
+
+//        다음 실행에서 이전 예정일로 사용할 반영 일자 갱신
+        assertEquals(DAY.plusDays(3), jdbcTemplate.queryForObject(
+                "SELECT rollup_planned_date FROM todos WHERE id = 9102", LocalDate.class));
+    }
+
+    private void insertTodo(int id, String status, int priority, String category,
+                            LocalDateTime createdAt, LocalDateTime planningDate, LocalDateTime doneAt) {
+        jdbcTemplate.update(
+                "INSERT INTO todos (id, title, priority, category, status, planning_date, done_at, created_at, updated_at, user_id) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                id, "todo" + id, priority, category, status, planningDate, doneAt, createdAt, createdAt, USER_ID);
+    }
+
+    private long countCategoryRows() {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM todo_daily_category_rollup WHERE user_id = ?", Long.class, USER_ID);
+        return count == null ? 0 : count;
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.webapp.repository;
+
+import com.example.webapp.DTO.request.TodoTransferFormat;
+import com.example.webapp.common.cache.UserDataVersionRegistry;
+import com.example.webapp.config.QueryDslConfig;
+import com.example.webapp.entity.ToDo;
+import com.example.webapp.service.TodoTransferService;
+import com.example.webapp.service.impl.TodoTransferServiceImpl;
+import com.example.webapp.service.impl.UserTodoStatsServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 내보내기 스트리밍 조회가 H2 에서도 실제 쿼리로 실행되는지 검증
+ * (MySQL 전용 fetch size 는 MySQL 에서만 적용)
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QueryDslConfig.class, JacksonAutoConfiguration.class, UserDataVersionRegistry.class,
+        TodoTransferServiceImpl.class, UserTodoStatsServiceImpl.class})
+public class TodoExportStreamTest {
+
+    private static final long USER_ID = 920L;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private TodoTransferService todoTransferService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime base = LocalDateTime.of(2025, 4, 1, 9, 0);
+        jdbcTemplate.update(
+                "INSERT INTO users (id, username, email, password, role, enabled, created_at, updated_at) " +
+                        "VALUES (?, 'export-user', 'export-user@test.com', 'pw', 'USER', TRUE, ?, ?)",
+                USER_ID, base, base);
+
+//        id 순서와 다르게 적재
+        for (int id : new int[]{9203, 9201, 9202}) {
+            jdbcTemplate.update(
+                    "INSERT INTO todos (id, title, priority, category, status, planning_date, created_at, updated_at, user_id) " +
+                            "VALUES (?, ?, 2, 'work', 'IN_PROGRESS', ?, ?, ?, ?)",
+                    id, "todo" + id, base, base, base, USER_ID);
+        }
+    }
+
+    @Test
+    void 스트리밍_조회는_사용자의_할_일을_id_순서로_소유자와_함께_반환한다() {
+        // Act (실행)
+        List<ToDo> result;
+        try (Stream<ToDo> stream = todoRepository.streamByUserId(USER_ID)) {
+            result = stream.toList();
+        }
+
+        // Assert (검증)
+        assertEquals(List.of(9201, 9202, 9203), result.stream().map(ToDo::getId).toList());
+        assertEquals("export-user", result.getFirst().getUser().getUsername());
+    }
+
+    @Test
+    void NDJSON_내보내기는_실제_스트리밍_조회로_전체_할_일을_기록한다() throws Exception {
+        // Arrange (준비)
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act (실행)
+        long count = todoTransferService.exportTodos(USER_ID, TodoTransferFormat.NDJSON, out);
+
+        // Assert (검증)
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(3, count);
+        assertEquals(3, lines.length);
+        assertTrue(lines[0].contains("\"title\":\"todo9201\""));
+        assertTrue(lines[2].contains("\"title\":\"todo9203\""));
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.webapp.repository;
+
+import com.example.webapp.config.QueryDslConfig;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Flyway 마이그레이션으로 생성된 todos 인덱스가
+ * 각 Repository 조회 경로에서 실제로 사용되는지 EXPLAIN 으로 검증
+ * 각 SQL 은 Repository 메소드가 생성하는 WHERE 조건과 동일한 형태로 작성
+ * ANALYZE 가 적재 데이터를 커밋하므로 다른 테스트와 공유하지 않는 전용 DB 를 사용
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:indexusage;MODE=MySQL;DATABASE_TO_LOWER=TRUE")
+@Import(QueryDslConfig.class)
+public class TodoIndexUsageTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void setUp(@Autowired JdbcTemplate jdbcTemplate) {
+//        ANALYZE 는 트랜잭션을 커밋하므로 테스트 트랜잭션 밖에서 클래스당 1회 적재
+//        여러 사용자의 할 일을 적재하여 옵티마이저가 인덱스 선택도를 판단할 수 있도록 함
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 9, 0);
+        String[] statuses = {"IN_PROGRESS", "COMPLETE", "ON_HOLD"};
+
+        for (long userId = 1; userId <= 10; userId++) {
+            jdbcTemplate.update(
+                    "INSERT INTO users (id, username, email, password, role, enabled, created_at, updated_at) " +
+                            "VALUES (?, ?, ?, 'pw', 'USER', TRUE, ?, ?)",
+                    userId, "user" + userId, "user" + userId + "@test.com", base, base);
+
+            for (int i = 0; i < 100; i++) {
+                int id = (int) (userId * 1000 + i);
+                String status = statuses[i % statuses.length];
+                LocalDateTime planningDate = base.plusDays(i);
+                jdbcTemplate.update(
+                        "INSERT INTO todos (id, title, priority, category, status, planning_date, done_at, created_at, updated_at, user_id) " +
+                                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                        id, "todo" + id, i % 5, "category" + (i % 4), status, planningDate,
+                        "COMPLETE".equals(status) ? planningDate.plusHours(1) : null,
+                        base.plusDays(i / 2), base.plusDays(i / 2), userId);
+            }
+        }
+
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @Test
+    void 예정일_기간_조회는_user_planning_인덱스를_사용한다() {
+        // findByUserAndPlanningDateBetween
+        assertIndexUsed(
+                "SELECT * FROM todos t WHERE t.user_id = 3 " +
+                        "AND t.planning_date BETWEEN TIMESTAMP '2025-01-10 00:00:00' AND TIMESTAMP '2025-01-20 23:59:59'",
+                "idx_todos_user_planning");
+    }
+
+    @Test
+    void 상태별_갯수_조회는_user_status_planning_인덱스를_사용한다() {
+        // countByUserAndStatus
+        assertIndexUsed(
+                "SELECT COUNT(t.id) FROM todos t WHERE t.user_id = 3 AND t.status = 'COMPLETE'",
+                "idx_todos_user_status_planning");
+    }
+
+    @Test
+    void 예정일_이전_상태별_갯수_조회는_user_status_planning_인덱스를_사용한다() {
+        // countByUserAndPlanningDateBeforeAndStatus
+        assertIndexUsed(
+                "SELECT COUNT(t.id) FROM todos t WHERE t.user_id = 3 " +
+                        "AND t.planning_date < TIMESTAMP '2025-02-01 00:00:00' AND t.status = 'COMPLETE'",
+                "idx_todos_user_status_planning");
+    }
+
+    @Test
+    void 활동일_조회는_user_created_인덱스를_사용한다() {
+        // countActiveDays
+        assertIndexUsed(
+                "SELECT COUNT(DISTINCT CAST(t.created_at AS DATE)) FROM todos t " +
+                        "WHERE t.user_id = 3 AND t.created_at >= TIMESTAMP '2025-01-20 00:00:00'",
+                "idx_todos_user_created");
+    }
+
+    @Test
+    void 우선순위_상태_조회는_user_priority_status_인덱스를_사용한다() {
+        // findByUserAndTaskPriorityAndStatus
+        assertIndexUsed(
+                "SELECT * FROM todos t WHERE t.user_id = 3 AND t.priority = 0 AND t.status = 'IN_PROGRESS'",
+                "idx_todos_user_priority_status");
+    }
+
+    @Test
+    void 지연_인사이트_조회는_사용자_선두_복합_인덱스를_사용한다() {
+        // getWarnInsight: done_at IS NOT NULL 과 planning_date 범위 중 선택도가 좋은 쪽을 사용
+        assertIndexUsed(
+                "SELECT t.category, COUNT(t.id) FROM todos t WHERE t.user_id = 3 " +
+                        "AND t.done_at IS NOT NULL AND t.planning_date < TIMESTAMP '2025-02-01 00:00:00' " +
+                        "GROUP BY t.category",
+                "idx_todos_user_done", "idx_todos_user_planning");
+    }
+
+    @Test
+    void 지연_목록_조회는_user_status_planning_인덱스를_사용한다() {
+        // findOverduePageAfter: 완료 제외 상태별로 (planning_date, id) 순 범위 탐색
+        assertIndexUsed(
+                "SELECT * FROM todos t WHERE t.user_id = 3 AND t.status = 'IN_PROGRESS' " +
+                        "AND t.planning_date < TIMESTAMP '2025-02-01 00:00:00' " +
+                        "ORDER BY t.planning_date, t.id LIMIT 21",
+                "idx_todos_user_status_planning");
+    }
+
+    /**
+     * EXPLAIN 결과에 기대한 인덱스 중 하나가 포함되어 있는지 확인
+     * @param sql 검증할 SQL
+     * @param expectedIndexes 허용되는 인덱스명
+     */
+    private void assertIndexUsed(String sql, String... expectedIndexes) {
+        String plan = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class).toLowerCase();
+
+        boolean used = Arrays.stream(expectedIndexes).anyMatch(plan::contains);
+
+        assertTrue(used, "기대한 인덱스 " + Arrays.toString(expectedIndexes) + " 를 사용하지 않습니다. 실행 계획: " + plan);
+    }
+}
@@ -0,0 +1,234 @@
+package com.example.webapp.repository;
+
+import com.example.webapp.DTO.TodoAggregateDTO;
+import com.example.webapp.DTO.TodoRequestDTO;
+import com.example.webapp.DTO.request.BulkUpdateRequest;
+import com.example.webapp.common.cache.UserDataVersionRegistry;
+import com.example.webapp.common.context.UserContext;
+import com.example.webapp.config.QueryDslConfig;
+import com.example.webapp.entity.ToDo;
+import com.example.webapp.entity.User;
+import com.example.webapp.entity.UserTodoStats;
+import com.example.webapp.service.ToDoService;
+import com.example.webapp.service.UserTodoStatsService;
+import com.example.webapp.service.impl.ToDoServiceImpl;
+import com.example.webapp.service.impl.UserTodoStatsServiceImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 할 일 변경 경로마다 증감한 user_todo_stats 가
+ * todos 를 직접 집계한 값과 일치하는지 검증
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QueryDslConfig.class, JacksonAutoConfiguration.class, UserDataVersionRegistry.class,
+        ToDoServiceImpl.class, UserTodoStatsServiceImpl.class})
+public class UserTodoStatsConsistencyTest {
+
+    private static final long USER_ID = 900L;
+
+    private static final int CONCURRENT_WRITERS = 4;
+
+    @Autowired
+    private ToDoService toDoService;
+
+    @Autowired
+    private UserTodoStatsService userTodoStatsService;
+
+    @Autowired
+    private UserTodoStatsRepository userTodoStatsRepository;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+//        통계 행이 없는 사용자로 시작하여 첫 변경 시 재집계 경로도 함께 검증
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.update(
+                "INSERT INTO users (id, username, email, password, role, enabled, created_at, updated_at) " +
+                        "VALUES (?, 'stats-user', 'stats-user@test.com', 'pw', 'USER', TRUE, ?, ?)",
+                USER_ID, now, now);
+
+        user = entityManager.find(User.class, USER_ID);
+        UserContext.setCurrentUser(user);
+    }
+
+    @AfterEach
+    void tearDown() {
+        UserContext.clear();
+    }
+
+    @Test
+    void 모든_변경_경로를_거친_통계는_todos_집계와_일치한다() throws Exception {
+        // Arrange (준비)
+        List<Integer> ids = new ArrayList<>();
+        ToDo.TaskPriority[] priorities = ToDo.TaskPriority.values();
+        for (int i = 0; i < 12; i++) {
+            ToDo saved = toDoService.saveToDo(TodoRequestDTO.builder()
+                    .title("todo" + i)
+                    .category(i % 3 == 0 ? null : "category" + (i % 3))
+                    .priority(priorities[i % priorities.length])
+                    .status(ToDo.TaskStatus.IN_PROGRESS)
+                    .targetDate(LocalDateTime.now().plusDays(i - 6))
+                    .build(), user);
+            ids.add(saved.getId());
+        }
+
+        // Act (실행)
+        toDoService.UpdateToDo(ids.get(0), USER_ID,
+                objectMapper.readTree("{\"priority\":\"VERY_LOW\",\"category\":\"moved\",\"status\":\"ON_HOLD\"}"), null);
+        toDoService.UpdateToDo(ids.get(1), USER_ID, objectMapper.readTree("{\"title\":\"renamed\"}"), null);
+        toDoService.UpdateStatus(ids.get(2), USER_ID, ToDo.TaskStatus.COMPLETE);
+
+        BulkUpdateRequest bulkUpdate = new BulkUpdateRequest();
+        bulkUpdate.setId(List.of(ids.get(3), ids.get(4), ids.get(5)));
+        bulkUpdate.setStatus(ToDo.TaskStatus.COMPLETE);
+        toDoService.bulkUpdate(bulkUpdate);
+
+        toDoService.DeleteTodo(ids.get(6), USER_ID);
+        toDoService.bulkDelete(List.of(ids.get(7), ids.get(8)));
+
+        // Assert (검증)
+        assertConsistent();
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void 같은_할_일을_동시에_변경해도_변경_전_값은_한_번만_차감된다() throws Exception {
+//        각 스레드가 별도 트랜잭션으로 커밋해야 하므로 테스트 트랜잭션 없이 실행하고 직접 정리
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_WRITERS);
+        try {
+            // Arrange (준비)
+            List<Integer> ids = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                ids.add(toDoService.saveToDo(TodoRequestDTO.builder()
+                        .title("todo" + i)
+                        .category("work")
+                        .priority(ToDo.TaskPriority.MIDDLE)
+                        .status(ToDo.TaskStatus.IN_PROGRESS)
+                        .build(), user).getId());
+            }
+
+            // Act (실행)
+//            할 일마다 여러 트랜잭션이 동시에 IN_PROGRESS -> COMPLETE 변경
+            for (Integer id : ids) {
+                CyclicBarrier barrier = new CyclicBarrier(CONCURRENT_WRITERS);
+                List<Future<?>> futures = new ArrayList<>();
+                for (int writer = 0; writer < CONCURRENT_WRITERS; writer++) {
+                    futures.add(executor.submit(() -> {
+                        barrier.await();
+                        return toDoService.UpdateStatus(id, USER_ID, ToDo.TaskStatus.COMPLETE);
+                    }));
+                }
+                for (Future<?> future : futures) {
+                    future.get(30, TimeUnit.SECONDS);
+                }
+            }
+
+            // Assert (검증)
+            UserTodoStats stats = userTodoStatsRepository.findById(USER_ID).orElseThrow();
+            assertEquals(5, stats.getTotal());
+            assertEquals(5, stats.getCompleted());
+            assertEquals(0, stats.getInProgress());
+            assertEquals(Map.of("work", 5L), userTodoStatsService.getCategoryCounts(USER_ID));
+        } finally {
+            executor.shutdownNow();
+            jdbcTemplate.update("DELETE FROM user_todo_category_stats WHERE user_id = ?", USER_ID);
+            jdbcTemplate.update("DELETE FROM user_todo_stats WHERE user_id = ?", USER_ID);
+            jdbcTemplate.update("DELETE FROM todos WHERE user_id = ?", USER_ID);
+            jdbcTemplate.update("DELETE FROM users WHERE id = ?", USER_ID);
+        }
+    }
+
+    @Test
+    void 재집계는_어긋난_통계를_todos_기준으로_보정한다() {
+        // Arrange (준비)
+        toDoService.saveToDo(TodoRequestDTO.builder()
+                .title("todo")
+                .category("work")
+                .priority(ToDo.TaskPriority.HIGH)
+                .status(ToDo.TaskStatus.IN_PROGRESS)
+                .build(), user);
+        entityManager.flush();
+        jdbcTemplate.update("UPDATE user_todo_stats SET total = 999, completed = 7 WHERE user_id = ?", USER_ID);
+        jdbcTemplate.update("UPDATE user_todo_category_stats SET todo_count = 42 WHERE user_id = ?", USER_ID);
+        entityManager.clear();
+
+        // Act (실행)
+        userTodoStatsService.rebuild(USER_ID);
+
+        // Assert (검증)
+        assertConsistent();
+    }
+
+    /**
+     * 통계 행과 카테고리 통계가 todos 직접 집계 결과와 같은지 확인
+     */
+    private void assertConsistent() {
+        entityManager.flush();
+        entityManager.clear();
+
+        LocalDateTime now = LocalDateTime.now();
+        TodoAggregateDTO expected = todoRepository.getTodoAggregate(USER_ID, now, now);
+        UserTodoStats stats = userTodoStatsRepository.findById(USER_ID).orElseThrow();
+
+        assertEquals(expected.getTotal(), stats.getTotal());
+        assertEquals(expected.getCompleted(), stats.getCompleted());
+        assertEquals(expected.getInProgress(), stats.getInProgress());
+        assertEquals(expected.getOnHold(), stats.getOnHold());
+        assertEquals(expected.getVeryHigh(), stats.getVeryHigh());
+        assertEquals(expected.getHigh(), stats.getHigh());
+        assertEquals(expected.getMiddle(), stats.getMiddle());
+        assertEquals(expected.getLow(), stats.getLow());
+        assertEquals(expected.getVeryLow(), stats.getVeryLow());
+
+        Map<String, Long> expectedCategories = todoRepository.findStatsBucketsByUserId(USER_ID).stream()
+                .collect(Collectors.groupingBy(
+                        bucket -> bucket.getCategory() == null ? "" : bucket.getCategory(),
+                        Collectors.summingLong(bucket -> bucket.getCount())));
+
+        assertEquals(expectedCategories, userTodoStatsService.getCategoryCounts(USER_ID));
+
+//        지연 건수는 통계 조회 시 인덱스 범위로 계산
+        assertEquals(expected.getOverdue(), userTodoStatsService.getAggregate(USER_ID, now, now).getOverdue());
+    }
+}
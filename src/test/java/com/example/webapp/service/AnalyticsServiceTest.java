@@ -0,0 +1,165 @@
+package com.example.webapp.service;
+
+import com.example.webapp.DTO.AnalyticsTrendDTO;
+import com.example.webapp.DTO.DailyTodoCountDTO;
+import com.example.webapp.common.context.UserContext;
+import com.example.webapp.entity.TodoDailyRollup;
+import com.example.webapp.entity.User;
+import com.example.webapp.fixture.ToDoTestFixture;
+import com.example.webapp.repository.TodoDailyCategoryRollupRepository;
+import com.example.webapp.repository.TodoDailyRollupRepository;
+import com.example.webapp.repository.TodoRepository;
+import com.example.webapp.service.impl.AnalyticsServiceImpl;
+import com.example.webapp.service.insight.BestDayInsightProvider;
+import com.example.webapp.service.insight.InsightPipeline;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class AnalyticsServiceTest {
+
+    private User testuser;
+
+    @Mock
+    private TodoRepository todoRepository;
+
+    @Mock
+    private UserTodoStatsService userTodoStatsService;
+
+    @Mock
+    private TodoRollupService todoRollupService;
+
+    @Mock
+    private TodoDailyRollupRepository todoDailyRollupRepository;
+
+    @Mock
+    private TodoDailyCategoryRollupRepository todoDailyCategoryRollupRepository;
+
+    @Mock
+    private InsightPipeline insightPipeline;
+
+    @Mock
+    private BestDayInsightProvider bestDayInsightProvider;
+
+    private LocalDate today;
+
+    @InjectMocks
+    private AnalyticsServiceImpl analyticsService;
+
+    @BeforeEach
+    void setUp() {
+//        테스트 사용자 객체 생성 및 UserContext 주입 (Aspect 대체)
+        testuser = ToDoTestFixture.createTestuser();
+        UserContext.setCurrentUser(testuser);
+
+//        어제까지 일자별 집계가 적재된 상태
+        today = LocalDate.now();
+        lenient().when(todoRollupService.closedBefore()).thenReturn(today);
+    }
+
+    @AfterEach
+    void tearDown() {
+        UserContext.clear();
+    }
+
+    @Test
+    void 완료_추이는_마감_일자는_집계_테이블에서_오늘은_todos_에서_조회하여_누적한다(){
+        // Arrange (준비)
+        when(todoDailyRollupRepository.sumPlannedBefore(testuser.getId(), today.minusDays(6)))
+                .thenReturn(new DailyTodoCountDTO(10L, 5L));
+        when(todoDailyRollupRepository.findRange(testuser.getId(), today.minusDays(6), today))
+                .thenReturn(List.of(
+                        TodoDailyRollup.builder().userId(testuser.getId()).rollupDate(today.minusDays(6)).planned(2).plannedCompleted(1).build(),
+                        TodoDailyRollup.builder().userId(testuser.getId()).rollupDate(today.minusDays(3)).created(3).build()));
+        when(todoRepository.countPlannedPerDay(eq(testuser.getId()), eq(today.atStartOfDay()), any(LocalDateTime.class)))
+                .thenReturn(List.of(new DailyTodoCountDTO(today, 8L, 4L)));
+        when(todoRepository.countCreatedPerDay(eq(testuser.getId()), eq(today.atStartOfDay()), any(LocalDateTime.class)))
+                .thenReturn(List.of());
+
+        // Act (실행)
+        List<AnalyticsTrendDTO> result = analyticsService.getTrend("7d");
+
+        // Assert (검증)
+        assertEquals(7, result.size());
+
+        AnalyticsTrendDTO first = result.getFirst();
+        assertEquals(today.minusDays(6), first.getDate());
+        assertEquals(12, first.getTotal());
+        assertEquals(6, first.getCompleted());
+        assertEquals(50, first.getCompletionRate());
+
+        assertEquals(3, result.get(3).getCreated());
+        assertEquals(12, result.get(3).getTotal());
+
+        AnalyticsTrendDTO last = result.getLast();
+        assertEquals(today, last.getDate());
+        assertEquals(20, last.getTotal());
+        assertEquals(10, last.getCompleted());
+
+        // todos 조회는 마감되지 않은 오늘만 대상으로 함
+        verify(todoRepository, never()).countPlannedBetween(any(), any(), any());
+        verify(todoRepository, times(1)).countPlannedPerDay(eq(testuser.getId()), eq(today.atStartOfDay()), any(LocalDateTime.class));
+        verify(todoRepository, times(1)).countCreatedPerDay(eq(testuser.getId()), eq(today.atStartOfDay()), any(LocalDateTime.class));
+    }
+
+    @Test
+    void 요청한_기간만큼_완료_추이를_생성한다(){
+        // Arrange (준비)
+        when(todoDailyRollupRepository.sumPlannedBefore(eq(testuser.getId()), any(LocalDate.class)))
+                .thenReturn(new DailyTodoCountDTO(0L, null));
+
+        // Act (실행)
+        List<AnalyticsTrendDTO> result = analyticsService.getTrend("365d");
+
+        // Assert (검증)
+        assertEquals(365, result.size());
+        assertEquals(LocalDate.now(), result.getLast().getDate());
+        assertEquals(0, result.getLast().getCompletionRate());
+    }
+
+    @Test
+    void 지원하지_않는_기간은_400을_반환한다(){
+        assertThrows(ResponseStatusException.class, () -> analyticsService.getTrend("2w"));
+        verifyNoInteractions(todoRepository);
+    }
+
+    @Test
+    void 집계가_실행되지_않았으면_전체_기간을_todos_에서_조회한다(){
+        // Arrange (준비)
+        when(todoRollupService.closedBefore()).thenReturn(TodoRollupService.ROLLUP_EPOCH);
+        when(todoDailyRollupRepository.sumPlannedBefore(testuser.getId(), TodoRollupService.ROLLUP_EPOCH))
+                .thenReturn(new DailyTodoCountDTO(null, null));
+        when(todoRepository.countPlannedBetween(testuser.getId(), TodoRollupService.ROLLUP_EPOCH.atStartOfDay(), today.minusDays(6).atStartOfDay()))
+                .thenReturn(new DailyTodoCountDTO(4L, 2L));
+
+        // Act (실행)
+        List<AnalyticsTrendDTO> result = analyticsService.getTrend("7d");
+
+        // Assert (검증)
+        assertEquals(4, result.getFirst().getTotal());
+        assertEquals(50, result.getLast().getCompletionRate());
+        verify(todoRepository).countPlannedPerDay(eq(testuser.getId()), eq(today.minusDays(6).atStartOfDay()), any(LocalDateTime.class));
+    }
+
+    @Test
+    void 최고_작업일_조회_수가_범위를_벗어나면_400을_반환한다(){
+        assertThrows(ResponseStatusException.class, () -> analyticsService.getBestDays(0));
+        assertThrows(ResponseStatusException.class, () -> analyticsService.getBestDays(11));
+        verifyNoInteractions(bestDayInsightProvider);
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.webapp.service;
+
+import com.example.webapp.DTO.CalendarChangesDTO;
+import com.example.webapp.DTO.CalendarDayDTO;
+import com.example.webapp.DTO.CalendarTodoDTO;
+import com.example.webapp.DTO.request.CalendarWatermark;
+import com.example.webapp.common.context.UserContext;
+import com.example.webapp.config.CalendarSyncProperties;
+import com.example.webapp.entity.ToDo;
+import com.example.webapp.entity.User;
+import com.example.webapp.fixture.ToDoTestFixture;
+import com.example.webapp.repository.TodoRepository;
+import com.example.webapp.repository.TodoTombstoneRepository;
+import com.example.webapp.service.impl.CalendarServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CalendarServiceTest {
+
+    private User testuser;
+
+    @Mock
+    private TodoRepository todoRepository;
+
+    @Mock
+    private TodoTombstoneRepository todoTombstoneRepository;
+
+    @Spy
+    private CalendarSyncProperties calendarSyncProperties = new CalendarSyncProperties();
+
+    @InjectMocks
+    private CalendarServiceImpl calendarService;
+
+    @BeforeEach
+    void setUp() {
+//        테스트 사용자 객체 생성 및 UserContext 주입 (Aspect 대체)
+        testuser = ToDoTestFixture.createTestuser();
+        UserContext.setCurrentUser(testuser);
+    }
+
+    @AfterEach
+    void tearDown() {
+        UserContext.clear();
+    }
+
+    @Test
+    void 일자별로_묶고_표시_건수를_넘으면_나머지_건수를_반환한다(){
+        // Arrange (준비)
+        LocalDateTime first = LocalDateTime.of(2025, 10, 1, 9, 0);
+        LocalDateTime second = LocalDateTime.of(2025, 10, 2, 9, 0);
+        when(todoRepository.findCalendarItems(eq(testuser.getId()), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(List.of(
+                        new CalendarTodoDTO(1, "a", ToDo.TaskStatus.IN_PROGRESS, ToDo.TaskPriority.HIGH, first),
+                        new CalendarTodoDTO(2, "b", ToDo.TaskStatus.IN_PROGRESS, ToDo.TaskPriority.MIDDLE, first),
+                        new CalendarTodoDTO(3, "c", ToDo.TaskStatus.COMPLETE, ToDo.TaskPriority.LOW, first),
+                        new CalendarTodoDTO(4, "d", ToDo.TaskStatus.IN_PROGRESS, ToDo.TaskPriority.HIGH, second)));
+
+        // Act (실행)
+        List<CalendarDayDTO> result = calendarService.getCalendarDays(LocalDate.of(2025, 10, 1), LocalDate.of(2025, 10, 31), 2);
+
+        // Assert (검증)
+        assertEquals(2, result.size());
+
+        CalendarDayDTO day = result.getFirst();
+        assertEquals(LocalDate.of(2025, 10, 1), day.getDate());
+        assertEquals(3, day.getTotal());
+        assertEquals(2, day.getTodos().size());
+        assertEquals(1, day.getMore());
+
+        assertEquals(0, result.get(1).getMore());
+    }
+
+    @Test
+    void 최대_기간을_넘으면_400을_반환한다(){
+        assertThrows(ResponseStatusException.class,
+                () -> calendarService.getCalendarDays(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 3, 31), 3));
+        verifyNoInteractions(todoRepository);
+    }
+
+    @Test
+    void 워터마크_이후_변경분과_삭제된_ID를_반환한다(){
+        // Arrange (준비)
+        LocalDateTime since = LocalDateTime.now().minusHours(1);
+        when(todoRepository.findCalendarChangesSince(eq(testuser.getId()), eq(since), any(Pageable.class)))
+                .thenReturn(List.of(new CalendarTodoDTO(1, "a", ToDo.TaskStatus.COMPLETE, ToDo.TaskPriority.HIGH, since.plusDays(1))));
+        when(todoTombstoneRepository.findDeletedIdsSince(eq(testuser.getId()), eq(since), any(Pageable.class)))
+                .thenReturn(List.of(7, 8));
+
+        // Act (실행)
+        CalendarChangesDTO result = calendarService.getChanges(new CalendarWatermark(since).encode());
+
+        // Assert (검증)
+        assertFalse(result.isFullResync());
+        assertEquals(1, result.getChanged().size());
+        assertEquals(List.of(7, 8), result.getDeleted());
+        assertTrue(CalendarWatermark.decode(result.getWatermark()).getSince().isAfter(since));
+    }
+
+    @Test
+    void 최초_동기화나_보관기간이_지난_워터마크는_전체_재동기화를_안내한다(){
+        // Act (실행)
+        CalendarChangesDTO first = calendarService.getChanges(null);
+        CalendarChangesDTO expired = calendarService.getChanges(
+                new CalendarWatermark(LocalDateTime.now().minusDays(31)).encode());
+
+        // Assert (검증)
+        assertTrue(first.isFullResync());
+        assertNotNull(first.getWatermark());
+        assertTrue(expired.isFullResync());
+        verifyNoInteractions(todoRepository, todoTombstoneRepository);
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.webapp.service;
+
+import com.example.webapp.DTO.CursorPageDTO;
+import com.example.webapp.DTO.ToDoResponseDTO;
+import com.example.webapp.DTO.TodoAggregateDTO;
+import com.example.webapp.DTO.TodoStats;
+import com.example.webapp.DTO.request.TodoCursor;
+import com.example.webapp.DTO.request.TodoCursorSort;
+import com.example.webapp.common.context.DayBoundaries;
+import com.example.webapp.common.context.UserClock;
+import com.example.webapp.common.context.UserContext;
+import com.example.webapp.entity.ToDo;
+import com.example.webapp.entity.User;
+import com.example.webapp.fixture.ToDoTestFixture;
+import com.example.webapp.repository.TodoRepository;
+import com.example.webapp.service.impl.DashBoardServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class DashBoardServiceTest {
+
+    private User testuser;
+
+    private DayBoundaries today;
+
+    @Mock
+    private TodoRepository todoRepository;
+
+    @Mock
+    private UserClock userClock;
+
+    @Mock
+    private UserTodoStatsService userTodoStatsService;
+
+    @InjectMocks
+    private DashBoardServiceImpl dashBoardService;
+
+    @BeforeEach
+    void setUp() {
+//        테스트 사용자 객체 생성 및 UserContext 주입 (Aspect 대체)
+        testuser = ToDoTestFixture.createTestuser();
+        UserContext.setCurrentUser(testuser);
+
+        today = DayBoundaries.of(ZoneId.of("America/New_York"));
+        lenient().when(userClock.today()).thenReturn(today);
+    }
+
+    @AfterEach
+    void tearDown() {
+        UserContext.clear();
+    }
+
+    @Test
+    void 할_일_통계는_통계_테이블에서_조회한다(){
+        // Arrange (준비)
+        TodoAggregateDTO aggregate = TodoAggregateDTO.builder()
+                .total(4)
+                .completed(1)
+                .inProgress(2)
+                .onHold(1)
+                .build();
+        when(userTodoStatsService.getAggregate(eq(testuser.getId()), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(aggregate);
+
+        // Act (실행)
+        TodoStats result = dashBoardService.getTaskStatus();
+
+        // Assert (검증)
+        assertEquals(4, result.getTotal());
+        assertEquals(1, result.getCompleted());
+        assertEquals(2, result.getInprogress());
+        assertEquals(1, result.getPending());
+        assertEquals(25, result.getCompletionRate());
+
+        // todos 집계 쿼리는 실행하지 않음
+        verify(userTodoStatsService, times(1)).getAggregate(testuser.getId(), today.getNow(), today.getStartOfDay());
+        verifyNoInteractions(todoRepository);
+    }
+
+    @Test
+    void 오늘_할_일은_사용자_시간대의_하루_범위로_조회한다(){
+        // Arrange (준비)
+        List<ToDoResponseDTO> expected = ToDoTestFixture.createTestTodoList(testuser).stream()
+                .map(ToDoResponseDTO :: from)
+                .toList();
+        when(todoRepository.findTodayResponses(testuser.getId(), today.getStartOfDay(), today.getEndOfDay()))
+                .thenReturn(expected);
+
+        // Act (실행)
+        List<ToDoResponseDTO> result = dashBoardService.findTodayToDoList();
+
+        // Assert (검증)
+        assertEquals(expected, result);
+        assertEquals(today.getToday(), today.getStartOfDay().toLocalDate());
+        assertEquals(today.getToday(), today.getEndOfDay().toLocalDate());
+
+        // 엔티티 조회 경로는 사용하지 않음
+        verify(todoRepository, never()).findByUserAndPlanningDateBetween(any(), any(), any());
+    }
+
+    @Test
+    void 할_일이_없으면_완료율은_0이다(){
+        // Arrange (준비)
+        when(userTodoStatsService.getAggregate(eq(testuser.getId()), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(new TodoAggregateDTO());
+
+        // Act (실행)
+        TodoStats result = dashBoardService.getTaskStatus();
+
+        // Assert (검증)
+        assertEquals(0, result.getTotal());
+        assertEquals(0, result.getCompletionRate());
+    }
+
+    @Test
+    void 지연_목록은_한_건을_더_조회하여_다음_커서와_전체_건수를_반환한다(){
+        // Arrange (준비)
+        List<ToDo> overdue = ToDoTestFixture.createTestTodoList(testuser);
+        when(todoRepository.findOverduePageAfter(eq(testuser.getId()), eq(today.getStartOfDay()), isNull(), eq(3)))
+                .thenReturn(overdue);
+        when(todoRepository.countOverdue(eq(testuser.getId()), anyList(), any(LocalDateTime.class)))
+                .thenReturn(7L);
+
+        // Act (실행)
+        CursorPageDTO<ToDoResponseDTO> result = dashBoardService.findOverdueToDoList(null, 2);
+
+        // Assert (검증)
+        assertTrue(result.isHasNext());
+        assertEquals(2, result.getContent().size());
+        assertEquals(7L, result.getTotal());
+
+        TodoCursor next = TodoCursor.decode(result.getNextCursor(), TodoCursorSort.PLANNING_DATE);
+        assertEquals(overdue.get(1).getId(), next.getId());
+    }
+}
@@ -1,30 +1,52 @@
 package com.example.webapp.service;
 
 import com.example.jwt.Repository.UserRepository;
+import com.example.webapp.DTO.CursorPageDTO;
 import com.example.webapp.DTO.ToDoResponseDTO;
+import com.example.webapp.DTO.TodoStatsBucketDTO;
+import com.example.webapp.DTO.TodoStatsDelta;
+import com.example.webapp.DTO.request.BulkUpdateRequest;
+import com.example.webapp.DTO.request.TodoCursor;
+import com.example.webapp.DTO.request.TodoCursorSort;
+import com.example.webapp.common.cache.UserDataVersionRegistry;
+import com.example.webapp.common.context.UserContext;
 import com.example.webapp.entity.Role;
 import com.example.webapp.entity.ToDo;
 import com.example.webapp.entity.User;
 import com.example.webapp.fixture.ToDoTestFixture;
 import com.example.webapp.repository.TodoRepository;
+import com.example.webapp.repository.TodoTombstoneRepository;
 import com.example.webapp.service.impl.ToDoServiceImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.jsonwebtoken.lang.Assert;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,6 +60,18 @@ public class ToDoServiceTest {
     @Mock
     private TodoRepository todoRepository;
 
+    @Mock
+    private TodoTombstoneRepository todoTombstoneRepository;
+
+    @Mock
+    private UserDataVersionRegistry userDataVersionRegistry;
+
+    @Mock
+    private UserTodoStatsService userTodoStatsService;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
     @InjectMocks
     private ToDoServiceImpl toDoService;
 
@@ -64,6 +98,13 @@ public class ToDoServiceTest {
         System.out.println("==============================================");
         System.out.println("테스트 데이터 준비 완료.");
 
+//        UserContext 주입 (Aspect 대체)
+        UserContext.setCurrentUser(testuser);
+    }
+
+    @AfterEach
+    void tearDown() {
+        UserContext.clear();
     }
 
     @Test
@@ -93,4 +134,224 @@ public class ToDoServiceTest {
     }
 
 
+    @Test
+    void 커서_조회는_한_건을_더_조회하여_다음_커서를_생성한다(){
+        // Arrange (준비)
+        when(todoRepository.findPageAfter(eq(testuser.getId()), eq(TodoCursorSort.PLANNING_DATE), isNull(), eq(3)))
+                .thenReturn(testToDoList);
+
+        // Act (실행)
+        CursorPageDTO<ToDoResponseDTO> result = toDoService.findTodoListByCursor(null, 2, "planningDate");
+
+        // Assert (검증)
+        assertTrue(result.isHasNext());
+        assertEquals(2, result.getContent().size());
+
+        TodoCursor next = TodoCursor.decode(result.getNextCursor(), TodoCursorSort.PLANNING_DATE);
+        ToDo last = testToDoList.get(1);
+        assertEquals(last.getId(), next.getId());
+        assertEquals(last.getPlanningDate(), next.getKey());
+    }
+
+    @Test
+    void 마지막_페이지는_다음_커서가_없다(){
+        // Arrange (준비)
+        when(todoRepository.findPageAfter(eq(testuser.getId()), eq(TodoCursorSort.CREATED_AT), any(), eq(21)))
+                .thenReturn(testToDoList);
+
+        // Act (실행)
+        CursorPageDTO<ToDoResponseDTO> result = toDoService.findTodoListByCursor(null, 20, "createdAt");
+
+        // Assert (검증)
+        assertFalse(result.isHasNext());
+        assertNull(result.getNextCursor());
+        assertEquals(testToDoList.size(), result.getContent().size());
+    }
+
+    @Test
+    void 정렬_기준이_다른_커서는_400을_반환한다(){
+        String cursor = new TodoCursor(TodoCursorSort.CREATED_AT, LocalDateTime.now(), 1).encode();
+
+        assertThrows(ResponseStatusException.class,
+                () -> toDoService.findTodoListByCursor(cursor, 20, "planningDate"));
+        verifyNoInteractions(todoRepository);
+    }
+
+    @Test
+    void 상태_일괄_변경은_단일_UPDATE로_처리한다(){
+        // Arrange (준비)
+        BulkUpdateRequest request = new BulkUpdateRequest();
+        request.setId(List.of(1, 2, 3, 3));
+        request.setStatus(ToDo.TaskStatus.COMPLETE);
+
+        List<ToDoResponseDTO> responses = testToDoList.stream().map(ToDoResponseDTO::from).toList();
+        when(todoRepository.updateStatusByIdsAndUserId(eq(List.of(1, 2, 3)), eq(testuser.getId()),
+                eq(ToDo.TaskStatus.COMPLETE), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(3);
+        when(todoRepository.findResponsesByIdsAndUserId(List.of(1, 2, 3), testuser.getId())).thenReturn(responses);
+
+        // Act (실행)
+        List<ToDoResponseDTO> result = toDoService.bulkUpdate(request);
+
+        // Assert (검증)
+        assertEquals(3, result.size());
+        verify(todoRepository, never()).findAllById(any());
+    }
+
+    @Test
+    void 상태_변경은_변경_전_상태를_빼고_새_상태를_통계에_더한다(){
+        // Arrange (준비)
+        when(todoRepository.findStatsBucketsByIds(List.of(1), testuser.getId()))
+                .thenReturn(List.of(new TodoStatsBucketDTO(ToDo.TaskStatus.IN_PROGRESS, ToDo.TaskPriority.HIGH, "업무", 1L)));
+        when(todoRepository.updateStatusByIdAndUserId(eq(1), eq(testuser.getId()), eq(ToDo.TaskStatus.COMPLETE),
+                any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(1);
+        ArgumentCaptor<TodoStatsDelta> captor = ArgumentCaptor.forClass(TodoStatsDelta.class);
+
+        // Act (실행)
+        toDoService.UpdateStatus(1, testuser.getId(), ToDo.TaskStatus.COMPLETE);
+
+        // Assert (검증)
+        verify(userTodoStatsService).apply(eq(testuser.getId()), captor.capture());
+        TodoStatsDelta delta = captor.getValue();
+        assertEquals(0, delta.getTotal());
+        assertEquals(1, delta.getCompleted());
+        assertEquals(-1, delta.getInProgress());
+        assertEquals(0, delta.getHigh());
+        assertEquals(0L, delta.getCategories().get("업무"));
+    }
+
+    @Test
+    void 다른_사용자의_할_일이_포함되면_일괄_변경을_거부한다(){
+        // Arrange (준비)
+        BulkUpdateRequest request = new BulkUpdateRequest();
+        request.setId(List.of(1, 2));
+        request.setStatus(ToDo.TaskStatus.IN_PROGRESS);
+
+        when(todoRepository.updateStatusByIdsAndUserId(eq(List.of(1, 2)), eq(testuser.getId()),
+                eq(ToDo.TaskStatus.IN_PROGRESS), isNull(), any(LocalDateTime.class)))
+                .thenReturn(1);
+
+        // Act & Assert (실행 및 검증)
+        assertThrows(AccessDeniedException.class, () -> toDoService.bulkUpdate(request));
+        verify(todoRepository, never()).findResponsesByIdsAndUserId(any(), any());
+    }
+
+    @Test
+    void 일괄_삭제는_청크_단위_DELETE로_처리한다(){
+        // Arrange (준비)
+        List<Integer> ids = IntStream.rangeClosed(1, 2500).boxed().toList();
+        when(todoRepository.deleteByIdsAndUserId(anyList(), eq(testuser.getId())))
+                .thenAnswer(invocation -> invocation.<List<Integer>>getArgument(0).size());
+
+        // Act (실행)
+        boolean result = toDoService.bulkDelete(ids);
+
+        // Assert (검증)
+        assertTrue(result);
+        verify(todoRepository, times(3)).deleteByIdsAndUserId(anyList(), eq(testuser.getId()));
+        verify(todoTombstoneRepository, times(3)).insertForOwnedTodos(anyList(), eq(testuser.getId()), any(LocalDateTime.class));
+        verify(todoRepository, never()).findAllById(any());
+    }
+
+    @Test
+    void 삭제된_행_수가_다르면_일괄_삭제를_거부한다(){
+        // Arrange (준비)
+        when(todoRepository.deleteByIdsAndUserId(List.of(1, 2), testuser.getId())).thenReturn(1);
+
+        // Act & Assert (실행 및 검증)
+        assertThrows(AccessDeniedException.class, () -> toDoService.bulkDelete(List.of(1, 2)));
+    }
+
+    @Test
+    void 상세_조회는_소유자_조건으로_한_번만_조회한다(){
+        // Arrange (준비)
+        ToDo todo = testToDoList.getFirst();
+        when(todoRepository.findByIdAndUserId(todo.getId(), testuser.getId())).thenReturn(Optional.of(todo));
+
+        // Act (실행)
+        ToDoResponseDTO result = toDoService.findTodoById(todo.getId(), testuser.getId());
+
+        // Assert (검증)
+        assertEquals(todo.getTitle(), result.getTitle());
+        verify(todoRepository, times(1)).findByIdAndUserId(todo.getId(), testuser.getId());
+        verifyNoMoreInteractions(todoRepository);
+    }
+
+    @Test
+    void 다른_사용자의_할_일은_상세_조회할_수_없다(){
+        // Arrange (준비)
+        when(todoRepository.findByIdAndUserId(1, testuser.getId())).thenReturn(Optional.empty());
+
+        // Act & Assert (실행 및 검증)
+        assertThrows(AccessDeniedException.class, () -> toDoService.findTodoById(1, testuser.getId()));
+    }
+
+    @Test
+    void 상태_변경은_소유자_조건의_단일_UPDATE로_처리한다(){
+        // Arrange (준비)
+        when(todoRepository.updateStatusByIdAndUserId(eq(1), eq(testuser.getId()), eq(ToDo.TaskStatus.COMPLETE),
+                any(LocalDateTime.class), any(LocalDateTime.class))).thenReturn(1);
+
+        // Act (실행)
+        ToDo.TaskStatus result = toDoService.UpdateStatus(1, testuser.getId(), ToDo.TaskStatus.COMPLETE);
+
+        // Assert (검증)
+        assertEquals(ToDo.TaskStatus.COMPLETE, result);
+        verify(todoRepository, never()).findByIdAndUserId(any(), any());
+        verify(userDataVersionRegistry, times(1)).bump(testuser.getId());
+    }
+
+    @Test
+    void 다른_사용자의_할_일은_삭제할_수_없다(){
+        // Arrange (준비)
+        when(todoRepository.deleteByIdAndUserId(1, testuser.getId())).thenReturn(0);
+
+        // Act & Assert (실행 및 검증)
+        assertThrows(AccessDeniedException.class, () -> toDoService.DeleteTodo(1, testuser.getId()));
+    }
+
+    @Test
+    void 부분_수정은_전달된_필드만_반영한다(){
+        // Arrange (준비)
+        ToDo todo = testToDoList.getFirst();
+        todo.setVersion(3L);
+        String originalTitle = todo.getTitle();
+        ToDo.TaskPriority originalPriority = todo.getTaskPriority();
+        when(todoRepository.findByIdAndUserId(todo.getId(), testuser.getId())).thenReturn(Optional.of(todo));
+
+        ObjectNode patch = objectMapper.createObjectNode();
+        patch.put("memo", "수정된 메모");
+        patch.putNull("category");
+
+        // Act (실행)
+        ToDoResponseDTO result = toDoService.UpdateToDo(todo.getId(), testuser.getId(), patch, 3L);
+
+        // Assert (검증)
+        assertEquals("수정된 메모", result.getMemo());
+        assertNull(result.getCategory());
+        assertEquals(originalTitle, result.getTitle());
+        assertEquals(originalPriority, result.getTaskPriority());
+        verify(todoRepository, times(1)).flush();
+    }
+
+    @Test
+    void If_Match_버전이_다르면_412를_반환한다(){
+        // Arrange (준비)
+        ToDo todo = testToDoList.getFirst();
+        todo.setVersion(4L);
+        when(todoRepository.findByIdAndUserId(todo.getId(), testuser.getId())).thenReturn(Optional.of(todo));
+
+        ObjectNode patch = objectMapper.createObjectNode();
+        patch.put("title", "새 제목");
+
+        // Act (실행)
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+                () -> toDoService.UpdateToDo(todo.getId(), testuser.getId(), patch, 3L));
+
+        // Assert (검증)
+        assertEquals(412, exception.getStatusCode().value());
+        verify(todoRepository, never()).flush();
+    }
+
 }
@@ -0,0 +1,184 @@
+package com.example.webapp.service;
+
+import com.example.webapp.DTO.TodoImportResultDTO;
+import com.example.webapp.DTO.request.TodoTransferFormat;
+import com.example.webapp.common.cache.UserDataVersionRegistry;
+import com.example.webapp.entity.ToDo;
+import com.example.webapp.entity.User;
+import com.example.webapp.fixture.ToDoTestFixture;
+import com.example.webapp.repository.TodoRepository;
+import com.example.webapp.service.impl.TodoTransferServiceImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TodoTransferServiceTest {
+
+    private User testuser;
+    private List<ToDo> testToDoList;
+
+    @Mock
+    private TodoRepository todoRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private UserDataVersionRegistry userDataVersionRegistry;
+
+    @Mock
+    private UserTodoStatsService userTodoStatsService;
+
+    private TodoTransferServiceImpl todoTransferService;
+
+    @BeforeEach
+    void setUp() {
+        testuser = ToDoTestFixture.createTestuser();
+        testToDoList = ToDoTestFixture.createTestTodoList(testuser);
+
+        todoTransferService = new TodoTransferServiceImpl(todoRepository, new ObjectMapper(), transactionTemplate, userDataVersionRegistry, userTodoStatsService);
+        ReflectionTestUtils.setField(todoTransferService, "entityManager", entityManager);
+    }
+
+    @Test
+    void NDJSON_내보내기는_한_줄에_한_건씩_기록하고_엔티티를_분리한다() throws Exception {
+        // Arrange (준비)
+        when(todoRepository.streamByUserId(testuser.getId())).thenReturn(testToDoList.stream());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act (실행)
+        long count = todoTransferService.exportTodos(testuser.getId(), TodoTransferFormat.NDJSON, out);
+
+        // Assert (검증)
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(testToDoList.size(), count);
+        assertEquals(testToDoList.size(), lines.length);
+        assertTrue(lines[0].startsWith("{") && lines[0].contains("\"title\":\"마트 다녀오기\""));
+
+        verify(entityManager, times(testToDoList.size())).detach(any(ToDo.class));
+    }
+
+    @Test
+    void CSV_내보내기는_헤더와_이스케이프된_값을_기록한다() throws Exception {
+        // Arrange (준비)
+        ToDo todo = ToDoTestFixture.createToDo(testuser);
+        todo.setMemo("우유, \"저지방\"");
+        when(todoRepository.streamByUserId(testuser.getId())).thenReturn(List.of(todo).stream());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act (실행)
+        todoTransferService.exportTodos(testuser.getId(), TodoTransferFormat.CSV, out);
+
+        // Assert (검증)
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("id,title,memo"));
+        assertTrue(lines[1].startsWith("1,마트 다녀오기,\"우유, \"\"저지방\"\"\",HIGH,IN_PROGRESS,생활,"));
+    }
+
+    @Test
+    void NDJSON_가져오기는_잘못된_행을_건너뛰고_나머지를_저장한다() throws Exception {
+        // Arrange (준비)
+        mockTransaction();
+        String body = """
+                {"title":"마트 다녀오기","priority":"HIGH","targetDate":"2025-09-16T14:30:00.000Z"}
+                {"title":
+                {"memo":"제목 없음"}
+
+                {"title":"운동하기","taskStatus":"COMPLETE","category":"건강"}
+                """;
+
+        // Act (실행)
+        TodoImportResultDTO result = todoTransferService.importTodos(
+                testuser.getId(), TodoTransferFormat.NDJSON, new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+
+        // Assert (검증)
+        assertEquals(4, result.getTotalRows());
+        assertEquals(2, result.getImported());
+        assertEquals(2, result.getFailed());
+        assertEquals(List.of(2L, 3L), result.getErrors().stream().map(TodoImportResultDTO.RowError::getRow).toList());
+
+        assertEquals(1, result.getChunks().size());
+        assertTrue(result.getChunks().getFirst().isCommitted());
+
+        verify(entityManager, times(2)).persist(any(ToDo.class));
+        verify(entityManager, times(1)).flush();
+        verify(entityManager, times(1)).clear();
+    }
+
+    @Test
+    void CSV_가져오기는_내보내기_형식과_따옴표_값을_해석한다() throws Exception {
+        // Arrange (준비)
+        mockTransaction();
+        String body = "id,title,memo,taskPriority,taskStatus,category,planningDate,doneAt,createdAt\n"
+                + "1,마트 다녀오기,\"우유, \"\"저지방\"\"\n두부\",HIGH,IN_PROGRESS,생활,2025-09-16T14:30,,\n"
+                + "2,운동하기,,LOUD,IN_PROGRESS,건강,,,\n";
+
+        // Act (실행)
+        TodoImportResultDTO result = todoTransferService.importTodos(
+                testuser.getId(), TodoTransferFormat.CSV, new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+
+        // Assert (검증)
+        assertEquals(2, result.getTotalRows());
+        assertEquals(1, result.getImported());
+        assertEquals(2L, result.getErrors().getFirst().getRow());
+
+        verify(entityManager).persist(argThat((ToDo todo) ->
+                "우유, \"저지방\"\n두부".equals(todo.getMemo())
+                        && todo.getTaskPriority() == ToDo.TaskPriority.HIGH
+                        && todo.getPlanningDate() != null));
+    }
+
+    @Test
+    void 카테고리가_너무_긴_행만_건너뛰고_같은_묶음의_나머지는_저장한다() throws Exception {
+        // Arrange (준비)
+        mockTransaction();
+        String body = "{\"title\":\"마트 다녀오기\",\"category\":\"생활\"}\n"
+                + "{\"title\":\"긴 카테고리\",\"category\":\"" + "가".repeat(256) + "\"}\n"
+                + "{\"title\":\"운동하기\",\"category\":\"건강\"}\n";
+
+        // Act (실행)
+        TodoImportResultDTO result = todoTransferService.importTodos(
+                testuser.getId(), TodoTransferFormat.NDJSON, new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+
+        // Assert (검증)
+        assertEquals(3, result.getTotalRows());
+        assertEquals(2, result.getImported());
+        assertEquals(List.of(2L), result.getErrors().stream().map(TodoImportResultDTO.RowError::getRow).toList());
+        assertTrue(result.getChunks().getFirst().isCommitted());
+
+        verify(entityManager, times(2)).persist(any(ToDo.class));
+    }
+
+    /**
+     * TransactionTemplate 이 전달받은 작업을 즉시 실행하도록 설정
+     */
+    @SuppressWarnings("unchecked")
+    private void mockTransaction() {
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+}
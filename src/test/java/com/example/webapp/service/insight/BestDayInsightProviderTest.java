@@ -0,0 +1,97 @@
+package com.example.webapp.service.insight;
+
+import com.example.webapp.DTO.BestProducibilityDateDTO;
+import com.example.webapp.DTO.DailyTodoCountDTO;
+import com.example.webapp.DTO.InsightDTO;
+import com.example.webapp.entity.TodoDailyRollup;
+import com.example.webapp.entity.User;
+import com.example.webapp.fixture.ToDoTestFixture;
+import com.example.webapp.repository.TodoDailyRollupRepository;
+import com.example.webapp.repository.TodoRepository;
+import com.example.webapp.service.TodoRollupService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class BestDayInsightProviderTest {
+
+    private User testuser;
+
+    private LocalDate today;
+
+    @Mock
+    private TodoRepository todoRepository;
+
+    @Mock
+    private TodoRollupService todoRollupService;
+
+    @Mock
+    private TodoDailyRollupRepository todoDailyRollupRepository;
+
+    @InjectMocks
+    private BestDayInsightProvider bestDayInsightProvider;
+
+    @BeforeEach
+    void setUp() {
+        testuser = ToDoTestFixture.createTestuser();
+
+//        어제까지 일자별 집계가 적재된 상태
+        today = LocalDate.now();
+        lenient().when(todoRollupService.closedBefore()).thenReturn(today);
+    }
+
+    @Test
+    void 최고_작업일은_최소_예정_수_미만을_제외하고_완료율_완료_수_최근_일자_순으로_반환한다(){
+        // Arrange (준비)
+        when(todoDailyRollupRepository.findBestDays(eq(testuser.getId()), eq(3L), any()))
+                .thenReturn(List.of(
+                        TodoDailyRollup.builder().userId(testuser.getId()).rollupDate(today.minusDays(5)).planned(4).plannedCompleted(4).build(),
+                        TodoDailyRollup.builder().userId(testuser.getId()).rollupDate(today.minusDays(2)).planned(4).plannedCompleted(3).build(),
+                        TodoDailyRollup.builder().userId(testuser.getId()).rollupDate(today.minusDays(9)).planned(4).plannedCompleted(3).build()));
+        when(todoRepository.countPlannedPerDay(eq(testuser.getId()), eq(today.atStartOfDay()), any(LocalDateTime.class)))
+                .thenReturn(List.of(new DailyTodoCountDTO(today, 2L, 2L)));
+
+        // Act (실행)
+        List<BestProducibilityDateDTO> result = bestDayInsightProvider.findBestDays(testuser.getId(), 3);
+
+        // Assert (검증)
+        assertEquals(3, result.size());
+        assertEquals(today.minusDays(5), result.get(0).getDate());
+        assertEquals(100L, result.get(0).getProgress());
+
+//        완료율, 완료 수가 같으면 최근 일자 우선
+        assertEquals(today.minusDays(2), result.get(1).getDate());
+        assertEquals(today.minusDays(9), result.get(2).getDate());
+        assertEquals(75L, result.get(2).getProgress());
+
+//        예정 2건인 오늘은 100% 이지만 후보에서 제외
+        assertTrue(result.stream().noneMatch(day -> day.getDate().equals(today)));
+    }
+
+    @Test
+    void 후보_일자가_없으면_인사이트를_반환하지_않는다(){
+        // Arrange (준비)
+        when(todoDailyRollupRepository.findBestDays(eq(testuser.getId()), eq(3L), any())).thenReturn(List.of());
+        when(todoRepository.countPlannedPerDay(eq(testuser.getId()), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(List.of());
+
+        // Act (실행)
+        List<InsightDTO> result = bestDayInsightProvider.provide(testuser);
+
+        // Assert (검증)
+        assertTrue(result.isEmpty());
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.webapp.service.insight;
+
+import com.example.webapp.DTO.InsightDTO;
+import com.example.webapp.config.InsightProperties;
+import com.example.webapp.entity.User;
+import com.example.webapp.fixture.ToDoTestFixture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class InsightPipelineTest {
+
+    private User testuser;
+
+    private ExecutorService executor;
+
+    private InsightProperties insightProperties;
+
+    @BeforeEach
+    void setUp() {
+        testuser = ToDoTestFixture.createTestuser();
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+
+        insightProperties = new InsightProperties();
+        insightProperties.setProviderTimeout(Duration.ofMillis(300));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.close();
+    }
+
+    @Test
+    void 제공자는_동시에_실행되고_결과는_제공자_순서로_병합된다(){
+        // Arrange (준비)
+        InsightPipeline pipeline = new InsightPipeline(List.of(
+                provider("first", user -> sleepThen(200, insight("first"))),
+                provider("second", user -> sleepThen(200, insight("second")))
+        ), executor, insightProperties);
+
+        // Act (실행)
+        long start = System.nanoTime();
+        List<InsightDTO> result = pipeline.collect(testuser);
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        // Assert (검증)
+        assertEquals(List.of("first", "second"), result.stream().map(InsightDTO::getTitle).toList());
+
+        // 순차 실행이면 400ms 이상 소요
+        assertTrue(elapsedMillis < 400, "제공자가 동시에 실행되지 않았습니다. 소요 시간: " + elapsedMillis + "ms");
+    }
+
+    @Test
+    void 실패하거나_제한_시간을_넘긴_제공자는_제외하고_나머지_결과를_반환한다(){
+        // Arrange (준비)
+        InsightPipeline pipeline = new InsightPipeline(List.of(
+                provider("failed", user -> { throw new IllegalStateException("조회 실패"); }),
+                provider("slow", user -> sleepThen(5_000, insight("slow"))),
+                provider("empty", user -> null),
+                provider("ok", user -> insight("ok"))
+        ), executor, insightProperties);
+
+        // Act (실행)
+        List<InsightDTO> result = pipeline.collect(testuser);
+
+        // Assert (검증)
+        assertEquals(List.of("ok"), result.stream().map(InsightDTO::getTitle).toList());
+    }
+
+    private static List<InsightDTO> insight(String title){
+        return List.of(new InsightDTO("positive", title, title));
+    }
+
+    private static List<InsightDTO> sleepThen(long millis, List<InsightDTO> result){
+        try{
+            Thread.sleep(millis);
+        }catch (InterruptedException e){
+            Thread.currentThread().interrupt();
+        }
+        return result;
+    }
+
+    private static InsightProvider provider(String name, Function<User, List<InsightDTO>> body){
+        return new InsightProvider() {
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public List<InsightDTO> provide(User user) {
+                return body.apply(user);
+            }
+        };
+    }
+}